@@ -0,0 +1,22 @@
+package benchmarks;
+
+/**
+ * Payload stored in the benchmarked lists. Elements are created during setup so that measurements
+ * only include the list's own allocations.
+ */
+public enum ElementType {
+    STRING {
+        @Override
+        Object create(int value) {
+            return "element-" + value;
+        }
+    },
+    INTEGER {
+        @Override
+        Object create(int value) {
+            return value;
+        }
+    };
+
+    abstract Object create(int value);
+}
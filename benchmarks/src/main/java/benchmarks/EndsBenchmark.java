@@ -0,0 +1,56 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code addEngine} and {@code addCaboose}, each paired with the matching removal so the list size stays
+ * fixed, plus a queue pattern that adds at the tail and removes at the head.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EndsBenchmark {
+
+    @State(Scope.Thread)
+    public static class Ends extends ListState {
+        @Param({"DOUBLY_LINKED_LIST", "POOLED_DOUBLY_LINKED_LIST", "INDEXED_DOUBLY_LINKED_LIST", "UNROLLED_DOUBLY_LINKED_LIST",
+                "ARRAY_BACKED_DOUBLY_LINKED_LIST", "JAVA_LINKED_LIST", "ARRAY_DEQUE"})
+        Implementation implementation;
+
+        @Override
+        Implementation implementation() {
+            return implementation;
+        }
+    }
+
+    @Benchmark
+    public void addEngine(Ends state) {
+        state.list.addHead(state.nextElement());
+        state.list.removeHead();
+    }
+
+    @Benchmark
+    public void addCaboose(Ends state) {
+        state.list.addTail(state.nextElement());
+        state.list.removeTail();
+    }
+
+    @Benchmark
+    public void queue(Ends state) {
+        state.list.addTail(state.nextElement());
+        state.list.removeHead();
+    }
+}
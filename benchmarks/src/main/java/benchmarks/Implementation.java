@@ -0,0 +1,281 @@
+package benchmarks;
+
+import data.ArrayBackedDoublyLinkedList;
+import data.DoublyLinkedList;
+import data.Node;
+import data.NodePool;
+import data.UnrolledDoublyLinkedList;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedList;
+
+/**
+ * The list implementations under comparison, including the {@code java.util} baselines.
+ */
+public enum Implementation {
+    DOUBLY_LINKED_LIST {
+        @Override
+        ListUnderTest create() {
+            return new DoublyLinkedListUnderTest(new DoublyLinkedList());
+        }
+    },
+    POOLED_DOUBLY_LINKED_LIST {
+        @Override
+        ListUnderTest create() {
+            DoublyLinkedList list = new DoublyLinkedList();
+            list.setNodePool(new NodePool(1024));
+            return new DoublyLinkedListUnderTest(list);
+        }
+    },
+    INDEXED_DOUBLY_LINKED_LIST {
+        @Override
+        ListUnderTest create() {
+            return new DoublyLinkedListUnderTest(DoublyLinkedList.indexed());
+        }
+    },
+    UNROLLED_DOUBLY_LINKED_LIST {
+        @Override
+        ListUnderTest create() {
+            UnrolledDoublyLinkedList list = new UnrolledDoublyLinkedList();
+            return new ListUnderTest() {
+                @Override
+                public void addHead(Object data) {
+                    list.addEngine(data);
+                }
+
+                @Override
+                public void addTail(Object data) {
+                    list.addCaboose(data);
+                }
+
+                @Override
+                public void addAt(Object data, int index) {
+                    list.addNodeAtIndex(data, index);
+                }
+
+                @Override
+                public void removeHead() {
+                    list.removeHeadNode();
+                }
+
+                @Override
+                public void removeTail() {
+                    list.removeTailNode();
+                }
+
+                @Override
+                public void removeAt(int index) {
+                    list.removeNodeAtIndex(index);
+                }
+
+                @Override
+                public Object get(int index) {
+                    return list.getDataAtIndex(index);
+                }
+
+                @Override
+                public String render() {
+                    return list.asString();
+                }
+
+                @Override
+                public void iterate(Blackhole blackhole) {
+                    list.forEach(blackhole::consume);
+                }
+            };
+        }
+    },
+    ARRAY_BACKED_DOUBLY_LINKED_LIST {
+        @Override
+        ListUnderTest create() {
+            ArrayBackedDoublyLinkedList list = new ArrayBackedDoublyLinkedList();
+            return new ListUnderTest() {
+                @Override
+                public void addHead(Object data) {
+                    list.addEngine(data);
+                }
+
+                @Override
+                public void addTail(Object data) {
+                    list.addCaboose(data);
+                }
+
+                @Override
+                public void addAt(Object data, int index) {
+                    list.addNodeAtIndex(data, index);
+                }
+
+                @Override
+                public void removeHead() {
+                    list.removeHeadNode();
+                }
+
+                @Override
+                public void removeTail() {
+                    list.removeTailNode();
+                }
+
+                @Override
+                public void removeAt(int index) {
+                    list.removeNodeAtIndex(index);
+                }
+
+                @Override
+                public Object get(int index) {
+                    return list.getDataAtIndex(index);
+                }
+
+                @Override
+                public String render() {
+                    return list.asString();
+                }
+
+                @Override
+                public void iterate(Blackhole blackhole) {
+                    list.forEach(blackhole::consume);
+                }
+            };
+        }
+    },
+    JAVA_LINKED_LIST {
+        @Override
+        ListUnderTest create() {
+            return new CollectionUnderTest(new LinkedList<>()) {
+                @Override
+                public void addAt(Object data, int index) {
+                    ((LinkedList<Object>) collection).add(index, data);
+                }
+
+                @Override
+                public void removeAt(int index) {
+                    ((LinkedList<Object>) collection).remove(index);
+                }
+
+                @Override
+                public Object get(int index) {
+                    return ((LinkedList<Object>) collection).get(index);
+                }
+            };
+        }
+    },
+    ARRAY_DEQUE {
+        @Override
+        ListUnderTest create() {
+            return new CollectionUnderTest(new ArrayDeque<>());
+        }
+    };
+
+    abstract ListUnderTest create();
+
+    private static final class DoublyLinkedListUnderTest implements ListUnderTest {
+        private final DoublyLinkedList list;
+
+        private DoublyLinkedListUnderTest(DoublyLinkedList list) {
+            this.list = list;
+        }
+
+        @Override
+        public void addHead(Object data) {
+            list.addEngine(data);
+        }
+
+        @Override
+        public void addTail(Object data) {
+            list.addCaboose(data);
+        }
+
+        @Override
+        public void addAt(Object data, int index) {
+            list.addNodeAtIndex(data, index);
+        }
+
+        @Override
+        public void removeHead() {
+            list.removeHeadNode();
+        }
+
+        @Override
+        public void removeTail() {
+            list.removeTailNode();
+        }
+
+        @Override
+        public void removeAt(int index) {
+            list.removeNodeAtIndex(index);
+        }
+
+        @Override
+        public Object get(int index) {
+            return list.getNodeAtIndex(index).getData();
+        }
+
+        @Override
+        public String render() {
+            return list.asString();
+        }
+
+        @Override
+        public void iterate(Blackhole blackhole) {
+            for (Node current = list.getHead(); current != null; current = current.getNext()) {
+                blackhole.consume(current.getData());
+            }
+        }
+    }
+
+    private static class CollectionUnderTest implements ListUnderTest {
+        protected final Deque<Object> collection;
+
+        private CollectionUnderTest(Deque<Object> collection) {
+            this.collection = collection;
+        }
+
+        @Override
+        public void addHead(Object data) {
+            collection.addFirst(data);
+        }
+
+        @Override
+        public void addTail(Object data) {
+            collection.addLast(data);
+        }
+
+        @Override
+        public void addAt(Object data, int index) {
+            throw new UnsupportedOperationException(collection.getClass().getSimpleName() + " has no positional insert");
+        }
+
+        @Override
+        public void removeHead() {
+            collection.pollFirst();
+        }
+
+        @Override
+        public void removeTail() {
+            collection.pollLast();
+        }
+
+        @Override
+        public void removeAt(int index) {
+            throw new UnsupportedOperationException(collection.getClass().getSimpleName() + " has no positional remove");
+        }
+
+        @Override
+        public Object get(int index) {
+            throw new UnsupportedOperationException(collection.getClass().getSimpleName() + " has no positional get");
+        }
+
+        @Override
+        public String render() {
+            return collection.toString();
+        }
+
+        @Override
+        public void iterate(Blackhole blackhole) {
+            for (Object data : collection) {
+                blackhole.consume(data);
+            }
+        }
+    }
+}
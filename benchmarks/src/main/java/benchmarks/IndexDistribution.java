@@ -0,0 +1,51 @@
+package benchmarks;
+
+import java.util.Random;
+
+/**
+ * Where positional operations land. Index sequences are precomputed so that no random number generation
+ * is measured.
+ */
+public enum IndexDistribution {
+    HEAD {
+        @Override
+        int next(Random random, int previous, int size) {
+            return Math.min(random.nextInt(16), size - 1);
+        }
+    },
+    TAIL {
+        @Override
+        int next(Random random, int previous, int size) {
+            return Math.max(0, size - 1 - random.nextInt(16));
+        }
+    },
+    UNIFORM {
+        @Override
+        int next(Random random, int previous, int size) {
+            return random.nextInt(size);
+        }
+    },
+    /**
+     * A sliding window: each index lies within 32 positions of the previous one.
+     */
+    CLUSTERED {
+        @Override
+        int next(Random random, int previous, int size) {
+            int index = previous + random.nextInt(65) - 32;
+            return Math.max(0, Math.min(size - 1, index));
+        }
+    };
+
+    abstract int next(Random random, int previous, int size);
+
+    int[] indexes(int count, int size) {
+        Random random = new Random(42);
+        int[] indexes = new int[count];
+        int previous = size / 2;
+        for (int i = 0; i < count; i++) {
+            previous = next(random, previous, size);
+            indexes[i] = previous;
+        }
+        return indexes;
+    }
+}
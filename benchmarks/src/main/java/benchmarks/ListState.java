@@ -0,0 +1,50 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared benchmark state: a list of {@link #size} elements built once per trial. Benchmarks that mutate it restore the original
+ * size within each invocation, so the size holds for the whole measurement.
+ */
+@State(Scope.Thread)
+public abstract class ListState {
+    static final int ELEMENT_POOL_SIZE = 1024;
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"STRING", "INTEGER"})
+    ElementType elementType;
+
+    ListUnderTest list;
+    Object[] elements;
+    int cursor = 0;
+
+    @Setup(Level.Trial)
+    public void buildList() {
+        elements = new Object[ELEMENT_POOL_SIZE];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = elementType.create(i);
+        }
+
+        list = implementation().create();
+        for (int i = 0; i < size; i++) {
+            list.addTail(elements[i & (ELEMENT_POOL_SIZE - 1)]);
+        }
+    }
+
+    /**
+     * The implementation chosen by the subclass's own {@code @Param}, which lists only the implementations
+     * that support its benchmarks.
+     */
+    abstract Implementation implementation();
+
+    Object nextElement() {
+        cursor = (cursor + 1) & (ELEMENT_POOL_SIZE - 1);
+        return elements[cursor];
+    }
+}
@@ -0,0 +1,27 @@
+package benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Common surface over the list implementations being compared.
+ */
+interface ListUnderTest {
+
+    void addHead(Object data);
+
+    void addTail(Object data);
+
+    void addAt(Object data, int index);
+
+    void removeHead();
+
+    void removeTail();
+
+    void removeAt(int index);
+
+    Object get(int index);
+
+    String render();
+
+    void iterate(Blackhole blackhole);
+}
@@ -0,0 +1,76 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code addNodeAtIndex}, {@code removeNodeAtIndex} and positional reads at indexes drawn from an
+ * {@link IndexDistribution}. {@code ArrayDeque} is absent because it has no positional operations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PositionalBenchmark {
+    private static final int INDEX_COUNT = 4096;
+
+    @State(Scope.Thread)
+    public static class Positional extends ListState {
+        @Param({"DOUBLY_LINKED_LIST", "INDEXED_DOUBLY_LINKED_LIST", "UNROLLED_DOUBLY_LINKED_LIST",
+                "ARRAY_BACKED_DOUBLY_LINKED_LIST", "JAVA_LINKED_LIST"})
+        Implementation implementation;
+
+        @Param({"HEAD", "TAIL", "UNIFORM", "CLUSTERED"})
+        IndexDistribution distribution;
+
+        int[] indexes;
+        int next = 0;
+
+        @Override
+        Implementation implementation() {
+            return implementation;
+        }
+
+        @Setup(Level.Trial)
+        public void buildIndexes() {
+            indexes = distribution.indexes(INDEX_COUNT, size);
+        }
+
+        int nextIndex() {
+            next = (next + 1) & (INDEX_COUNT - 1);
+            return indexes[next];
+        }
+    }
+
+    @Benchmark
+    public void addNodeAtIndex(Positional state) {
+        int index = state.nextIndex();
+        state.list.addAt(state.nextElement(), index);
+        state.list.removeAt(index);
+    }
+
+    @Benchmark
+    public void removeNodeAtIndex(Positional state) {
+        int index = state.nextIndex();
+        state.list.removeAt(index);
+        state.list.addAt(state.nextElement(), index);
+    }
+
+    @Benchmark
+    public Object getAtIndex(Positional state) {
+        return state.list.get(state.nextIndex());
+    }
+}
@@ -0,0 +1,49 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole-list work: rendering with {@code asString} and a plain element-by-element walk. Reported as
+ * average time per full pass because a single pass over 1e7 elements is far longer than a microsecond.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TraversalBenchmark {
+
+    @State(Scope.Thread)
+    public static class Traversal extends ListState {
+        @Param({"DOUBLY_LINKED_LIST", "UNROLLED_DOUBLY_LINKED_LIST", "ARRAY_BACKED_DOUBLY_LINKED_LIST",
+                "JAVA_LINKED_LIST", "ARRAY_DEQUE"})
+        Implementation implementation;
+
+        @Override
+        Implementation implementation() {
+            return implementation;
+        }
+    }
+
+    @Benchmark
+    public String asString(Traversal state) {
+        return state.list.render();
+    }
+
+    @Benchmark
+    public void iterate(Traversal state, Blackhole blackhole) {
+        state.list.iterate(blackhole);
+    }
+}
@@ -1,10 +1,19 @@
+import cli.BatchRunner;
+import cli.ListServer;
 import data.DoublyLinkedList;
+import data.DoublyLinkedListStore;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Scanner;
 
 public class Main {
     private static final String HEAD_INDEX_INDICATOR = "head";
@@ -12,7 +21,15 @@ public class Main {
     private static final String REMOVE_NODE_INDICATOR = "removeNode";
     private static final String PRINT_INDICATOR = "print";
     private static final String SAVE_INDICATOR = "saveList";
+    private static final String LOAD_INDICATOR = "loadList";
+    private static final String AUTO_PRINT_INDICATOR = "autoPrint";
     private static final String PROGRAM_TERMINATE_INDICATOR = "quit";
+    private static final String BATCH_ARGUMENT = "--batch";
+    private static final String SERVER_ARGUMENT = "--server";
+    private static final String STANDARD_INPUT_ARGUMENT = "-";
+    private static final int DEFAULT_SERVER_PORT = 7070;
+    private static final String USAGE = "Usage: Main [" + BATCH_ARGUMENT + " [<command file> | " + STANDARD_INPUT_ARGUMENT + "]"
+            + " | " + SERVER_ARGUMENT + " [<port>]]";
     private static final String INSTRUCTIONS = "Welcome to this implementation of a Doubly Linked List (DLL) as written in Java.\n\n" +
             "To add a new node, please type the node's contents\n" +
             "Followed by the desired node index separated by a space.\n" +
@@ -21,26 +38,102 @@ public class Main {
             "with a space separating the arguments.\n\n" +
             "To remove a Node from the list, type '" + REMOVE_NODE_INDICATOR + "'\n" +
             "followed by the index of the desired node to be removed or '" + HEAD_INDEX_INDICATOR + "' or '" + TAIL_INDEX_INDICATOR + "' to remove the head or tail.\n\n" +
-            "To view the current contents of your DLL, type '" + PRINT_INDICATOR + "' at any time.\n\n" +
-            "To save the current state of your DLL to a text file, type '" + SAVE_INDICATOR + "' and your DLL will be saved to the resources folder of the project.\n\n" +
+            "To view the current contents of your DLL, type '" + PRINT_INDICATOR + "' at any time.\n" +
+            "After each change the DLL is printed around the changed index. To change this, type '" + AUTO_PRINT_INDICATOR + "'\n" +
+            "followed by '" + AutoPrint.ALL.name().toLowerCase() + "', '" + AutoPrint.WINDOW.name().toLowerCase() + "' or '" + AutoPrint.OFF.name().toLowerCase() + "'.\n\n" +
+            "To save the current state of your DLL to a text file, type '" + SAVE_INDICATOR + "' and your DLL will be saved to the resources folder of the project.\n" +
+            "To replace your DLL with the contents of that file, type '" + LOAD_INDICATOR + "'.\n\n" +
             "To stop providing input, type '" + PROGRAM_TERMINATE_INDICATOR + "'";
     private static final String INVALID_INPUT_DETECTED = "Invalid input detected. Please only provide the content or '" + REMOVE_NODE_INDICATOR + "'\n" +
             "and the index of the desired node.";
+    private static final Path LIST_FILE = Paths.get("./src/main/resources/list.txt");
     private static final DoublyLinkedList LIST = new DoublyLinkedList();
+    private static final int WINDOW_RADIUS = 5;
+    private static AutoPrint autoPrint = AutoPrint.WINDOW;
+
+    /**
+     * What to print after each change: the whole list, only the elements around the changed index, or nothing.
+     */
+    private enum AutoPrint {
+        ALL,
+        WINDOW,
+        OFF
+    }
 
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equalsIgnoreCase(SERVER_ARGUMENT)) {
+            runServer(args);
+            return;
+        }
+
+        if (args.length > 0) {
+            runBatch(args);
+            return;
+        }
+
         System.out.println(INSTRUCTIONS);
 
+        BufferedReader input = new BufferedReader(new InputStreamReader(System.in));
         while (true) {
-            if (handleInput() == -1) {
+            if (handleInput(input) == -1) {
                 break;
             }
         }
     }
 
-    private static int handleInput() {
-        Scanner scanner = new Scanner(System.in);
-        String[] command = scanner.nextLine().split(" ");
+    /**
+     * Runs the commands of a file, or of standard input, without printing after each one.
+     */
+    private static void runBatch(String[] args) {
+        if (!args[0].equalsIgnoreCase(BATCH_ARGUMENT) || args.length > 2) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        BatchRunner runner = new BatchRunner(LIST, LIST_FILE, System.out);
+        try {
+            if (args.length == 1 || args[1].equals(STANDARD_INPUT_ARGUMENT)) {
+                runner.run(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+                return;
+            }
+
+            try (Reader reader = Files.newBufferedReader(Paths.get(args[1]), StandardCharsets.UTF_8)) {
+                runner.run(reader);
+            }
+        } catch (IOException e) {
+            System.out.println("Could not read commands. | " + e);
+        }
+    }
+
+    /**
+     * Serves the list to local clients until the process is stopped.
+     */
+    private static void runServer(String[] args) {
+        if (args.length > 2 || args.length == 2 && !args[1].matches("\\d{1,5}")) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        int port = args.length == 2 ? Integer.parseInt(args[1]) : DEFAULT_SERVER_PORT;
+        try {
+            ListServer server = ListServer.start(LIST, LIST_FILE, port);
+            System.out.println("Serving the DLL on 127.0.0.1:" + server.getPort() + ".");
+            server.awaitClose();
+        } catch (IOException e) {
+            System.out.println("Could not start server. | " + e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int handleInput(BufferedReader input) {
+        String line;
+        try {
+            line = input.readLine();
+        } catch (IOException e) {
+            line = null;
+        }
+        String[] command = Objects.isNull(line) ? new String[]{PROGRAM_TERMINATE_INDICATOR} : line.split(" ");
 
         if (!whereCommandIsTerminateProgram(command)) {
             if (command.length == 0 || command.length > 2) {
@@ -58,11 +151,26 @@ public class Main {
                 return 0;
             }
 
+            if (command.length == 1 && command[0].equalsIgnoreCase(LOAD_INDICATOR)) {
+                try {
+                    handleLoadList();
+                } catch (IOException e) {
+                    System.out.println("Could not load from file. Please try again. | " + e);
+                }
+
+                return 0;
+            }
+
             if (command.length == 1 && command[0].equalsIgnoreCase(PRINT_INDICATOR)) {
                 LIST.printContents();
                 return 0;
             }
 
+            if (command[0].equalsIgnoreCase(AUTO_PRINT_INDICATOR)) {
+                handleAutoPrint(command);
+                return 0;
+            }
+
             if (command[0].equalsIgnoreCase(REMOVE_NODE_INDICATOR)) {
                 handleRemoveNode(command);
                 return 0;
@@ -70,27 +178,29 @@ public class Main {
 
             if (command.length == 1) {
                 LIST.addNodeAtIndex(command[0], null);
-                LIST.printContents();
+                printAfterChange(LIST.getNodeCount() - 1);
                 return 0;
             }
 
             if (command[1].equalsIgnoreCase(HEAD_INDEX_INDICATOR)) {
                 LIST.addEngine(command[0]);
-                LIST.printContents();
+                printAfterChange(0);
                 return 0;
             }
 
             if (command[1].equalsIgnoreCase(TAIL_INDEX_INDICATOR)) {
                 LIST.addCaboose(command[0]);
-                LIST.printContents();
+                printAfterChange(LIST.getNodeCount() - 1);
                 return 0;
             }
 
             try {
                 Optional.of(command[1])
                         .map(Integer::parseInt)
-                        .ifPresent(index -> LIST.addNodeAtIndex(command[0], index));
-                LIST.printContents();
+                        .ifPresent(index -> {
+                            LIST.addNodeAtIndex(command[0], index);
+                            printAfterChange(index);
+                        });
             } catch (NumberFormatException e) {
                 System.out.println(INVALID_INPUT_DETECTED);
             }
@@ -107,11 +217,52 @@ public class Main {
     }
 
     private static void handleSaveList() throws IOException {
-        String text = LIST.asString();
-        Files.write(Paths.get("./src/main/resources/list.txt"), text.getBytes());
+        DoublyLinkedListStore.save(LIST, LIST_FILE);
         System.out.println("File saved.");
     }
 
+    private static void handleLoadList() throws IOException {
+        if (!Files.exists(LIST_FILE)) {
+            throw new NoSuchFileException(LIST_FILE.toString());
+        }
+
+        DoublyLinkedListStore.replace(LIST, LIST_FILE);
+        System.out.println("File loaded.");
+        printAfterChange(0);
+    }
+
+    private static void handleAutoPrint(String[] command) {
+        if (command.length == 1) {
+            System.out.println(INVALID_INPUT_DETECTED);
+            return;
+        }
+
+        for (AutoPrint policy : AutoPrint.values()) {
+            if (policy.name().equalsIgnoreCase(command[1])) {
+                autoPrint = policy;
+                System.out.println("Auto print set to '" + command[1] + "'.");
+                return;
+            }
+        }
+        System.out.println(INVALID_INPUT_DETECTED);
+    }
+
+    /**
+     * Shows the list after a change at {@code index} according to the current {@link AutoPrint} policy.
+     */
+    private static void printAfterChange(int index) {
+        switch (autoPrint) {
+            case ALL:
+                LIST.printContents();
+                break;
+            case WINDOW:
+                LIST.printAround(Math.max(0, Math.min(index, LIST.getNodeCount() - 1)), WINDOW_RADIUS);
+                break;
+            default:
+                break;
+        }
+    }
+
     private static void handleRemoveNode(String[] command) {
         if (command.length == 1) {
             System.out.println(INVALID_INPUT_DETECTED);
@@ -122,21 +273,23 @@ public class Main {
 
         if (index.equalsIgnoreCase(HEAD_INDEX_INDICATOR)) {
             LIST.removeHeadNode();
-            LIST.printContents();
+            printAfterChange(0);
             return;
         }
 
         if (index.equalsIgnoreCase(TAIL_INDEX_INDICATOR)) {
             LIST.removeTailNode();
-            LIST.printContents();
+            printAfterChange(LIST.getNodeCount() - 1);
             return;
         }
 
         try {
             Optional.of(index)
                     .map(Integer::parseInt)
-                    .ifPresent(LIST::removeNodeAtIndex);
-            LIST.printContents();
+                    .ifPresent(removeIndex -> {
+                        LIST.removeNodeAtIndex(removeIndex);
+                        printAfterChange(removeIndex);
+                    });
         } catch (NumberFormatException e) {
             System.out.println(INVALID_INPUT_DETECTED);
         }
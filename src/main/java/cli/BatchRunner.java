@@ -0,0 +1,292 @@
+package cli;
+
+import data.DoublyLinkedList;
+import data.DoublyLinkedListStore;
+import lombok.Value;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a script of interactive commands against a list without printing after every command.
+ * <p>
+ * Commands use the interactive syntax. Runs of adjacent commands of the same kind are grouped and applied
+ * as one bulk operation when the run ends:
+ * <ul>
+ *     <li>appends (content alone, or with {@code tail} or an index at or past the end) are linked with a
+ *     single {@link DoublyLinkedList#addAll(java.util.Collection)}</li>
+ *     <li>prepends ({@code head} or an index at or before 0) are linked in reverse with one
+ *     {@link DoublyLinkedList#addAll(int, java.util.Collection)}</li>
+ *     <li>head removals are one {@link DoublyLinkedList#split(Integer)} plus {@link DoublyLinkedList#concat}</li>
+ *     <li>tail removals are one {@link DoublyLinkedList#split(Integer)}</li>
+ * </ul>
+ * The list is printed only for {@code print} commands and once at the end, followed by the throughput.
+ * Commands the interactive mode would reject are counted instead of reported one by one.
+ */
+public final class BatchRunner {
+    static final String HEAD_INDEX_INDICATOR = "head";
+    static final String TAIL_INDEX_INDICATOR = "tail";
+    static final String REMOVE_NODE_INDICATOR = "removeNode";
+    static final String PRINT_INDICATOR = "print";
+    static final String SAVE_INDICATOR = "saveList";
+    static final String LOAD_INDICATOR = "loadList";
+    static final String AUTO_PRINT_INDICATOR = "autoPrint";
+    static final String PROGRAM_TERMINATE_INDICATOR = "quit";
+
+    private static final int FINAL_WINDOW = 10;
+
+    private final DoublyLinkedList list;
+    private final Path listFile;
+    private final PrintStream out;
+
+    private Pending pending = Pending.NONE;
+    private final List<Object> batch = new ArrayList<>();
+    private int dropCount = 0;
+    private long commands = 0;
+    private long rejected = 0;
+
+    public BatchRunner(DoublyLinkedList list, Path listFile, PrintStream out) {
+        this.list = list;
+        this.listFile = listFile;
+        this.out = out;
+    }
+
+    /**
+     * Runs every command read from {@code reader}, up to the end of input or a {@code quit} command, then
+     * prints the start of the final list and a throughput summary.
+     */
+    public Result run(Reader reader) throws IOException {
+        CommandReader commandReader = new CommandReader(reader);
+        long start = System.nanoTime();
+
+        while (commandReader.next()) {
+            if (commandReader.tokenCount() == 0) {
+                continue;
+            }
+            commands++;
+            if (!execute(commandReader)) {
+                break;
+            }
+        }
+        flush();
+
+        Result result = new Result(commands, rejected, System.nanoTime() - start);
+        out.print("Final DLL: ");
+        print(0, FINAL_WINDOW);
+        out.printf("Processed %d commands (%d rejected) in %.3f s, %.0f commands/s%n",
+                result.getCommands(), result.getRejected(), result.getElapsedNanos() / 1e9, result.commandsPerSecond());
+        return result;
+    }
+
+    /**
+     * Returns {@code false} when the command ends the script.
+     */
+    private boolean execute(CommandReader command) throws IOException {
+        if (command.tokenCount() > CommandReader.MAX_TOKENS) {
+            rejected++;
+            return true;
+        }
+
+        if (command.tokenCount() == 1) {
+            if (command.tokenEqualsIgnoreCase(0, PROGRAM_TERMINATE_INDICATOR)) {
+                return false;
+            }
+            if (command.tokenEqualsIgnoreCase(0, PRINT_INDICATOR)) {
+                flush();
+                print(0, Integer.MAX_VALUE);
+            } else if (command.tokenEqualsIgnoreCase(0, SAVE_INDICATOR)) {
+                flush();
+                save();
+            } else if (command.tokenEqualsIgnoreCase(0, LOAD_INDICATOR)) {
+                flush();
+                load();
+            } else if (command.tokenEqualsIgnoreCase(0, REMOVE_NODE_INDICATOR)
+                    || command.tokenEqualsIgnoreCase(0, AUTO_PRINT_INDICATOR)) {
+                rejected++;
+            } else {
+                append(command.token(0));
+            }
+            return true;
+        }
+
+        if (command.tokenEqualsIgnoreCase(0, AUTO_PRINT_INDICATOR)) {
+            return true;
+        }
+
+        if (command.tokenEqualsIgnoreCase(0, REMOVE_NODE_INDICATOR)) {
+            remove(command);
+            return true;
+        }
+
+        if (command.tokenEqualsIgnoreCase(1, HEAD_INDEX_INDICATOR)) {
+            prepend(command.token(0));
+        } else if (command.tokenEqualsIgnoreCase(1, TAIL_INDEX_INDICATOR)) {
+            append(command.token(0));
+        } else if (!command.isIndex(1)) {
+            rejected++;
+        } else {
+            int index = command.index(1);
+            if (index >= projectedSize()) {
+                append(command.token(0));
+            } else if (index <= 0) {
+                prepend(command.token(0));
+            } else {
+                flush();
+                list.addNodeAtIndex(command.token(0), index);
+            }
+        }
+        return true;
+    }
+
+    private void remove(CommandReader command) {
+        int size = projectedSize();
+        if (size == 0) {
+            rejected++;
+            return;
+        }
+
+        if (command.tokenEqualsIgnoreCase(1, HEAD_INDEX_INDICATOR)) {
+            dropHead();
+        } else if (command.tokenEqualsIgnoreCase(1, TAIL_INDEX_INDICATOR)) {
+            dropTail();
+        } else if (!command.isIndex(1) || command.index(1) < 0 || command.index(1) >= size) {
+            rejected++;
+        } else if (command.index(1) == 0) {
+            dropHead();
+        } else if (command.index(1) == size - 1) {
+            dropTail();
+        } else {
+            flush();
+            list.removeNodeAtIndex(command.index(1));
+        }
+    }
+
+    private void append(Object data) {
+        switchTo(Pending.APPEND);
+        batch.add(data);
+    }
+
+    private void prepend(Object data) {
+        switchTo(Pending.PREPEND);
+        batch.add(data);
+    }
+
+    private void dropHead() {
+        switchTo(Pending.DROP_HEAD);
+        dropCount++;
+    }
+
+    private void dropTail() {
+        switchTo(Pending.DROP_TAIL);
+        dropCount++;
+    }
+
+    private void switchTo(Pending next) {
+        if (pending != next) {
+            flush();
+            pending = next;
+        }
+    }
+
+    /**
+     * Size of the list once the pending run has been applied. Removals are only queued while they can succeed,
+     * so the drop count never exceeds the list size.
+     */
+    private int projectedSize() {
+        switch (pending) {
+            case APPEND:
+            case PREPEND:
+                return list.getNodeCount() + batch.size();
+            case DROP_HEAD:
+            case DROP_TAIL:
+                return list.getNodeCount() - dropCount;
+            default:
+                return list.getNodeCount();
+        }
+    }
+
+    private void flush() {
+        switch (pending) {
+            case APPEND:
+                list.addAll(batch);
+                break;
+            case PREPEND:
+                Collections.reverse(batch);
+                list.addAll(0, batch);
+                break;
+            case DROP_HEAD:
+                DoublyLinkedList rest = list.split(dropCount);
+                list.clear();
+                list.concat(rest);
+                break;
+            case DROP_TAIL:
+                list.split(list.getNodeCount() - dropCount);
+                break;
+            default:
+                break;
+        }
+
+        batch.clear();
+        dropCount = 0;
+        pending = Pending.NONE;
+    }
+
+    private void save() {
+        try {
+            DoublyLinkedListStore.save(list, listFile);
+            out.println("File saved.");
+        } catch (IOException e) {
+            out.println("Could not save to file. Please try again. | " + e);
+        }
+    }
+
+    private void load() {
+        try {
+            if (!Files.exists(listFile)) {
+                throw new NoSuchFileException(listFile.toString());
+            }
+
+            DoublyLinkedListStore.replace(list, listFile);
+            out.println("File loaded.");
+        } catch (IOException e) {
+            out.println("Could not load from file. Please try again. | " + e);
+        }
+    }
+
+    private void print(int from, int to) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out));
+        list.renderRange(writer, from, to);
+        writer.write(System.lineSeparator());
+        writer.flush();
+    }
+
+    private enum Pending {
+        NONE,
+        APPEND,
+        PREPEND,
+        DROP_HEAD,
+        DROP_TAIL
+    }
+
+    @Value
+    public static class Result {
+        long commands;
+        long rejected;
+        long elapsedNanos;
+
+        public double commandsPerSecond() {
+            return elapsedNanos == 0 ? 0 : commands * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package cli;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads commands line by line and splits them into whitespace-separated tokens without allocating.
+ * <p>
+ * Characters are pulled through a private buffer into a reusable line buffer, and tokens are kept as
+ * offsets into it. Keywords and indexes are matched and parsed in place; only {@link #token(int)}, used for
+ * element contents, creates a string.
+ */
+final class CommandReader {
+    static final int MAX_TOKENS = 2;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position = 0;
+    private int limit = 0;
+
+    private char[] line = new char[256];
+    private int lineLength = 0;
+    private final int[] tokenStart = new int[MAX_TOKENS];
+    private final int[] tokenEnd = new int[MAX_TOKENS];
+    private int tokenCount = 0;
+
+    CommandReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads and tokenizes the next line. Returns {@code false} once the input is exhausted.
+     * A line with more than {@link #MAX_TOKENS} tokens reports {@code MAX_TOKENS + 1} from {@link #tokenCount()}.
+     */
+    boolean next() throws IOException {
+        lineLength = 0;
+        int c = read();
+        if (c == -1) {
+            return false;
+        }
+
+        while (c != -1 && c != '\n') {
+            if (c != '\r') {
+                if (lineLength == line.length) {
+                    char[] grown = new char[line.length * 2];
+                    System.arraycopy(line, 0, grown, 0, lineLength);
+                    line = grown;
+                }
+                line[lineLength++] = (char) c;
+            }
+            c = read();
+        }
+
+        tokenize();
+        return true;
+    }
+
+    /**
+     * Whether more input has already been read, so that {@link #next()} can return at least part of another
+     * line without waiting on the underlying reader.
+     */
+    boolean hasBufferedInput() {
+        return position < limit;
+    }
+
+    int tokenCount() {
+        return tokenCount;
+    }
+
+    String token(int token) {
+        return new String(line, tokenStart[token], tokenEnd[token] - tokenStart[token]);
+    }
+
+    boolean tokenEqualsIgnoreCase(int token, String keyword) {
+        int length = tokenEnd[token] - tokenStart[token];
+        if (length != keyword.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            char c = line[tokenStart[token] + i];
+            char k = keyword.charAt(i);
+            if (c != k && Character.toLowerCase(c) != Character.toLowerCase(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the token is an optionally signed decimal integer that fits in an {@code int}, as accepted by
+     * {@link Integer#parseInt(String)}.
+     */
+    boolean isIndex(int token) {
+        int start = tokenStart[token];
+        int end = tokenEnd[token];
+        if (start < end && (line[start] == '-' || line[start] == '+')) {
+            start++;
+        }
+        if (start == end || end - start > 10) {
+            return false;
+        }
+
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            if (line[i] < '0' || line[i] > '9') {
+                return false;
+            }
+            value = value * 10 + (line[i] - '0');
+        }
+        return line[tokenStart[token]] == '-' ? -value >= Integer.MIN_VALUE : value <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Parses a token already accepted by {@link #isIndex(int)}.
+     */
+    int index(int token) {
+        int start = tokenStart[token];
+        boolean negative = line[start] == '-';
+        if (negative || line[start] == '+') {
+            start++;
+        }
+
+        long value = 0;
+        for (int i = start; i < tokenEnd[token]; i++) {
+            value = value * 10 + (line[i] - '0');
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    private void tokenize() {
+        tokenCount = 0;
+        int i = 0;
+        while (i < lineLength) {
+            while (i < lineLength && isSeparator(line[i])) {
+                i++;
+            }
+            if (i == lineLength) {
+                break;
+            }
+            if (tokenCount == MAX_TOKENS) {
+                tokenCount++;
+                return;
+            }
+
+            tokenStart[tokenCount] = i;
+            while (i < lineLength && !isSeparator(line[i])) {
+                i++;
+            }
+            tokenEnd[tokenCount++] = i;
+        }
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+}
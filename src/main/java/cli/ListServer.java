@@ -0,0 +1,170 @@
+package cli;
+
+import data.DoublyLinkedList;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves the interactive command set over a loopback TCP socket, so several tools can share one list.
+ * <p>
+ * The protocol is line based: a client sends commands in the interactive syntax, one per line, and gets exactly
+ * one response line per command, in order. Blank lines are ignored and {@code quit} is answered with
+ * {@code BYE} before the connection is closed. Clients may pipeline: every command that has already arrived
+ * is parsed and handed to the {@link SingleWriterScheduler} as one batch, and its responses are written back
+ * with a single flush, so a client sending a hundred commands at once pays for one round trip.
+ * <p>
+ * Each connection gets its own thread: a virtual thread when the JVM offers them (Java 21 or later), otherwise
+ * a thread from a cached pool.
+ */
+public final class ListServer implements Closeable {
+    static final String GOODBYE = "BYE";
+    static final int MAX_BATCH = 1024;
+
+    private final ServerSocket serverSocket;
+    private final SingleWriterScheduler scheduler;
+    private final ExecutorService connections = newConnectionExecutor();
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+    private final Thread acceptor;
+
+    private ListServer(ServerSocket serverSocket, SingleWriterScheduler scheduler) {
+        this.serverSocket = serverSocket;
+        this.scheduler = scheduler;
+        this.acceptor = new Thread(this::accept, "list-server-acceptor");
+    }
+
+    /**
+     * Starts serving {@code list} on the loopback address; port 0 picks a free port. {@code saveList} and
+     * {@code loadList} use {@code listFile}.
+     */
+    public static ListServer start(DoublyLinkedList list, Path listFile, int port) throws IOException {
+        ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        ListServer server = new ListServer(serverSocket, new SingleWriterScheduler(list, listFile));
+        server.scheduler.start();
+        server.acceptor.start();
+        return server;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Blocks until the server has been closed.
+     */
+    public void awaitClose() throws InterruptedException {
+        acceptor.join();
+    }
+
+    /**
+     * Stops accepting, drops every open connection and stops the writer once it has finished its current batch.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Socket socket : openSockets) {
+            socket.close();
+        }
+        connections.shutdown();
+        try {
+            acceptor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler.close();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                openSockets.add(socket);
+                connections.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.out.println("Could not accept connection. | " + e);
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (Socket connection = socket;
+             Writer out = new BufferedWriter(new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8))) {
+            CommandReader reader = new CommandReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+            List<ServerCommand> batch = new ArrayList<>();
+            boolean open = true;
+
+            while (open && reader.next()) {
+                batch.clear();
+                do {
+                    if (reader.tokenCount() == 0) {
+                        continue;
+                    }
+                    ServerCommand command = ServerCommand.parse(reader);
+                    if (command.isQuit()) {
+                        open = false;
+                        break;
+                    }
+                    batch.add(command);
+                } while (batch.size() < MAX_BATCH && reader.hasBufferedInput() && reader.next());
+
+                if (!batch.isEmpty()) {
+                    for (String response : scheduler.submit(batch).get()) {
+                        out.write(response);
+                        out.write('\n');
+                    }
+                }
+                if (!open) {
+                    out.write(GOODBYE);
+                    out.write('\n');
+                }
+                out.flush();
+            }
+        } catch (SocketException e) {
+            // The client went away or the server is closing.
+        } catch (IOException | ExecutionException e) {
+            System.out.println("Connection failed. | " + e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            openSockets.remove(socket);
+        }
+    }
+
+    /**
+     * A virtual-thread-per-task executor when the running JVM has one; looked up reflectively because the
+     * project compiles for Java 8.
+     */
+    private static ExecutorService newConnectionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger threads = new AtomicInteger();
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "list-server-connection-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package cli;
+
+import lombok.Value;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives a {@link ListServer} from several loopback connections and reports throughput and round-trip latency.
+ * <p>
+ * Every connection sends batches of pipelined commands, alternating appends with head removals so the list
+ * stays small, and waits for all of a batch's responses before sending the next. The latency of a batch is the
+ * time from its first byte sent to its last response read. Every batch's latency is kept, in an array per
+ * connection sized up front, and the percentiles are exact nearest-rank values over all of them.
+ */
+public final class LoadGenerator {
+    private static final String USAGE = "Usage: LoadGenerator <port> [<connections> <batches per connection> <commands per batch>]";
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length != 1 && args.length != 4) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        int port = Integer.parseInt(args[0]);
+        int connections = args.length == 4 ? Integer.parseInt(args[1]) : 8;
+        int batches = args.length == 4 ? Integer.parseInt(args[2]) : 10_000;
+        int depth = args.length == 4 ? Integer.parseInt(args[3]) : 16;
+
+        Report report = run(port, connections, batches, depth);
+        System.out.printf("%d connections sent %d commands (%d rejected) in %.3f s, %.0f commands/s%n",
+                connections, report.getCommands(), report.getRejected(), report.getElapsedNanos() / 1e9,
+                report.commandsPerSecond());
+        System.out.printf("Batch round trip of %d commands: p50 %.1f us, p99 %.1f us%n",
+                depth, report.getP50Nanos() / 1e3, report.getP99Nanos() / 1e3);
+    }
+
+    public static Report run(int port, int connections, int batches, int depth)
+            throws IOException, InterruptedException {
+        long[][] latencies = new long[connections][batches];
+        AtomicLong rejected = new AtomicLong();
+        ExecutorService clients = Executors.newFixedThreadPool(connections);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int c = 0; c < connections; c++) {
+                int client = c;
+                running.add(clients.submit(() -> {
+                    drive(port, client, batches, depth, latencies[client], rejected);
+                    return null;
+                }));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            long[] sorted = merge(latencies);
+            return new Report((long) connections * batches * depth, rejected.get(), elapsed,
+                    percentile(sorted, 50), percentile(sorted, 99));
+        } catch (ExecutionException e) {
+            throw new IOException("Load generator connection failed.", e.getCause());
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private static void drive(int port, int client, int batches, int depth, long[] latencies,
+                              AtomicLong rejected) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setTcpNoDelay(true);
+            Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            StringBuilder commands = new StringBuilder();
+
+            for (int b = 0; b < batches; b++) {
+                commands.setLength(0);
+                for (int i = 0; i < depth; i++) {
+                    if (i % 2 == 0) {
+                        commands.append('c').append(client).append('-').append(b).append(' ')
+                                .append(BatchRunner.TAIL_INDEX_INDICATOR).append('\n');
+                    } else {
+                        commands.append(BatchRunner.REMOVE_NODE_INDICATOR).append(' ')
+                                .append(BatchRunner.HEAD_INDEX_INDICATOR).append('\n');
+                    }
+                }
+
+                long sent = System.nanoTime();
+                out.write(commands.toString());
+                out.flush();
+                for (int i = 0; i < depth; i++) {
+                    String response = in.readLine();
+                    if (Objects.isNull(response)) {
+                        throw new IOException("Server closed the connection.");
+                    }
+                    if (response.startsWith(ServerCommand.ERROR)) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                latencies[b] = System.nanoTime() - sent;
+            }
+
+            out.write(BatchRunner.PROGRAM_TERMINATE_INDICATOR + "\n");
+            out.flush();
+            in.readLine();
+        }
+    }
+
+    private static long[] merge(long[][] latencies) {
+        long[] merged = new long[latencies.length == 0 ? 0 : latencies.length * latencies[0].length];
+        int length = 0;
+        for (long[] connection : latencies) {
+            System.arraycopy(connection, 0, merged, length, connection.length);
+            length += connection.length;
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    /**
+     * Nearest-rank percentile of {@code sorted}: the smallest sample at or above {@code percent} of them.
+     */
+    static long percentile(long[] sorted, double percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    @Value
+    public static class Report {
+        long commands;
+        long rejected;
+        long elapsedNanos;
+        long p50Nanos;
+        long p99Nanos;
+
+        public double commandsPerSecond() {
+            return elapsedNanos == 0 ? 0 : commands * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package cli;
+
+import data.DoublyLinkedList;
+import data.DoublyLinkedListStore;
+import data.ListSnapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+/**
+ * One command received by a {@link ListServer}, parsed on the connection's thread and applied later by the
+ * {@link SingleWriterScheduler}. Commands use the interactive syntax, and each produces a single response line.
+ */
+final class ServerCommand {
+    static final String OK = "OK";
+    static final String ERROR = "ERR";
+    static final ServerCommand QUIT = new ServerCommand(Type.QUIT, null, 0);
+    static final ServerCommand INVALID = new ServerCommand(Type.INVALID, null, 0);
+
+    private final Type type;
+    private final String content;
+    private final int index;
+
+    private ServerCommand(Type type, String content, int index) {
+        this.type = type;
+        this.content = content;
+        this.index = index;
+    }
+
+    /**
+     * Parses the line {@code reader} has just read, which holds at least one token.
+     */
+    static ServerCommand parse(CommandReader reader) {
+        if (reader.tokenCount() > CommandReader.MAX_TOKENS) {
+            return INVALID;
+        }
+
+        if (reader.tokenCount() == 1) {
+            if (reader.tokenEqualsIgnoreCase(0, BatchRunner.PROGRAM_TERMINATE_INDICATOR)) {
+                return QUIT;
+            }
+            if (reader.tokenEqualsIgnoreCase(0, BatchRunner.PRINT_INDICATOR)) {
+                return new ServerCommand(Type.PRINT, null, 0);
+            }
+            if (reader.tokenEqualsIgnoreCase(0, BatchRunner.SAVE_INDICATOR)) {
+                return new ServerCommand(Type.SAVE, null, 0);
+            }
+            if (reader.tokenEqualsIgnoreCase(0, BatchRunner.LOAD_INDICATOR)) {
+                return new ServerCommand(Type.LOAD, null, 0);
+            }
+            if (reader.tokenEqualsIgnoreCase(0, BatchRunner.REMOVE_NODE_INDICATOR)) {
+                return INVALID;
+            }
+            return new ServerCommand(Type.ADD_TAIL, reader.token(0), 0);
+        }
+
+        if (reader.tokenEqualsIgnoreCase(0, BatchRunner.REMOVE_NODE_INDICATOR)) {
+            if (reader.tokenEqualsIgnoreCase(1, BatchRunner.HEAD_INDEX_INDICATOR)) {
+                return new ServerCommand(Type.REMOVE_HEAD, null, 0);
+            }
+            if (reader.tokenEqualsIgnoreCase(1, BatchRunner.TAIL_INDEX_INDICATOR)) {
+                return new ServerCommand(Type.REMOVE_TAIL, null, 0);
+            }
+            return reader.isIndex(1) ? new ServerCommand(Type.REMOVE_AT, null, reader.index(1)) : INVALID;
+        }
+
+        if (reader.tokenEqualsIgnoreCase(1, BatchRunner.HEAD_INDEX_INDICATOR)) {
+            return new ServerCommand(Type.ADD_HEAD, reader.token(0), 0);
+        }
+        if (reader.tokenEqualsIgnoreCase(1, BatchRunner.TAIL_INDEX_INDICATOR)) {
+            return new ServerCommand(Type.ADD_TAIL, reader.token(0), 0);
+        }
+        return reader.isIndex(1) ? new ServerCommand(Type.ADD_AT, reader.token(0), reader.index(1)) : INVALID;
+    }
+
+    boolean isQuit() {
+        return type == Type.QUIT;
+    }
+
+    /**
+     * Whether the command only reads the list, so it can be answered from a {@link ListSnapshot} by
+     * {@link #read} instead of by {@link #apply}.
+     */
+    boolean isRead() {
+        return type == Type.PRINT || type == Type.SAVE;
+    }
+
+    boolean isLoad() {
+        return type == Type.LOAD;
+    }
+
+    /**
+     * Applies the command to {@code list} and returns the response line. Changes are answered with
+     * {@code OK} and the new size; commands the interactive mode would reject are answered with {@code ERR}
+     * and leave the list untouched.
+     */
+    String apply(DoublyLinkedList list, Path listFile) {
+        switch (type) {
+            case ADD_HEAD:
+                list.addEngine(content);
+                return changed(list);
+            case ADD_TAIL:
+                list.addCaboose(content);
+                return changed(list);
+            case ADD_AT:
+                list.addNodeAtIndex(content, index);
+                return changed(list);
+            case REMOVE_HEAD:
+                if (list.getNodeCount() == 0) {
+                    return error("List is currently empty.");
+                }
+                list.removeHeadNode();
+                return changed(list);
+            case REMOVE_TAIL:
+                if (list.getNodeCount() == 0) {
+                    return error("List is currently empty.");
+                }
+                list.removeTailNode();
+                return changed(list);
+            case REMOVE_AT:
+                if (list.getNodeCount() == 0) {
+                    return error("List is currently empty.");
+                }
+                if (index < 0 || index >= list.getNodeCount()) {
+                    return error("Invalid index provided");
+                }
+                list.removeNodeAtIndex(index);
+                return changed(list);
+            case PRINT:
+            case SAVE:
+                try (ListSnapshot snapshot = list.snapshot()) {
+                    return read(snapshot, listFile);
+                }
+            case LOAD:
+                return load(list, listFile);
+            default:
+                return error("Invalid input.");
+        }
+    }
+
+    /**
+     * Answers a {@link #isRead() read} command from {@code snapshot}. May run on any thread.
+     */
+    String read(ListSnapshot snapshot, Path listFile) {
+        switch (type) {
+            case PRINT:
+                return snapshot.asString();
+            case SAVE:
+                return save(snapshot, listFile);
+            default:
+                throw new IllegalStateException(type + " does not only read the list.");
+        }
+    }
+
+    private static String save(ListSnapshot snapshot, Path listFile) {
+        try {
+            DoublyLinkedListStore.save(snapshot, listFile);
+            return OK + " File saved.";
+        } catch (IOException e) {
+            return error("Could not save to file. | " + e);
+        }
+    }
+
+    private static String load(DoublyLinkedList list, Path listFile) {
+        try {
+            if (!Files.exists(listFile)) {
+                throw new NoSuchFileException(listFile.toString());
+            }
+
+            DoublyLinkedListStore.replace(list, listFile);
+            return changed(list);
+        } catch (IOException e) {
+            return error("Could not load from file. | " + e);
+        }
+    }
+
+    private static String changed(DoublyLinkedList list) {
+        return OK + " " + list.getNodeCount();
+    }
+
+    private static String error(String message) {
+        return ERROR + " " + message;
+    }
+
+    private enum Type {
+        ADD_HEAD,
+        ADD_TAIL,
+        ADD_AT,
+        REMOVE_HEAD,
+        REMOVE_TAIL,
+        REMOVE_AT,
+        PRINT,
+        SAVE,
+        LOAD,
+        QUIT,
+        INVALID
+    }
+}
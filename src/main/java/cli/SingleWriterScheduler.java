@@ -0,0 +1,177 @@
+package cli;
+
+import data.DoublyLinkedList;
+import data.ListSnapshot;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Applies the commands of every connection of a {@link ListServer} on one thread, which is the only one to
+ * touch the list, so the list needs no locking and commands from different connections never interleave
+ * within a batch.
+ * <p>
+ * Connections submit whole pipelined batches. Each time the writer wakes up it takes every batch queued so
+ * far and applies them back to back, so a burst from many connections costs one wake-up rather than one per
+ * command.
+ * <p>
+ * {@code print} and {@code saveList} walk the whole list, so the writer only takes a {@link ListSnapshot}
+ * for them, in constant time, and a separate reader thread renders or saves it while the writer moves on.
+ * Reads run in the order they were taken, and {@code loadList} waits for the pending ones so it always
+ * sees the file the last save wrote.
+ */
+final class SingleWriterScheduler implements AutoCloseable {
+    private final DoublyLinkedList list;
+    private final Path listFile;
+    private final BlockingQueue<Batch> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private final ExecutorService reader = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "list-reader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private CompletableFuture<String> lastRead = CompletableFuture.completedFuture(null);
+    private volatile boolean running = true;
+
+    SingleWriterScheduler(DoublyLinkedList list, Path listFile) {
+        this.list = list;
+        this.listFile = listFile;
+        this.writer = new Thread(this::run, "list-writer");
+        this.writer.setDaemon(true);
+    }
+
+    void start() {
+        writer.start();
+    }
+
+    /**
+     * Queues {@code commands} to be applied in order; the future completes with one response per command.
+     */
+    CompletableFuture<List<String>> submit(List<ServerCommand> commands) {
+        Batch batch = new Batch(new ArrayList<>(commands));
+        queue.add(batch);
+        if (!running && queue.remove(batch)) {
+            batch.response.completeExceptionally(new IllegalStateException("Server is shutting down."));
+        }
+        return batch.response;
+    }
+
+    /**
+     * Stops the writer once it has finished its current batch and fails every batch still queued. Reads
+     * already handed to the reader thread still complete. An interrupt while waiting for the writer is
+     * kept for the caller.
+     */
+    @Override
+    public void close() {
+        running = false;
+        writer.interrupt();
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        reader.shutdown();
+
+        List<Batch> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        for (Batch batch : abandoned) {
+            batch.response.completeExceptionally(new IllegalStateException("Server is shutting down."));
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<Batch> ready = new ArrayList<>();
+        while (running) {
+            try {
+                ready.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(ready);
+
+            for (Batch batch : ready) {
+                try {
+                    apply(batch);
+                } catch (RuntimeException e) {
+                    batch.response.completeExceptionally(e);
+                }
+            }
+            ready.clear();
+        }
+    }
+
+    /**
+     * Applies the batch's writes in place. Reads are answered later from a snapshot, in which case the
+     * batch completes once the last of them has.
+     */
+    private void apply(Batch batch) {
+        List<CompletableFuture<String>> reads = null;
+        String[] responses = new String[batch.commands.size()];
+        for (int i = 0; i < responses.length; i++) {
+            ServerCommand command = batch.commands.get(i);
+            if (command.isRead()) {
+                if (Objects.isNull(reads)) {
+                    reads = new ArrayList<>();
+                }
+                int slot = i;
+                reads.add(read(command).thenApply(response -> responses[slot] = response));
+                continue;
+            }
+            if (command.isLoad()) {
+                lastRead.exceptionally(failure -> null).join();
+            }
+            responses[i] = command.apply(list, listFile);
+        }
+
+        if (Objects.isNull(reads)) {
+            batch.response.complete(Arrays.asList(responses));
+            return;
+        }
+        CompletableFuture.allOf(reads.toArray(new CompletableFuture<?>[0])).whenComplete((ignored, failure) -> {
+            if (Objects.isNull(failure)) {
+                batch.response.complete(Arrays.asList(responses));
+            } else {
+                batch.response.completeExceptionally(failure);
+            }
+        });
+    }
+
+    private CompletableFuture<String> read(ServerCommand command) {
+        ListSnapshot snapshot = list.snapshot();
+        try {
+            lastRead = CompletableFuture.supplyAsync(() -> {
+                try (ListSnapshot reading = snapshot) {
+                    return command.read(reading, listFile);
+                }
+            }, reader);
+        } catch (RejectedExecutionException e) {
+            snapshot.close();
+            throw e;
+        }
+        return lastRead;
+    }
+
+    private static final class Batch {
+        private final List<ServerCommand> commands;
+        private final CompletableFuture<List<String>> response = new CompletableFuture<>();
+
+        private Batch(List<ServerCommand> commands) {
+            this.commands = commands;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package data;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link DoublyLinkedList} whose link structure is kept in flat arrays instead of {@link Node} objects.
+ * <p>
+ * Elements are stored in an {@code Object[]} indexed by the slots of a {@link SlotLinks}, so the garbage
+ * collector traces a handful of arrays rather than one node per element. Every removal returns its slot
+ * to the free list, which means steady-state churn reuses slots and allocates nothing.
+ */
+public class ArrayBackedDoublyLinkedList {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final SlotLinks links;
+    private Object[] values;
+
+    public ArrayBackedDoublyLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayBackedDoublyLinkedList(int initialCapacity) {
+        links = new SlotLinks(initialCapacity);
+        values = new Object[links.capacity()];
+    }
+
+    public void addEngine(Object data) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        links.linkFirst(store(data));
+    }
+
+    public void addCaboose(Object data) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        links.linkLast(store(data));
+    }
+
+    public void addNodeAtIndex(Object data, Integer index) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        if (Objects.isNull(index) || index >= links.size()) {
+            addCaboose(data);
+            return;
+        }
+
+        if (index <= 0) {
+            addEngine(data);
+            return;
+        }
+
+        int successor = links.slotAt(index);
+        links.linkBefore(store(data), successor);
+    }
+
+    public void removeTailNode() {
+        if (isEmpty()) {
+            System.out.println("List is currently empty.");
+            return;
+        }
+
+        release(links.tail());
+    }
+
+    public void removeHeadNode() {
+        if (isEmpty()) {
+            System.out.println("List is currently empty.");
+            return;
+        }
+
+        release(links.head());
+    }
+
+    public void removeNodeAtIndex(Integer index) {
+        if (isEmpty()) {
+            System.out.println("List is currently empty.");
+            return;
+        }
+
+        if (Objects.isNull(index)
+                || index >= links.size()
+                || index < 0) {
+            System.out.println("Invalid index provided");
+            return;
+        }
+
+        release(links.slotAt(index));
+    }
+
+    public Object getDataAtIndex(Integer index) {
+        if (Objects.isNull(index)
+                || index >= links.size()
+                || index < 0) {
+            System.out.println("Invalid index provided");
+            return null;
+        }
+
+        return values[links.slotAt(index)];
+    }
+
+    public int getNodeCount() {
+        return links.size();
+    }
+
+    /**
+     * Passes every element to {@code action}, head to tail, following the slot links.
+     */
+    public void forEach(Consumer<? super Object> action) {
+        Objects.requireNonNull(action);
+        for (int slot = links.head(); slot != SlotLinks.NIL; slot = links.next(slot)) {
+            action.accept(values[slot]);
+        }
+    }
+
+    public void printContents() {
+        System.out.println(asString());
+    }
+
+    public String asString() {
+        StringBuilder content = new StringBuilder();
+        if (isNotEmpty()) {
+            content.append("{ ");
+            for (int slot = links.head(); slot != SlotLinks.NIL; slot = links.next(slot)) {
+                content.append("[ ").append(values[slot]).append(" ] ");
+            }
+            content.append("}");
+            return content.toString();
+        }
+
+        return "List is currently empty";
+    }
+
+    @VisibleForTesting
+    boolean isEmpty() {
+        return links.size() == 0;
+    }
+
+    @VisibleForTesting
+    boolean isNotEmpty() {
+        return !isEmpty();
+    }
+
+    @VisibleForTesting
+    int capacity() {
+        return values.length;
+    }
+
+    private void release(int slot) {
+        values[slot] = null;
+        links.unlink(slot);
+    }
+
+    private int store(Object data) {
+        int slot = links.allocate();
+        if (slot >= values.length) {
+            values = Arrays.copyOf(values, links.capacity());
+        }
+        values[slot] = data;
+        return slot;
+    }
+}
@@ -0,0 +1,134 @@
+package data;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bookkeeping shared by {@link LinkedCache} and {@link ConcurrentLinkedCache}: the map from keys to entries, the
+ * {@link EvictionOrder} and the weight accounting. It is not thread-safe; the concurrent cache calls every
+ * method but {@link #getEntry} under its lock.
+ */
+final class CacheCore<K, V> {
+    private final Map<K, CacheEntry<K, V>> entries;
+    private final EvictionOrder<K, V> order;
+    private final long maximumWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private final EvictionListener<? super K, ? super V> evictionListener;
+    private long weight;
+
+    CacheCore(Map<K, CacheEntry<K, V>> entries, long maximumWeight, CachePolicy policy,
+              Weigher<? super K, ? super V> weigher, EvictionListener<? super K, ? super V> evictionListener) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be positive: " + maximumWeight);
+        }
+        this.entries = entries;
+        this.order = Objects.requireNonNull(policy).newOrder(maximumWeight);
+        this.maximumWeight = maximumWeight;
+        this.weigher = Objects.requireNonNull(weigher);
+        this.evictionListener = Objects.requireNonNull(evictionListener);
+    }
+
+    CacheEntry<K, V> getEntry(Object key) {
+        return entries.get(Objects.requireNonNull(key));
+    }
+
+    /**
+     * Moves a live entry up the eviction order; entries removed since they were read are ignored.
+     */
+    void accessed(CacheEntry<K, V> entry) {
+        if (Objects.nonNull(entry.node)) {
+            order.accessed(entry);
+        }
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, evicting until the cache is within its capacity again, and returns the
+     * value previously mapped, or {@code null}. Room for a new entry is made before it is added, so it is never
+     * its own victim, unless it is heavier than the whole capacity; such an entry is evicted at once.
+     */
+    V put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        int entryWeight = weigher.weigh(key, value);
+        if (entryWeight < 0) {
+            throw new IllegalArgumentException("Weight must not be negative: " + entryWeight);
+        }
+
+        CacheEntry<K, V> entry = entries.get(key);
+        if (Objects.isNull(entry)) {
+            if (entryWeight > maximumWeight) {
+                evictionListener.onEviction(key, value);
+                return null;
+            }
+            while (weight + entryWeight > maximumWeight) {
+                evict(order.victim());
+            }
+            entry = new CacheEntry<>(key, value, entryWeight);
+            entries.put(key, entry);
+            order.added(entry);
+            weight += entryWeight;
+            return null;
+        }
+
+        V previous = entry.value;
+        int previousWeight = entry.weight;
+        entry.value = value;
+        entry.weight = entryWeight;
+        weight += entryWeight - previousWeight;
+        if (entryWeight != previousWeight) {
+            order.weightChanged(entry, previousWeight);
+        }
+        order.accessed(entry);
+
+        if (entryWeight > maximumWeight) {
+            evict(entry);
+        }
+        while (weight > maximumWeight) {
+            evict(order.victim());
+        }
+        return previous;
+    }
+
+    V remove(Object key) {
+        CacheEntry<K, V> entry = entries.remove(Objects.requireNonNull(key));
+        if (Objects.isNull(entry)) {
+            return null;
+        }
+
+        discard(entry);
+        return entry.value;
+    }
+
+    void clear() {
+        for (CacheEntry<K, V> entry : entries.values()) {
+            entry.node = null;
+            entry.owner = null;
+        }
+        entries.clear();
+        order.clear();
+        weight = 0;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long weight() {
+        return weight;
+    }
+
+    long maximumWeight() {
+        return maximumWeight;
+    }
+
+    private void evict(CacheEntry<K, V> victim) {
+        entries.remove(victim.key);
+        discard(victim);
+        evictionListener.onEviction(victim.key, victim.value);
+    }
+
+    private void discard(CacheEntry<K, V> entry) {
+        order.removed(entry);
+        weight -= entry.weight;
+    }
+}
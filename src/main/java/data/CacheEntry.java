@@ -0,0 +1,27 @@
+package data;
+
+/**
+ * A key and value held by a cache, together with the node that places it in its {@link EvictionOrder}.
+ * <p>
+ * The value is volatile so that {@link ConcurrentLinkedCache} can read it without locking; every other field
+ * is only touched by the thread that owns the cache, or under its lock.
+ */
+final class CacheEntry<K, V> {
+    final K key;
+    volatile V value;
+    int weight;
+    /**
+     * The node holding this entry, or {@code null} once it has been removed from the cache.
+     */
+    Node node;
+    /**
+     * Policy bookkeeping, such as the segment or frequency bucket the node belongs to.
+     */
+    Object owner;
+
+    CacheEntry(K key, V value, int weight) {
+        this.key = key;
+        this.value = value;
+        this.weight = weight;
+    }
+}
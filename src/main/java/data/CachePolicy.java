@@ -0,0 +1,40 @@
+package data;
+
+/**
+ * Which entry a {@link LinkedCache} or {@link ConcurrentLinkedCache} evicts when it is over capacity. Every
+ * policy keeps its entries in {@link DoublyLinkedList}s and reorders them in constant time on each access.
+ */
+public enum CachePolicy {
+    /**
+     * Least recently used: one list in access order, evicting from the tail.
+     */
+    LRU {
+        @Override
+        <K, V> EvictionOrder<K, V> newOrder(long maximumWeight) {
+            return new LruOrder<>();
+        }
+    },
+    /**
+     * Segmented LRU: new entries go into a probation segment and are promoted to a protected segment, which
+     * holds up to 80% of the capacity, on their second access. Entries read only once are evicted first, so a
+     * scan cannot flush out the frequently used ones.
+     */
+    SEGMENTED_LRU {
+        @Override
+        <K, V> EvictionOrder<K, V> newOrder(long maximumWeight) {
+            return new SegmentedLruOrder<>(maximumWeight);
+        }
+    },
+    /**
+     * Least frequently used: entries are grouped in buckets by access count, and the least recently used entry
+     * of the lowest bucket is evicted.
+     */
+    LFU {
+        @Override
+        <K, V> EvictionOrder<K, V> newOrder(long maximumWeight) {
+            return new LfuOrder<>();
+        }
+    };
+
+    abstract <K, V> EvictionOrder<K, V> newOrder(long maximumWeight);
+}
@@ -0,0 +1,254 @@
+package data;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Thread-safe counterpart of {@link DoublyLinkedList} for producers and consumers working both ends.
+ * <p>
+ * Head and tail operations are non-blocking and follow Michael's CAS-based deque: the list is an immutable
+ * anchor holding the head, the tail, the node count and whether an add still has a link to finish. Every
+ * add and removal is one compare-and-set that installs a new anchor, so threads never wait on a lock, and
+ * the count changes in the same step as the ends. An add links its node from one side only; the other link
+ * is finished by whichever thread next finds the anchor unstable, before it makes its own change.
+ * <p>
+ * Because each operation takes effect at its anchor CAS, {@link #getNodeCount()} and {@link #isEmpty()} are
+ * linearizable with the head and tail operations and cost one volatile read. Keeping the count in the
+ * anchor adds no write of its own: the CAS that carries it is the one the operation needs anyway.
+ */
+public class ConcurrentDoublyLinkedList {
+    private static final AtomicReferenceFieldUpdater<ConcurrentDoublyLinkedList, Anchor> ANCHOR =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentDoublyLinkedList.class, Anchor.class, "anchor");
+    private static final AtomicReferenceFieldUpdater<Link, Link> PREVIOUS =
+            AtomicReferenceFieldUpdater.newUpdater(Link.class, Link.class, "previous");
+    private static final AtomicReferenceFieldUpdater<Link, Link> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(Link.class, Link.class, "next");
+
+    private volatile Anchor anchor = Anchor.EMPTY;
+
+    public void addEngine(Object data) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        Link link = new Link(data);
+        while (true) {
+            Anchor current = anchor;
+            if (current.size == 0) {
+                if (ANCHOR.compareAndSet(this, current, new Anchor(link, link, Status.STABLE, 1))) {
+                    return;
+                }
+            } else if (current.status == Status.STABLE) {
+                link.next = current.head;
+                Anchor added = new Anchor(link, current.tail, Status.HEAD_ADDED, current.size + 1);
+                if (ANCHOR.compareAndSet(this, current, added)) {
+                    stabilizeHead(added);
+                    return;
+                }
+            } else {
+                stabilize(current);
+            }
+        }
+    }
+
+    public void addCaboose(Object data) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        Link link = new Link(data);
+        while (true) {
+            Anchor current = anchor;
+            if (current.size == 0) {
+                if (ANCHOR.compareAndSet(this, current, new Anchor(link, link, Status.STABLE, 1))) {
+                    return;
+                }
+            } else if (current.status == Status.STABLE) {
+                link.previous = current.tail;
+                Anchor added = new Anchor(current.head, link, Status.TAIL_ADDED, current.size + 1);
+                if (ANCHOR.compareAndSet(this, current, added)) {
+                    stabilizeTail(added);
+                    return;
+                }
+            } else {
+                stabilize(current);
+            }
+        }
+    }
+
+    /**
+     * Removes the head node and returns its data, or an empty optional when the list is empty.
+     */
+    public Optional<Object> removeHeadNode() {
+        while (true) {
+            Anchor current = anchor;
+            if (current.size == 0) {
+                return Optional.empty();
+            }
+            if (current.size == 1) {
+                if (ANCHOR.compareAndSet(this, current, Anchor.EMPTY)) {
+                    return Optional.of(current.head.data);
+                }
+            } else if (current.status == Status.STABLE) {
+                Link removed = current.head;
+                if (ANCHOR.compareAndSet(this, current,
+                        new Anchor(removed.next, current.tail, Status.STABLE, current.size - 1))) {
+                    removed.previous = null;
+                    return Optional.of(removed.data);
+                }
+            } else {
+                stabilize(current);
+            }
+        }
+    }
+
+    /**
+     * Removes the tail node and returns its data, or an empty optional when the list is empty.
+     */
+    public Optional<Object> removeTailNode() {
+        while (true) {
+            Anchor current = anchor;
+            if (current.size == 0) {
+                return Optional.empty();
+            }
+            if (current.size == 1) {
+                if (ANCHOR.compareAndSet(this, current, Anchor.EMPTY)) {
+                    return Optional.of(current.tail.data);
+                }
+            } else if (current.status == Status.STABLE) {
+                Link removed = current.tail;
+                if (ANCHOR.compareAndSet(this, current,
+                        new Anchor(current.head, removed.previous, Status.STABLE, current.size - 1))) {
+                    removed.next = null;
+                    return Optional.of(removed.data);
+                }
+            } else {
+                stabilize(current);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of nodes. The count is read from the same anchor the head and tail operations
+     * replace, so it is exact at the moment of the read even while other threads change the list.
+     */
+    public int getNodeCount() {
+        return anchor.size;
+    }
+
+    public boolean isEmpty() {
+        return anchor.size == 0;
+    }
+
+    public void printContents() {
+        System.out.println(asString());
+    }
+
+    /**
+     * Renders the list as seen by a weakly consistent traversal: every node present for the whole call is
+     * included, nodes added or removed concurrently may or may not be.
+     */
+    public String asString() {
+        Anchor current = anchor;
+        while (current.status != Status.STABLE) {
+            stabilize(current);
+            current = anchor;
+        }
+
+        StringBuilder content = new StringBuilder();
+        Link link = current.head;
+        for (int i = 0; i < current.size && Objects.nonNull(link); i++) {
+            content.append("[ ").append(link.data).append(" ] ");
+            link = link.next;
+        }
+
+        if (content.length() == 0) {
+            return "List is currently empty";
+        }
+        return "{ " + content + "}";
+    }
+
+    private void stabilize(Anchor current) {
+        if (current.status == Status.HEAD_ADDED) {
+            stabilizeHead(current);
+        } else {
+            stabilizeTail(current);
+        }
+    }
+
+    /**
+     * Points the old head back at the node {@code added} put before it, then marks the anchor stable. Every
+     * step gives up once the anchor has moved on, since another thread has finished the job by then.
+     */
+    private void stabilizeHead(Anchor added) {
+        Link oldHead = added.head.next;
+        if (anchor != added) {
+            return;
+        }
+        Link oldHeadPrevious = oldHead.previous;
+        if (oldHeadPrevious != added.head) {
+            if (anchor != added || !PREVIOUS.compareAndSet(oldHead, oldHeadPrevious, added.head)) {
+                return;
+            }
+        }
+        ANCHOR.compareAndSet(this, added, new Anchor(added.head, added.tail, Status.STABLE, added.size));
+    }
+
+    /**
+     * Points the old tail at the node {@code added} put after it, then marks the anchor stable.
+     */
+    private void stabilizeTail(Anchor added) {
+        Link oldTail = added.tail.previous;
+        if (anchor != added) {
+            return;
+        }
+        Link oldTailNext = oldTail.next;
+        if (oldTailNext != added.tail) {
+            if (anchor != added || !NEXT.compareAndSet(oldTail, oldTailNext, added.tail)) {
+                return;
+            }
+        }
+        ANCHOR.compareAndSet(this, added, new Anchor(added.head, added.tail, Status.STABLE, added.size));
+    }
+
+    private enum Status {
+        STABLE, HEAD_ADDED, TAIL_ADDED
+    }
+
+    /**
+     * The ends and node count of the list at one moment. Anchors are never changed or reused, so a
+     * successful CAS from an anchor proves nothing happened since it was read.
+     */
+    private static final class Anchor {
+        private static final Anchor EMPTY = new Anchor(null, null, Status.STABLE, 0);
+
+        private final Link head;
+        private final Link tail;
+        private final Status status;
+        private final int size;
+
+        private Anchor(Link head, Link tail, Status status, int size) {
+            this.head = head;
+            this.tail = tail;
+            this.status = status;
+            this.size = size;
+        }
+    }
+
+    /**
+     * A node of the list. A removed node keeps its link towards the rest of the list for traversals still
+     * passing through it, and drops the one away from it so a run of removed nodes does not stay reachable.
+     */
+    private static final class Link {
+        private final Object data;
+        volatile Link previous;
+        volatile Link next;
+
+        private Link(Object data) {
+            this.data = data;
+        }
+    }
+}
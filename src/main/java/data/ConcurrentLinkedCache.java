@@ -0,0 +1,193 @@
+package data;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe {@link LinkedCache}. Lookups go through a {@link ConcurrentHashMap} and never block; instead of
+ * relinking the entry right away, a hit is recorded in one of several small ring buffers, picked by thread so
+ * that readers rarely share one. Writes take a lock, replay the buffered hits into the eviction order, and then
+ * update the map and evict as the single-threaded cache does. A reader that finds its buffer full replays the
+ * buffers itself if the lock is free.
+ * <p>
+ * The buffers are lossy: a hit that arrives when its buffer is full or contended is dropped. The eviction order
+ * is therefore approximate under heavy read load, which costs a little hit rate but keeps reads from
+ * contending on the lists. The capacity itself is always respected.
+ */
+public final class ConcurrentLinkedCache<K, V> {
+    @VisibleForTesting
+    static final int BUFFER_SIZE = 64;
+
+    private final ConcurrentHashMap<K, CacheEntry<K, V>> entries = new ConcurrentHashMap<>();
+    private final CacheCore<K, V> core;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReadBuffer[] buffers;
+
+    public ConcurrentLinkedCache(long maximumSize) {
+        this(maximumSize, CachePolicy.LRU);
+    }
+
+    public ConcurrentLinkedCache(long maximumSize, CachePolicy policy) {
+        this(maximumSize, policy, (key, value) -> 1, (key, value) -> {
+        });
+    }
+
+    /**
+     * The eviction listener is called while the cache's lock is held.
+     */
+    public ConcurrentLinkedCache(long maximumWeight, CachePolicy policy, Weigher<? super K, ? super V> weigher,
+                                 EvictionListener<? super K, ? super V> evictionListener) {
+        this.core = new CacheCore<>(entries, maximumWeight, policy, weigher, evictionListener);
+        int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1) << 1);
+        this.buffers = new ReadBuffer[stripes];
+        for (int i = 0; i < stripes; i++) {
+            buffers[i] = new ReadBuffer();
+        }
+    }
+
+    /**
+     * The value mapped to {@code key}, or {@code null}. A hit counts as a use of the entry once the buffered
+     * hits are next replayed.
+     */
+    public V get(Object key) {
+        CacheEntry<K, V> entry = core.getEntry(key);
+        if (Objects.isNull(entry)) {
+            return null;
+        }
+
+        V value = entry.value;
+        if (!buffers[stripe()].offer(entry) && lock.tryLock()) {
+            try {
+                drainBuffers();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return value;
+    }
+
+    public V put(K key, V value) {
+        lock.lock();
+        try {
+            drainBuffers();
+            return core.put(key, value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public V remove(Object key) {
+        lock.lock();
+        try {
+            drainBuffers();
+            return core.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean containsKey(Object key) {
+        return Objects.nonNull(core.getEntry(key));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long weight() {
+        lock.lock();
+        try {
+            return core.weight();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long maximumWeight() {
+        return core.maximumWeight();
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            drainBuffers();
+            core.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replays every buffered hit into the eviction order now rather than at the next write.
+     */
+    public void cleanUp() {
+        lock.lock();
+        try {
+            drainBuffers();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drainBuffers() {
+        for (ReadBuffer buffer : buffers) {
+            buffer.drain(entry -> core.accessed((CacheEntry<K, V>) entry));
+        }
+    }
+
+    private int stripe() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ id >>> 32) * 0x9E3779B9;
+        return (hash ^ hash >>> 16) & (buffers.length - 1);
+    }
+
+    /**
+     * Ring buffer with any number of writers and a single reader, which holds the cache's lock. A writer claims
+     * a slot by advancing {@code writes} and then fills it; the reader stops at a claimed slot that is not yet
+     * filled and picks it up on its next drain.
+     */
+    private static final class ReadBuffer {
+        private static final int MASK = BUFFER_SIZE - 1;
+
+        private final AtomicReferenceArray<CacheEntry<?, ?>> slots = new AtomicReferenceArray<>(BUFFER_SIZE);
+        private final AtomicLong writes = new AtomicLong();
+        private volatile long reads;
+
+        /**
+         * Records a hit, or returns {@code false} without recording it if the buffer is full. A hit that loses
+         * the race for a slot is dropped.
+         */
+        private boolean offer(CacheEntry<?, ?> entry) {
+            long claimed = writes.get();
+            if (claimed - reads >= BUFFER_SIZE) {
+                return false;
+            }
+            if (writes.compareAndSet(claimed, claimed + 1)) {
+                slots.lazySet((int) claimed & MASK, entry);
+            }
+            return true;
+        }
+
+        private void drain(Consumer<CacheEntry<?, ?>> consumer) {
+            long read = reads;
+            long claimed = writes.get();
+            for (; read < claimed; read++) {
+                int slot = (int) read & MASK;
+                CacheEntry<?, ?> entry = slots.get(slot);
+                if (Objects.isNull(entry)) {
+                    break;
+                }
+                slots.lazySet(slot, null);
+                consumer.accept(entry);
+            }
+            reads = read;
+        }
+    }
+}
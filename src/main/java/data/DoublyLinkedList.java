@@ -1,69 +1,171 @@
 package data;
 
 import com.google.common.annotations.VisibleForTesting;
-import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.AbstractSequentialList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
-@Data
-public class DoublyLinkedList {
+/**
+ * Doubly linked list that is also a {@link java.util.List} and a {@link Deque}.
+ * <p>
+ * The original head, tail and index operations report invalid input on the console and carry on. The
+ * {@code java.util} methods follow their interface contracts instead: they throw on {@code null} elements,
+ * bad indexes and empty-list reads. Iterators and spliterators are fail-fast: any structural change not made
+ * through the iterator itself makes its next use throw {@link ConcurrentModificationException}.
+ * <p>
+ * {@link #hashCode()} is the standard {@link List} hash, {@code 31^n + sum(hash(e_i) * 31^(n-1-i))}, kept up
+ * to date as the list changes: adding or removing at either end and replacing an element adjust it in
+ * constant time (removals multiply by the inverse of 31 modulo 2^32). Inserting or removing in the middle
+ * marks it stale, and the next {@code hashCode()} recomputes it in one pass. The cache assumes element hash
+ * codes do not change while the elements are in the list.
+ */
+public class DoublyLinkedList extends AbstractSequentialList<Object> implements Deque<Object> {
+    private static final int PRINT_BUFFER_SIZE = 8 * 1024;
+    private static final int HASH_MULTIPLIER = 31;
+    private static final int HASH_MULTIPLIER_INVERSE = 0xBDEF7BDF;
+    private static final int UNKNOWN_INDEX = -1;
+
+    @Getter
     private Node head;
+    @Getter
     private Node tail;
-    private Integer nodeCount = 0;
+    @Getter
+    private int nodeCount = 0;
+    private PositionIndex positions = new FingerCache();
+    private ValueIndex valueIndex;
+    /**
+     * Optional source of recycled nodes. When set, nodes unlinked by the remove operations are returned to
+     * the pool and reused by the add operations, so steady-state churn allocates nothing. Node references
+     * obtained from this list must not be used after their element is removed, since the node may already
+     * hold another element. {@link #clear()} and splicing do not recycle.
+     */
+    @Getter
+    @Setter
+    private NodePool nodePool;
+    /**
+     * Optional {@link ListMetrics} that records every head, tail and positional operation and every other
+     * change of size, see {@link ListOperation}. Without it the only cost is a {@code null} check per operation.
+     */
+    @Getter
+    @Setter
+    private ListMetrics metrics;
+    private int hash = 1;
+    private int hashPower = 1;
+    private boolean hashStale = false;
+    private int relinkCount = 0;
+    /**
+     * Tells node writes whether an open snapshot can reach this list's nodes; {@code null} until the list
+     * takes a snapshot or receives nodes from a list that has one.
+     */
+    private SnapshotScope snapshots;
+
+    /**
+     * Creates a list whose positional operations ({@link #addNodeAtIndex}, {@link #removeNodeAtIndex}
+     * and {@link #getNodeAtIndex}) run in O(log n) expected time, backed by an indexable skip list.
+     * Head and tail operations keep their ordering semantics and stay constant-time apart from a
+     * bounded per-lane span update; they find their place in the skip list without descending it.
+     * <p>
+     * Operations the index cannot follow incrementally drop it instead: {@link #splice}, {@link #concat},
+     * {@link #split}, the {@code addAll} variants, {@link #moveToHead(Object)}, {@link #insertAfter},
+     * {@link #remove(Object)}, sorting, and edits made through a {@link ListCursor} or iterator. The next
+     * positional call then rebuilds the index in one O(n) pass, so alternating them with positional calls
+     * costs O(n) each time.
+     */
+    public static DoublyLinkedList indexed() {
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.positions = new SkipListIndex();
+        return list;
+    }
+
+    /**
+     * Creates a list that also indexes its nodes by value, so that {@link #contains(Object)},
+     * {@link #remove(Object)}, {@link #moveToHead(Object)} and {@link #insertAfter(Object, Object)} find a
+     * value held by a single node in O(1) expected time. Every change also updates a hash map, and splices and
+     * splits walk the nodes they move.
+     */
+    public static DoublyLinkedList valueIndexed() {
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.valueIndex = new ValueIndex();
+        return list;
+    }
 
     public void addEngine(Object data) {
         if (Objects.isNull(data)) {
-            System.out.println("No data provided.");
+            reject(ListOperation.ADD_ENGINE, "No data provided.");
             return;
         }
 
-        Node node = new Node()
-                .setData(data);
+        long start = startTimer();
+        Node node = newNode()
+                .initialize(data, null, head);
 
         if (isEmpty()) {
-            head = node;
             tail = node;
-            nodeCount++;
-            return;
+        } else {
+            head.setPrevious(node);
         }
-
-        head.setPrevious(node);
-        head = node
-                .setNext(head)
-                .setPrevious(null);
+        head = node;
         nodeCount++;
+        modCount++;
+        hashInsertedFirst(data);
+        positions.inserted(0, node);
+        valueAdded(node);
+        recordOperation(ListOperation.ADD_ENGINE, start, 0);
     }
 
     public void addCaboose(Object data) {
         if (Objects.isNull(data)) {
-            System.out.println("No data provided.");
+            reject(ListOperation.ADD_CABOOSE, "No data provided.");
             return;
         }
 
-        Node node = new Node()
-                .setData(data);
+        long start = startTimer();
+        Node node = newNode()
+                .initialize(data, tail, null);
 
         if (isEmpty()) {
             head = node;
-            tail = node;
-            nodeCount++;
-            return;
+        } else {
+            tail.setNext(node, snapshots);
         }
-
-        tail.setNext(node);
-        tail = node
-                .setPrevious(tail)
-                .setNext(null);
+        tail = node;
         nodeCount++;
+        modCount++;
+        hashInsertedLast(data);
+        positions.inserted(nodeCount - 1, node);
+        valueAdded(node);
+        recordOperation(ListOperation.ADD_CABOOSE, start, 0);
     }
 
     public void addNodeAtIndex(Object data, Integer index) {
         if (Objects.isNull(data)) {
-            System.out.println("No data provided.");
+            reject(ListOperation.ADD_AT_INDEX, "No data provided.");
             return;
         }
 
-        if (Objects.isNull(index) || index > nodeCount + 1) {
+        if (Objects.isNull(index) || index >= nodeCount) {
             addCaboose(data);
             return;
         }
@@ -73,36 +175,42 @@ public class DoublyLinkedList {
             return;
         }
 
-        Node indexNode = head;
-        Node newNode = new Node()
-                .setData(data);
-        for (int i = 0; i < index; i++) {
-            indexNode = indexNode.getNext();
-        }
-
-        newNode.setPrevious(indexNode.getPrevious())
-                .setNext(indexNode);
-        indexNode.getPrevious().setNext(newNode);
-        indexNode.setPrevious(newNode);
-        nodeCount++;
+        long start = startTimer();
+        linkBefore(data, positions.nodeAt(head, tail, nodeCount, index), index, null);
+        recordOperation(ListOperation.ADD_AT_INDEX, start, positions.lastTraversal());
     }
 
     public void removeTailNode() {
         if (isEmpty()) {
-            System.out.println("List is currently empty.");
+            reject(ListOperation.REMOVE_TAIL, "List is currently empty.");
             return;
         }
 
-        tail = tail.getPrevious().setNext(null);
+        long start = startTimer();
+        Node removed = tail;
+        if (Objects.nonNull(tail.getPrevious())) {
+            tail = tail.getPrevious().setNext(null, snapshots);
+        } else {
+            head = null;
+            tail = null;
+        }
         nodeCount--;
+        modCount++;
+        hashRemovedLast(removed.getData());
+        positions.removed(nodeCount, removed);
+        valueRemoved(removed);
+        recycle(removed);
+        recordOperation(ListOperation.REMOVE_TAIL, start, 0);
     }
 
     public void removeHeadNode() {
         if (isEmpty()) {
-            System.out.println("List is currently empty.");
+            reject(ListOperation.REMOVE_HEAD, "List is currently empty.");
             return;
         }
 
+        long start = startTimer();
+        Node removed = head;
         if (Objects.nonNull(head.getNext())) {
             head = head.getNext().setPrevious(null);
         } else {
@@ -110,18 +218,24 @@ public class DoublyLinkedList {
             tail = null;
         }
         nodeCount--;
+        modCount++;
+        hashRemovedFirst(removed.getData());
+        positions.removed(0, removed);
+        valueRemoved(removed);
+        recycle(removed);
+        recordOperation(ListOperation.REMOVE_HEAD, start, 0);
     }
 
     public void removeNodeAtIndex(Integer index) {
         if (isEmpty()) {
-            System.out.println("List is currently empty.");
+            reject(ListOperation.REMOVE_AT_INDEX, "List is currently empty.");
             return;
         }
 
         if (Objects.isNull(index)
                 || index >= nodeCount
                 || index < 0) {
-            System.out.println("Invalid index provided");
+            reject(ListOperation.REMOVE_AT_INDEX, "Invalid index provided");
             return;
         }
 
@@ -135,44 +249,1239 @@ public class DoublyLinkedList {
             return;
         }
 
-        Node indexNode = head;
-        for (int i = 0; i < index; i++) {
-            indexNode = indexNode.getNext();
+        long start = startTimer();
+        unlink(positions.nodeAt(head, tail, nodeCount, index), index, null);
+        recordOperation(ListOperation.REMOVE_AT_INDEX, start, positions.lastTraversal());
+    }
+
+    public Node getNodeAtIndex(Integer index) {
+        if (Objects.isNull(index)
+                || index >= nodeCount
+                || index < 0) {
+            reject(ListOperation.GET_AT_INDEX, "Invalid index provided");
+            return null;
+        }
+
+        long start = startTimer();
+        Node node = positions.nodeAt(head, tail, nodeCount, index);
+        recordOperation(ListOperation.GET_AT_INDEX, start, positions.lastTraversal());
+        return node;
+    }
+
+    @Override
+    public void clear() {
+        long start = startTimer();
+        head = null;
+        tail = null;
+        nodeCount = 0;
+        modCount++;
+        relinkCount++;
+        hash = 1;
+        hashPower = 1;
+        hashStale = false;
+        positions.clear();
+        if (Objects.nonNull(valueIndex)) {
+            valueIndex.clear();
+        }
+        recordOperation(ListOperation.CLEAR, start, 0);
+    }
+
+    /**
+     * Moves every node of {@code other} to the end of this list in O(1), leaving {@code other} empty.
+     */
+    public void concat(DoublyLinkedList other) {
+        splice(other, null);
+    }
+
+    /**
+     * Moves every node of {@code other} into this list in front of {@code atNode}, which must be a node of
+     * this list, or to the end when {@code atNode} is {@code null}. Runs in O(1) and leaves {@code other}
+     * empty.
+     */
+    public void splice(DoublyLinkedList other, Node atNode) {
+        if (Objects.isNull(other)) {
+            reject(ListOperation.SPLICE, "No data provided.");
+            return;
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot splice a list into itself.");
+        }
+        if (other.isEmpty()) {
+            return;
+        }
+
+        long start = startTimer();
+        inheritSnapshots(other);
+        attach(other.head, other.tail, other.nodeCount, other.hash, other.hashPower, other.hashStale, atNode);
+        other.clear();
+        recordOperation(ListOperation.SPLICE, start, 0);
+    }
+
+    /**
+     * Cuts this list in front of {@code index}: this list keeps the first {@code index} elements and the rest
+     * are moved, without copying, to the returned list. Costs only the walk to the split point, plus a walk
+     * over the moved elements when the list is {@link #valueIndexed()}.
+     */
+    public DoublyLinkedList split(Integer index) {
+        if (Objects.isNull(index)
+                || index > nodeCount
+                || index < 0) {
+            reject(ListOperation.SPLIT, "Invalid index provided");
+            return null;
         }
 
-        Node tmpNode = indexNode;
-        indexNode.getPrevious().setNext(tmpNode.getNext());
-        indexNode.getNext().setPrevious(tmpNode.getPrevious());
-        nodeCount--;
+        DoublyLinkedList suffix = new DoublyLinkedList();
+        suffix.positions = positions.newIndex();
+        suffix.nodePool = nodePool;
+        if (Objects.nonNull(valueIndex)) {
+            suffix.valueIndex = new ValueIndex();
+        }
+        if (index == nodeCount) {
+            return suffix;
+        }
+
+        long start = startTimer();
+        Node first = positions.nodeAt(head, tail, nodeCount, index);
+        int traversed = positions.lastTraversal();
+        if (Objects.nonNull(valueIndex)) {
+            valueIndex.removedChain(first, tail);
+            suffix.valueIndex.addedChain(first, tail);
+        }
+        suffix.head = first;
+        suffix.tail = tail;
+        suffix.nodeCount = nodeCount - index;
+        suffix.hashPower = power(suffix.nodeCount);
+        suffix.hashStale = true;
+        suffix.positions.invalidate();
+        suffix.inheritSnapshots(this);
+
+        if (index == 0) {
+            head = null;
+            tail = null;
+        } else {
+            tail = first.getPrevious().setNext(null, snapshots);
+        }
+        first.setPrevious(null);
+        nodeCount = index;
+        modCount++;
+        relinkCount++;
+        hashPower = power(index);
+        hashStale = true;
+        positions.invalidate();
+        recordOperation(ListOperation.SPLIT, start, traversed);
+        return suffix;
+    }
+
+    /**
+     * Moves the first node holding {@code value} to the head of the list, keeping the node itself. Returns
+     * {@code false} if no node holds it.
+     */
+    public boolean moveToHead(Object value) {
+        Node node = firstNodeOf(value);
+        if (Objects.isNull(node)) {
+            return false;
+        }
+
+        moveToHead(node);
+        return true;
+    }
+
+    /**
+     * Inserts {@code newValue} right after the first node holding {@code value}. Returns {@code false},
+     * leaving the list unchanged, if no node holds it.
+     */
+    public boolean insertAfter(Object value, Object newValue) {
+        if (Objects.isNull(newValue)) {
+            reject(ListOperation.ADD_AT_NODE, "No data provided.");
+            return false;
+        }
+
+        Node node = firstNodeOf(value);
+        if (Objects.isNull(node)) {
+            return false;
+        }
+
+        linkBefore(newValue, node.getNext(), UNKNOWN_INDEX, ListOperation.ADD_AT_NODE);
+        return true;
+    }
+
+    /**
+     * Sorts the list stably, in place, by relinking its nodes with a bottom-up merge sort: no element is copied
+     * and no array is allocated. A {@code null} comparator sorts by natural order. If the comparator throws,
+     * the list is left in its original order.
+     */
+    @Override
+    public void sort(Comparator<? super Object> comparator) {
+        sortNodes(comparator, false);
+    }
+
+    /**
+     * Same as {@link #sort(Comparator)}, but sorts chunks of the list on the common fork/join pool and merges
+     * them pairwise in parallel. The comparator must be safe to call from several threads.
+     */
+    public void parallelSort(Comparator<? super Object> comparator) {
+        sortNodes(comparator, true);
+    }
+
+    /**
+     * Returns a new list holding {@code mapper} applied to every element, in order, computed on the common
+     * fork/join pool. The mapper must not return {@code null} or change this list.
+     */
+    public DoublyLinkedList parallelMap(Function<Object, ?> mapper) {
+        return ParallelOperations.map(this, Objects.requireNonNull(mapper));
+    }
+
+    /**
+     * Returns a new list holding, in order, the elements that match {@code predicate}, computed on the common
+     * fork/join pool.
+     */
+    public DoublyLinkedList parallelFilter(Predicate<Object> predicate) {
+        return ParallelOperations.filter(this, Objects.requireNonNull(predicate));
+    }
+
+    /**
+     * Folds the elements on the common fork/join pool: each chunk is folded from {@code identity} with
+     * {@code accumulator} and the chunk results are joined with {@code combiner}, as in
+     * {@link java.util.stream.Stream#reduce(Object, BiFunction, BinaryOperator)}.
+     */
+    public <R> R parallelReduce(R identity, BiFunction<R, Object, R> accumulator, BinaryOperator<R> combiner) {
+        return ParallelOperations.reduce(this, identity, Objects.requireNonNull(accumulator),
+                Objects.requireNonNull(combiner));
+    }
+
+    public Object parallelReduce(Object identity, BinaryOperator<Object> accumulator) {
+        return parallelReduce(identity, accumulator, accumulator);
+    }
+
+    /**
+     * Returns a {@link ListCursor} on the head node.
+     */
+    public ListCursor cursor() {
+        return new ListCursor(this, head);
+    }
+
+    /**
+     * Returns a {@link ListCursor} on the node at {@code index}, which costs one positional lookup.
+     */
+    public ListCursor cursorAt(int index) {
+        checkElementIndex(index);
+        return new ListCursor(this, positions.nodeAt(head, tail, nodeCount, index));
+    }
+
+    /**
+     * Returns an immutable view of the list as it is now, in constant time. Other threads may read the
+     * snapshot while this list keeps changing; nodes keep the old values it needs until it is closed.
+     * Must be called from the thread that changes the list.
+     */
+    public ListSnapshot snapshot() {
+        if (Objects.isNull(snapshots)) {
+            snapshots = new SnapshotScope();
+        }
+        return new ListSnapshot(head, nodeCount, snapshots);
+    }
+
+    /**
+     * Whether changes to this list's nodes are currently recorded for an open snapshot.
+     */
+    boolean isRecordingRevisions() {
+        return Objects.nonNull(snapshots) && snapshots.isRecording();
     }
 
     public void printContents() {
-        System.out.println(asString());
+        print(0, nodeCount);
+    }
+
+    /**
+     * Prints only the elements within {@code radius} positions of {@code index}, so that showing the effect
+     * of an edit costs O(radius) output no matter how long the list is.
+     */
+    public void printAround(int index, int radius) {
+        print(windowStart(index, radius), windowEnd(index, radius));
     }
 
     public String asString() {
-        StringBuilder content = new StringBuilder();
-        if (isNotEmpty()) {
-            Node current = head;
-            content.append("{ ");
-            while (Objects.nonNull(current)) {
-                content.append("[ ").append(current.getData()).append(" ] ");
-                current = current.getNext();
+        StringBuilder content = new StringBuilder((int) Math.min(Integer.MAX_VALUE - 8, 4L + 8L * nodeCount));
+        try {
+            renderRange(content, 0, nodeCount);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return content.toString();
+    }
+
+    /**
+     * Writes the whole list to {@code out} in the {@link #asString()} format, without building it in memory first.
+     */
+    public void render(Appendable out) throws IOException {
+        renderRange(out, 0, nodeCount);
+    }
+
+    public void renderHead(Appendable out, int count) throws IOException {
+        renderRange(out, 0, count);
+    }
+
+    public void renderTail(Appendable out, int count) throws IOException {
+        renderRange(out, nodeCount - count, nodeCount);
+    }
+
+    public void renderAround(Appendable out, int index, int radius) throws IOException {
+        renderRange(out, windowStart(index, radius), windowEnd(index, radius));
+    }
+
+    /**
+     * Writes the elements at positions {@code [from, to)}, clamped to the list, in the {@link #asString()}
+     * format. Elements left out on either side are summarised as {@code ... (n more)}. Only the window is
+     * walked, starting from the closest position the index knows about.
+     */
+    public void renderRange(Appendable out, int from, int to) throws IOException {
+        if (isEmpty()) {
+            out.append("List is currently empty");
+            return;
+        }
+
+        int start = Math.max(0, Math.min(from, nodeCount));
+        int end = Math.max(start, Math.min(to, nodeCount));
+
+        out.append("{ ");
+        if (start > 0) {
+            out.append("... (").append(String.valueOf(start)).append(" more) ");
+        }
+
+        Node current = start < end ? positions.nodeAt(head, tail, nodeCount, start) : null;
+        for (int i = start; i < end; i++) {
+            out.append("[ ").append(String.valueOf(current.getData())).append(" ] ");
+            current = current.getNext();
+        }
+
+        if (end < nodeCount) {
+            out.append("... (").append(String.valueOf(nodeCount - end)).append(" more) ");
+        }
+        out.append("}");
+    }
+
+    @Override
+    public int size() {
+        return nodeCount;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return nodeCount == 0;
+    }
+
+    @Override
+    public Object get(int index) {
+        checkElementIndex(index);
+        long start = startTimer();
+        Object data = positions.nodeAt(head, tail, nodeCount, index).getData();
+        recordOperation(ListOperation.GET_AT_INDEX, start, positions.lastTraversal());
+        return data;
+    }
+
+    @Override
+    public Object set(int index, Object element) {
+        Objects.requireNonNull(element);
+        checkElementIndex(index);
+        long start = startTimer();
+        Object previous = replaceData(positions.nodeAt(head, tail, nodeCount, index), index, element);
+        recordOperation(ListOperation.SET_AT_INDEX, start, positions.lastTraversal());
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Object element) {
+        Objects.requireNonNull(element);
+        if (index < 0 || index > nodeCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + nodeCount);
+        }
+        addNodeAtIndex(element, index);
+    }
+
+    @Override
+    public Object remove(int index) {
+        checkElementIndex(index);
+        if (index == 0) {
+            return removeFirst();
+        }
+        if (index == nodeCount - 1) {
+            return removeLast();
+        }
+
+        long start = startTimer();
+        Node node = positions.nodeAt(head, tail, nodeCount, index);
+        Object data = node.getData();
+        unlink(node, index, null);
+        recordOperation(ListOperation.REMOVE_AT_INDEX, start, positions.lastTraversal());
+        return data;
+    }
+
+    @Override
+    public boolean add(Object element) {
+        addLast(element);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return Objects.nonNull(valueIndex) ? valueIndex.contains(element) : super.contains(element);
+    }
+
+    /**
+     * Removes the first occurrence of {@code element}, found through the value index when the list has one.
+     */
+    @Override
+    public boolean remove(Object element) {
+        if (Objects.isNull(valueIndex)) {
+            return super.remove(element);
+        }
+
+        Node node = valueIndex.first(head, element);
+        if (Objects.isNull(node)) {
+            return false;
+        }
+        unlink(node, UNKNOWN_INDEX, ListOperation.REMOVE_AT_NODE);
+        return true;
+    }
+
+    /**
+     * Links the whole batch privately, checking it for {@code null} elements before anything is attached,
+     * and then appends it with a single tail update.
+     */
+    @Override
+    public boolean addAll(Collection<?> elements) {
+        return linkBatch(elements, null);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<?> elements) {
+        if (index < 0 || index > nodeCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + nodeCount);
+        }
+        return linkBatch(elements, index == nodeCount ? null : positions.nodeAt(head, tail, nodeCount, index));
+    }
+
+    public boolean addAll(Object... elements) {
+        return addAll(Arrays.asList(elements));
+    }
+
+    @Override
+    public ListIterator<Object> listIterator(int index) {
+        if (index < 0 || index > nodeCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + nodeCount);
+        }
+        return new NodeIterator(index);
+    }
+
+    @Override
+    public Iterator<Object> descendingIterator() {
+        NodeIterator iterator = new NodeIterator(nodeCount);
+        return new Iterator<Object>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
             }
-            content.append("}");
-            return content.toString();
+
+            @Override
+            public Object next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator that splits in constant time after a single pass over the list; see
+     * {@link NodeSpliterator}.
+     */
+    @Override
+    public Spliterator<Object> spliterator() {
+        return new NodeSpliterator(this, head, 0, nodeCount);
+    }
+
+    @Override
+    public void addFirst(Object element) {
+        addEngine(Objects.requireNonNull(element));
+    }
+
+    @Override
+    public void addLast(Object element) {
+        addCaboose(Objects.requireNonNull(element));
+    }
+
+    @Override
+    public boolean offerFirst(Object element) {
+        addFirst(element);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(Object element) {
+        addLast(element);
+        return true;
+    }
+
+    @Override
+    public Object removeFirst() {
+        Object data = getFirst();
+        removeHeadNode();
+        return data;
+    }
+
+    @Override
+    public Object removeLast() {
+        Object data = getLast();
+        removeTailNode();
+        return data;
+    }
+
+    @Override
+    public Object pollFirst() {
+        return isEmpty() ? null : removeFirst();
+    }
+
+    @Override
+    public Object pollLast() {
+        return isEmpty() ? null : removeLast();
+    }
+
+    @Override
+    public Object getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
         }
+        return head.getData();
+    }
+
+    @Override
+    public Object getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return tail.getData();
+    }
+
+    @Override
+    public Object peekFirst() {
+        return isEmpty() ? null : head.getData();
+    }
 
-        return "List is currently empty";
+    @Override
+    public Object peekLast() {
+        return isEmpty() ? null : tail.getData();
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object element) {
+        return remove(element);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object element) {
+        Iterator<Object> iterator = descendingIterator();
+        while (iterator.hasNext()) {
+            if (Objects.equals(element, iterator.next())) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean offer(Object element) {
+        return offerLast(element);
+    }
+
+    @Override
+    public Object remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public Object poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public Object element() {
+        return getFirst();
+    }
+
+    @Override
+    public Object peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(Object element) {
+        addFirst(element);
+    }
+
+    @Override
+    public Object pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Compares element by element in one pass, after ruling out lists of a different size and, for another
+     * {@code DoublyLinkedList}, a different cached hash.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof List)) {
+            return false;
+        }
+
+        List<?> that = (List<?>) other;
+        if (that.size() != nodeCount) {
+            return false;
+        }
+        if (other instanceof DoublyLinkedList && hashCode() != other.hashCode()) {
+            return false;
+        }
+
+        Iterator<?> elements = that.iterator();
+        for (Node current = head; Objects.nonNull(current); current = current.getNext()) {
+            if (!elements.hasNext() || !Objects.equals(current.getData(), elements.next())) {
+                return false;
+            }
+        }
+        return !elements.hasNext();
+    }
+
+    @Override
+    public int hashCode() {
+        if (hashStale) {
+            int recomputed = 1;
+            for (Node current = head; Objects.nonNull(current); current = current.getNext()) {
+                recomputed = HASH_MULTIPLIER * recomputed + Objects.hashCode(current.getData());
+            }
+            hash = recomputed;
+            hashStale = false;
+        }
+        return hash;
     }
 
     @VisibleForTesting
-    boolean isEmpty() {
-        return nodeCount == 0;
+    PositionIndex positions() {
+        return positions;
+    }
+
+    @VisibleForTesting
+    ValueIndex valueIndex() {
+        return valueIndex;
     }
 
     @VisibleForTesting
     boolean isNotEmpty() {
         return !isEmpty();
     }
+
+    /**
+     * Links a new node holding {@code data} in front of {@code successor}, which sits at {@code index}, or at
+     * an {@link #UNKNOWN_INDEX}. A {@code null} successor appends at the tail. A middle insert is recorded as
+     * {@code operation}, unless that is {@code null} because the caller records it.
+     */
+    private void linkBefore(Object data, Node successor, int index, ListOperation operation) {
+        if (Objects.isNull(successor)) {
+            addCaboose(data);
+            return;
+        }
+
+        if (successor == head) {
+            addEngine(data);
+            return;
+        }
+
+        long start = startTimer();
+        Node newNode = newNode()
+                .initialize(data, successor.getPrevious(), successor);
+        successor.getPrevious().setNext(newNode, snapshots);
+        successor.setPrevious(newNode);
+        nodeCount++;
+        modCount++;
+        hashPower *= HASH_MULTIPLIER;
+        hashStale = true;
+        if (index == UNKNOWN_INDEX) {
+            positions.invalidate();
+        } else {
+            positions.inserted(index, newNode);
+        }
+        valueAdded(newNode);
+        if (Objects.nonNull(operation)) {
+            recordOperation(operation, start, 0);
+        }
+    }
+
+    /**
+     * Unlinks {@code node}, which sits at {@code index}, or at an {@link #UNKNOWN_INDEX}. The node keeps its
+     * own links. A middle removal is recorded as {@code operation}, unless that is {@code null} because the
+     * caller records it.
+     */
+    private void unlink(Node node, int index, ListOperation operation) {
+        if (node == head) {
+            removeHeadNode();
+            return;
+        }
+
+        if (node == tail) {
+            removeTailNode();
+            return;
+        }
+
+        long start = startTimer();
+        node.getPrevious().setNext(node.getNext(), snapshots);
+        node.getNext().setPrevious(node.getPrevious());
+        nodeCount--;
+        modCount++;
+        hashPower *= HASH_MULTIPLIER_INVERSE;
+        hashStale = true;
+        if (index == UNKNOWN_INDEX) {
+            positions.invalidate();
+        } else {
+            positions.removed(index, node);
+        }
+        valueRemoved(node);
+        recycle(node);
+        if (Objects.nonNull(operation)) {
+            recordOperation(operation, start, 0);
+        }
+    }
+
+    private boolean linkBatch(Collection<?> elements, Node successor) {
+        long start = startTimer();
+        Node first = null;
+        Node last = null;
+        int count = 0;
+        int batchHash = 1;
+        int batchPower = 1;
+        for (Object element : elements) {
+            Node node = newNode()
+                    .initialize(Objects.requireNonNull(element), last, null);
+            if (Objects.isNull(first)) {
+                first = node;
+            } else {
+                last.initialize(last.getData(), last.getPrevious(), node);
+            }
+            last = node;
+            count++;
+            batchHash = HASH_MULTIPLIER * batchHash + element.hashCode();
+            batchPower *= HASH_MULTIPLIER;
+        }
+
+        if (count == 0) {
+            return false;
+        }
+        attach(first, last, count, batchHash, batchPower, false, successor);
+        recordOperation(ListOperation.ADD_ALL, start, 0);
+        return true;
+    }
+
+    /**
+     * Links the detached chain {@code first..last} in front of {@code successor} ({@code null} appends) with a
+     * constant number of pointer updates. The chain's list hash and {@code 31^count} are folded into this
+     * list's hash when the chain lands at either end.
+     */
+    private void attach(Node first, Node last, int count, int chainHash, int chainPower, boolean chainStale,
+                        Node successor) {
+        if (isEmpty()) {
+            head = first;
+            tail = last;
+            hash = chainHash;
+            hashStale = chainStale;
+        } else if (Objects.isNull(successor)) {
+            tail.setNext(first, snapshots);
+            first.setPrevious(tail);
+            tail = last;
+            hash = hash * chainPower + chainHash - chainPower;
+            hashStale |= chainStale;
+        } else if (successor == head) {
+            last.setNext(head, snapshots);
+            head.setPrevious(last);
+            head = first;
+            hash = chainHash * hashPower + hash - hashPower;
+            hashStale |= chainStale;
+        } else {
+            Node predecessor = successor.getPrevious();
+            predecessor.setNext(first, snapshots);
+            first.setPrevious(predecessor);
+            last.setNext(successor, snapshots);
+            successor.setPrevious(last);
+            hashStale = true;
+        }
+
+        nodeCount += count;
+        modCount++;
+        hashPower *= chainPower;
+        positions.invalidate();
+        if (Objects.nonNull(valueIndex)) {
+            valueIndex.addedChain(first, last);
+        }
+    }
+
+    private Object replaceData(Node node, int index, Object data) {
+        Object previous = node.getData();
+        node.setData(data, snapshots);
+        if (Objects.nonNull(valueIndex)) {
+            valueIndex.removed(previous, node);
+            valueIndex.added(node);
+        }
+        if (index == UNKNOWN_INDEX && node != head && node != tail) {
+            hashStale = true;
+        } else {
+            int position = index != UNKNOWN_INDEX ? index : node == head ? 0 : nodeCount - 1;
+            hash += (Objects.hashCode(data) - Objects.hashCode(previous)) * power(nodeCount - 1 - position);
+        }
+        return previous;
+    }
+
+    private void hashInsertedFirst(Object data) {
+        hash += hashPower * (HASH_MULTIPLIER - 1 + Objects.hashCode(data));
+        hashPower *= HASH_MULTIPLIER;
+    }
+
+    private void hashInsertedLast(Object data) {
+        hash = HASH_MULTIPLIER * hash + Objects.hashCode(data);
+        hashPower *= HASH_MULTIPLIER;
+    }
+
+    private void hashRemovedFirst(Object data) {
+        hashPower *= HASH_MULTIPLIER_INVERSE;
+        hash -= hashPower * (HASH_MULTIPLIER - 1 + Objects.hashCode(data));
+    }
+
+    private void hashRemovedLast(Object data) {
+        hash = (hash - Objects.hashCode(data)) * HASH_MULTIPLIER_INVERSE;
+        hashPower *= HASH_MULTIPLIER_INVERSE;
+    }
+
+    /**
+     * {@code 31^exponent} modulo 2^32, by repeated squaring.
+     */
+    private static int power(int exponent) {
+        int result = 1;
+        int base = HASH_MULTIPLIER;
+        for (int e = exponent; e > 0; e >>= 1) {
+            if ((e & 1) == 1) {
+                result *= base;
+            }
+            base *= base;
+        }
+        return result;
+    }
+
+    private void print(int from, int to) {
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out), PRINT_BUFFER_SIZE);
+        try {
+            renderRange(out, from, to);
+            out.write(System.lineSeparator());
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int windowStart(int index, int radius) {
+        return (int) Math.max(0L, (long) index - radius);
+    }
+
+    private static int windowEnd(int index, int radius) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) index + radius + 1);
+    }
+
+    /**
+     * Number of wholesale relinks (clear, split and sort) so far, which invalidate every {@link ListCursor}.
+     */
+    int relinkCount() {
+        return relinkCount;
+    }
+
+    /**
+     * Whether {@code node} is currently part of this list. Removed nodes keep their old links, so this checks
+     * that the neighbour in front still points back at it.
+     */
+    boolean isLinked(Node node) {
+        if (Objects.isNull(node.getData())) {
+            return false;
+        }
+        return Objects.isNull(node.getPrevious()) ? head == node : node.getPrevious().getNext() == node;
+    }
+
+    /**
+     * Links {@code data} in front of {@code successor} ({@code null} appends) without knowing its position.
+     */
+    void linkBefore(Object data, Node successor) {
+        linkBefore(data, successor, UNKNOWN_INDEX, ListOperation.ADD_AT_NODE);
+    }
+
+    void unlink(Node node) {
+        unlink(node, UNKNOWN_INDEX, ListOperation.REMOVE_AT_NODE);
+    }
+
+    /**
+     * Relinks {@code node}, which must belong to this list, at the head.
+     */
+    void moveToHead(Node node) {
+        if (node == head) {
+            return;
+        }
+
+        node.getPrevious().setNext(node.getNext(), snapshots);
+        if (node == tail) {
+            tail = node.getPrevious();
+        } else {
+            node.getNext().setPrevious(node.getPrevious());
+        }
+        node.setPrevious(null)
+                .setNext(head, snapshots);
+        head.setPrevious(node);
+        head = node;
+        modCount++;
+        hashStale = true;
+        positions.invalidate();
+    }
+
+    Object replaceData(Node node, Object data) {
+        return replaceData(node, UNKNOWN_INDEX, data);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void sortNodes(Comparator<? super Object> comparator, boolean parallel) {
+        Comparator<Object> order = Objects.nonNull(comparator)
+                ? comparator
+                : (Comparator<Object>) (Comparator<?>) Comparator.naturalOrder();
+        modCount++;
+        if (nodeCount < 2) {
+            return;
+        }
+
+        Node first;
+        try {
+            first = ParallelOperations.sort(head, nodeCount, order, parallel, snapshots);
+        } catch (RuntimeException | Error e) {
+            for (Node current = tail; Objects.nonNull(current.getPrevious()); current = current.getPrevious()) {
+                current.getPrevious().setNext(current, snapshots);
+            }
+            tail.setNext(null, snapshots);
+            throw e;
+        }
+
+        Node previous = null;
+        for (Node current = first; Objects.nonNull(current); current = current.getNext()) {
+            current.setPrevious(previous);
+            previous = current;
+        }
+        head = first;
+        tail = previous;
+        relinkCount++;
+        hashStale = true;
+        positions.invalidate();
+    }
+
+    private void reject(ListOperation operation, String message) {
+        System.out.println(message);
+        if (Objects.nonNull(metrics)) {
+            metrics.rejected(operation, message);
+        }
+    }
+
+    private long startTimer() {
+        return Objects.isNull(metrics) ? 0L : System.nanoTime();
+    }
+
+    private void recordOperation(ListOperation operation, long start, int nodesTraversed) {
+        if (Objects.nonNull(metrics)) {
+            metrics.recorded(operation, System.nanoTime() - start, nodesTraversed, nodeCount);
+        }
+    }
+
+    private Node firstNodeOf(Object value) {
+        if (Objects.nonNull(valueIndex)) {
+            return valueIndex.first(head, value);
+        }
+
+        for (Node current = head; Objects.nonNull(current); current = current.getNext()) {
+            if (Objects.equals(current.getData(), value)) {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    private void valueAdded(Node node) {
+        if (Objects.nonNull(valueIndex)) {
+            valueIndex.added(node);
+        }
+    }
+
+    private void valueRemoved(Node node) {
+        if (Objects.nonNull(valueIndex)) {
+            valueIndex.removed(node.getData(), node);
+        }
+    }
+
+    private Node newNode() {
+        return Objects.isNull(nodePool) ? new Node() : nodePool.acquire();
+    }
+
+    /**
+     * Keeps recording changes for the open snapshots of {@code source} before its nodes move into this list.
+     */
+    private void inheritSnapshots(DoublyLinkedList source) {
+        if (!source.isRecordingRevisions()) {
+            return;
+        }
+        if (Objects.isNull(snapshots)) {
+            snapshots = new SnapshotScope();
+        }
+        snapshots.inherit(source.snapshots);
+    }
+
+    /**
+     * Returns an unlinked node to the pool, unless a snapshot that may still reach it is open.
+     */
+    private void recycle(Node node) {
+        if (Objects.nonNull(nodePool) && !isRecordingRevisions()) {
+            nodePool.release(node);
+        }
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= nodeCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + nodeCount);
+        }
+    }
+
+    private final class NodeIterator implements ListIterator<Object> {
+        private Node next;
+        private Node lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        private NodeIterator(int index) {
+            next = index == nodeCount ? null : positions.nodeAt(head, tail, nodeCount, index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < nodeCount;
+        }
+
+        @Override
+        public Object next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = next;
+            next = next.getNext();
+            nextIndex++;
+            return lastReturned.getData();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public Object previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            next = Objects.isNull(next) ? tail : next.getPrevious();
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.getData();
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (Objects.isNull(lastReturned)) {
+                throw new IllegalStateException();
+            }
+
+            Node following = lastReturned.getNext();
+            if (lastReturned == next) {
+                unlink(lastReturned, nextIndex, ListOperation.REMOVE_AT_NODE);
+                next = following;
+            } else {
+                unlink(lastReturned, nextIndex - 1, ListOperation.REMOVE_AT_NODE);
+                nextIndex--;
+            }
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(Object element) {
+            Objects.requireNonNull(element);
+            checkForComodification();
+            if (Objects.isNull(lastReturned)) {
+                throw new IllegalStateException();
+            }
+
+            replaceData(lastReturned, lastReturned == next ? nextIndex : nextIndex - 1, element);
+        }
+
+        @Override
+        public void add(Object element) {
+            Objects.requireNonNull(element);
+            checkForComodification();
+
+            lastReturned = null;
+            linkBefore(element, next, nextIndex, ListOperation.ADD_AT_NODE);
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Spliterator over the range {@code [index, fence)} of the list.
+     * <p>
+     * A linked list cannot reach its middle without walking to it, so a naive split walks half the remaining
+     * range every time and parallel streams spend most of their time chasing pointers on one thread. Instead,
+     * the first split makes one pass over the range and records every {@code stride}-th node in an anchor
+     * table of at most {@link #MAX_ANCHORS} entries. The table is shared with every spliterator split off
+     * afterwards, and each of them splits at the anchor nearest its midpoint in constant time.
+     */
+    static final class NodeSpliterator implements Spliterator<Object> {
+        private static final int MAX_ANCHORS = 1024;
+
+        private final DoublyLinkedList list;
+        private final int expectedModCount;
+        private final int fence;
+        private Node current;
+        private int index;
+        private Node[] anchors;
+        private int anchorBase;
+        private int stride;
+
+        private NodeSpliterator(DoublyLinkedList list, Node current, int index, int fence) {
+            this.list = list;
+            this.expectedModCount = list.modCount;
+            this.current = current;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Object> action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            checkForComodification();
+
+            Object data = current.getData();
+            current = current.getNext();
+            index++;
+            action.accept(data);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Object> action) {
+            Objects.requireNonNull(action);
+            Node node = current;
+            int position = index;
+            while (position < fence && Objects.nonNull(node)) {
+                action.accept(node.getData());
+                node = node.getNext();
+                position++;
+            }
+            current = node;
+            index = position;
+            checkForComodification();
+        }
+
+        @Override
+        public Spliterator<Object> trySplit() {
+            int remaining = fence - index;
+            if (remaining < 2) {
+                return null;
+            }
+            if (Objects.isNull(anchors)) {
+                buildAnchors(remaining);
+            }
+
+            int anchor = (index + remaining / 2 - anchorBase) / stride;
+            int split = anchorBase + anchor * stride;
+            if (split <= index) {
+                anchor++;
+                split += stride;
+            }
+            if (split >= fence) {
+                return null;
+            }
+
+            NodeSpliterator prefix = new NodeSpliterator(list, current, index, split);
+            prefix.anchors = anchors;
+            prefix.anchorBase = anchorBase;
+            prefix.stride = stride;
+
+            current = anchors[anchor];
+            index = split;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+
+        private void buildAnchors(int remaining) {
+            checkForComodification();
+            stride = (remaining + MAX_ANCHORS - 1) / MAX_ANCHORS;
+            anchors = new Node[(remaining + stride - 1) / stride];
+            anchorBase = index;
+
+            Node node = current;
+            for (int i = 0; i < remaining; i++) {
+                if (i % stride == 0) {
+                    anchors[i / stride] = node;
+                }
+                node = node.getNext();
+            }
+        }
+
+        private void checkForComodification() {
+            if (list.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
 }
@@ -0,0 +1,179 @@
+package data;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Streams a {@link DoublyLinkedList} to and from disk, one element per line.
+ * <p>
+ * Elements are written as UTF-8 text in list order. Backslashes, carriage returns and line feeds inside an
+ * element are escaped as {@code \\}, {@code \r} and {@code \n}, so every line holds exactly one element and
+ * the file stays human-readable. Both directions go through fixed-size buffers over a {@link FileChannel},
+ * so memory use does not depend on the length of the list.
+ */
+public final class DoublyLinkedListStore {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private DoublyLinkedListStore() {
+    }
+
+    /**
+     * Writes the list to a temporary file next to {@code path} and moves it into place once complete,
+     * so an interrupted save never leaves a truncated file behind.
+     */
+    public static void save(DoublyLinkedList list, Path path) throws IOException {
+        save((Iterable<Object>) list, path);
+    }
+
+    /**
+     * Saves a {@link ListSnapshot} in the same format as {@link #save(DoublyLinkedList, Path)}. This may run on
+     * any thread while the snapshot's list keeps changing.
+     */
+    public static void save(ListSnapshot snapshot, Path path) throws IOException {
+        save((Iterable<Object>) snapshot, path);
+    }
+
+    private static void save(Iterable<Object> elements, Path path) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                 Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), BUFFER_SIZE), BUFFER_SIZE)) {
+                for (Object element : elements) {
+                    writeRecord(writer, String.valueOf(element));
+                }
+            }
+            try {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Replaces the contents of {@code list} with the records of {@code path}. The records are read into a new
+     * list first and moved over only once all of them have loaded, so a missing or unreadable file leaves
+     * {@code list} as it was.
+     */
+    public static void replace(DoublyLinkedList list, Path path) throws IOException {
+        DoublyLinkedList loaded = new DoublyLinkedList();
+        load(loaded, path);
+        list.clear();
+        list.concat(loaded);
+    }
+
+    /**
+     * Reads every record of {@code path} and appends it to the tail of {@code list} as a {@link String}.
+     */
+    public static void load(DoublyLinkedList list, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             Reader reader = Channels.newReader(channel, StandardCharsets.UTF_8.newDecoder(), BUFFER_SIZE)) {
+            RecordReader records = new RecordReader(reader);
+            StringBuilder record = new StringBuilder();
+            while (records.next(record)) {
+                list.addCaboose(record.toString());
+            }
+        }
+    }
+
+    /**
+     * Writes {@code data} followed by a line feed, copying runs of plain characters in one call and escaping
+     * the rest.
+     */
+    static void writeRecord(Writer writer, String data) throws IOException {
+        int runStart = 0;
+        for (int i = 0; i < data.length(); i++) {
+            String escape = escapeOf(data.charAt(i));
+            if (Objects.nonNull(escape)) {
+                writer.write(data, runStart, i - runStart);
+                writer.write(escape);
+                runStart = i + 1;
+            }
+        }
+        writer.write(data, runStart, data.length() - runStart);
+        writer.write('\n');
+    }
+
+    private static String escapeOf(char c) {
+        switch (c) {
+            case '\\':
+                return "\\\\";
+            case '\n':
+                return "\\n";
+            case '\r':
+                return "\\r";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Splits a character stream into records, undoing the escaping applied by {@link #writeRecord}.
+     * Characters are pulled through a private buffer so that no per-character lock or call is paid.
+     */
+    static final class RecordReader {
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private int position = 0;
+        private int limit = 0;
+
+        RecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Reads the next record into {@code record}. Returns {@code false} once the stream is exhausted.
+         */
+        boolean next(StringBuilder record) throws IOException {
+            record.setLength(0);
+            int c = read();
+            if (c == -1) {
+                return false;
+            }
+
+            while (c != -1 && c != '\n') {
+                if (c == '\\') {
+                    int escaped = read();
+                    if (escaped == 'n') {
+                        record.append('\n');
+                    } else if (escaped == 'r') {
+                        record.append('\r');
+                    } else if (escaped != -1) {
+                        record.append((char) escaped);
+                    }
+                } else if (c != '\r') {
+                    record.append((char) c);
+                }
+                c = read();
+            }
+            return true;
+        }
+
+        private int read() throws IOException {
+            if (position == limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+            return buffer[position++];
+        }
+    }
+}
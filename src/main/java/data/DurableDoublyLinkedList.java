@@ -0,0 +1,252 @@
+package data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * {@link DoublyLinkedList} that persists every mutation to a write-ahead {@link ListJournal}.
+ * <p>
+ * Each add or remove appends one record to a memory-mapped log before touching the list, so durability costs
+ * O(1) I/O per operation instead of a full rewrite. Every {@code compactionThreshold} records the list is
+ * compacted: a snapshot is written with {@link DoublyLinkedListStore} and a fresh journal is started.
+ * <p>
+ * Snapshots and journals are numbered by generation inside the list directory. Generation {@code g} is
+ * {@code snapshot.g} (the list state when the generation began) followed by the records in {@code journal.g}.
+ * A new snapshot is moved into place atomically before its generation's journal is created and before the
+ * previous generation is deleted, so recovery after a crash at any point rebuilds the exact list order.
+ * Recovered elements are {@link String}s, as with {@link DoublyLinkedListStore#load}.
+ */
+public class DurableDoublyLinkedList implements Closeable {
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100_000;
+
+    private static final String SNAPSHOT_PREFIX = "snapshot.";
+    private static final String JOURNAL_PREFIX = "journal.";
+
+    private final DoublyLinkedList list = new DoublyLinkedList();
+    private final Path directory;
+    private final int compactionThreshold;
+    private ListJournal journal;
+    private long generation;
+    private int journaledOperations = 0;
+
+    private DurableDoublyLinkedList(Path directory, int compactionThreshold) {
+        this.directory = directory;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public static DurableDoublyLinkedList open(Path directory) throws IOException {
+        return open(directory, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Opens the list stored in {@code directory}, creating it if necessary, and replays the latest snapshot
+     * plus its journal.
+     */
+    public static DurableDoublyLinkedList open(Path directory, int compactionThreshold) throws IOException {
+        if (compactionThreshold < 1) {
+            throw new IllegalArgumentException("Compaction threshold must be positive.");
+        }
+
+        Files.createDirectories(directory);
+        DurableDoublyLinkedList durableList = new DurableDoublyLinkedList(directory, compactionThreshold);
+        durableList.recover();
+        return durableList;
+    }
+
+    public void addEngine(Object data) throws IOException {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        record(ListJournal.ADD_ENGINE, 0, data);
+        list.addEngine(data);
+        compactIfDue();
+    }
+
+    public void addCaboose(Object data) throws IOException {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        record(ListJournal.ADD_CABOOSE, 0, data);
+        list.addCaboose(data);
+        compactIfDue();
+    }
+
+    public void addNodeAtIndex(Object data, Integer index) throws IOException {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        if (Objects.isNull(index) || index >= list.getNodeCount()) {
+            addCaboose(data);
+            return;
+        }
+
+        if (index <= 0) {
+            addEngine(data);
+            return;
+        }
+
+        record(ListJournal.ADD_AT_INDEX, index, data);
+        list.addNodeAtIndex(data, index);
+        compactIfDue();
+    }
+
+    public void removeHeadNode() throws IOException {
+        if (list.isEmpty()) {
+            System.out.println("List is currently empty.");
+            return;
+        }
+
+        record(ListJournal.REMOVE_HEAD, 0, null);
+        list.removeHeadNode();
+        compactIfDue();
+    }
+
+    public void removeTailNode() throws IOException {
+        if (list.isEmpty()) {
+            System.out.println("List is currently empty.");
+            return;
+        }
+
+        record(ListJournal.REMOVE_TAIL, 0, null);
+        list.removeTailNode();
+        compactIfDue();
+    }
+
+    public void removeNodeAtIndex(Integer index) throws IOException {
+        if (list.isEmpty()) {
+            System.out.println("List is currently empty.");
+            return;
+        }
+
+        if (Objects.isNull(index)
+                || index >= list.getNodeCount()
+                || index < 0) {
+            System.out.println("Invalid index provided");
+            return;
+        }
+
+        record(ListJournal.REMOVE_AT_INDEX, index, null);
+        list.removeNodeAtIndex(index);
+        compactIfDue();
+    }
+
+    /**
+     * Writes a snapshot of the current list and starts a new, empty journal generation.
+     */
+    public void compact() throws IOException {
+        long next = generation + 1;
+        DoublyLinkedListStore.save(list, snapshotPath(next));
+        ListJournal nextJournal = new ListJournal(journalPath(next));
+
+        journal.close();
+        Files.deleteIfExists(journalPath(generation));
+        Files.deleteIfExists(snapshotPath(generation));
+
+        journal = nextJournal;
+        generation = next;
+        journaledOperations = 0;
+    }
+
+    /**
+     * Forces journaled records to the storage device; without it they survive a process crash but not
+     * necessarily a machine crash.
+     */
+    public void sync() {
+        journal.sync();
+    }
+
+    public int getNodeCount() {
+        return list.getNodeCount();
+    }
+
+    public Node getHead() {
+        return list.getHead();
+    }
+
+    public void printContents() {
+        list.printContents();
+    }
+
+    public String asString() {
+        return list.asString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        journal.close();
+    }
+
+    private void record(byte operation, int index, Object data) throws IOException {
+        journal.append(operation, index, data);
+        journaledOperations++;
+    }
+
+    private void compactIfDue() throws IOException {
+        if (journaledOperations >= compactionThreshold) {
+            compact();
+        }
+    }
+
+    private void recover() throws IOException {
+        generation = latestSnapshotGeneration();
+        if (Files.exists(snapshotPath(generation))) {
+            DoublyLinkedListStore.load(list, snapshotPath(generation));
+        }
+
+        journal = new ListJournal(journalPath(generation));
+        journal.replay(list);
+        deleteOlderGenerations();
+    }
+
+    private long latestSnapshotGeneration() throws IOException {
+        long latest = 0;
+        try (DirectoryStream<Path> snapshots = Files.newDirectoryStream(directory, SNAPSHOT_PREFIX + "*")) {
+            for (Path snapshot : snapshots) {
+                latest = Math.max(latest, generationOf(snapshot, SNAPSHOT_PREFIX));
+            }
+        }
+        return latest;
+    }
+
+    private void deleteOlderGenerations() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                long fileGeneration = Math.max(generationOf(file, SNAPSHOT_PREFIX), generationOf(file, JOURNAL_PREFIX));
+                if (fileGeneration >= 0 && fileGeneration < generation) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private static long generationOf(Path file, String prefix) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(prefix)) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(name.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private Path snapshotPath(long snapshotGeneration) {
+        return directory.resolve(SNAPSHOT_PREFIX + snapshotGeneration);
+    }
+
+    private Path journalPath(long journalGeneration) {
+        return directory.resolve(JOURNAL_PREFIX + journalGeneration);
+    }
+}
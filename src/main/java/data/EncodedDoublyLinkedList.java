@@ -0,0 +1,219 @@
+package data;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Dictionary-encoded {@code String} variant of {@link DoublyLinkedList}, for lists that repeat a small
+ * vocabulary many times.
+ * <p>
+ * Each element is stored as the {@code int} code its string has in a {@link StringDictionary}, in an array
+ * indexed by the slots of a {@link SlotLinks}, so an element costs 12 bytes however long its string is, and
+ * every copy of a string shares one instance. Several lists can share one dictionary. Reads decode the code
+ * back, so the API deals in the original strings throughout.
+ */
+public class EncodedDoublyLinkedList {
+    /**
+     * Footprint of one {@link DoublyLinkedList} node.
+     */
+    static final int NODE_BYTES = 32;
+    /**
+     * Footprint of one element here: a code and two links.
+     */
+    static final int SLOT_BYTES = 12;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final StringDictionary dictionary;
+    private final SlotLinks links;
+    private int[] codes;
+
+    public EncodedDoublyLinkedList() {
+        this(new StringDictionary());
+    }
+
+    public EncodedDoublyLinkedList(StringDictionary dictionary) {
+        this.dictionary = Objects.requireNonNull(dictionary);
+        links = new SlotLinks(DEFAULT_CAPACITY);
+        codes = new int[links.capacity()];
+    }
+
+    public StringDictionary getDictionary() {
+        return dictionary;
+    }
+
+    public void addEngine(String data) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        links.linkFirst(store(data));
+    }
+
+    public void addCaboose(String data) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        links.linkLast(store(data));
+    }
+
+    public void addNodeAtIndex(String data, int index) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        if (index >= links.size()) {
+            addCaboose(data);
+            return;
+        }
+
+        if (index <= 0) {
+            addEngine(data);
+            return;
+        }
+
+        int successor = links.slotAt(index);
+        links.linkBefore(store(data), successor);
+    }
+
+    public void removeTailNode() {
+        if (isEmpty()) {
+            System.out.println("List is currently empty.");
+            return;
+        }
+
+        release(links.tail());
+    }
+
+    public void removeHeadNode() {
+        if (isEmpty()) {
+            System.out.println("List is currently empty.");
+            return;
+        }
+
+        release(links.head());
+    }
+
+    public void removeNodeAtIndex(int index) {
+        if (isEmpty()) {
+            System.out.println("List is currently empty.");
+            return;
+        }
+
+        if (index >= links.size() || index < 0) {
+            System.out.println("Invalid index provided");
+            return;
+        }
+
+        release(links.slotAt(index));
+    }
+
+    public String getDataAtIndex(int index) {
+        if (index >= links.size() || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + links.size());
+        }
+
+        return dictionary.decode(codes[links.slotAt(index)]);
+    }
+
+    /**
+     * Index of the first element equal to {@code data}, or -1. A string the dictionary does not hold is
+     * rejected without walking the list, and the walk compares codes rather than strings.
+     */
+    public int indexOf(String data) {
+        int code = Objects.isNull(data) ? StringDictionary.NO_CODE : dictionary.codeOf(data);
+        if (code == StringDictionary.NO_CODE) {
+            return -1;
+        }
+
+        int index = 0;
+        for (int slot = links.head(); slot != SlotLinks.NIL; slot = links.next(slot)) {
+            if (codes[slot] == code) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    public boolean contains(String data) {
+        return indexOf(data) >= 0;
+    }
+
+    /**
+     * Removes every element and releases its reference in the dictionary.
+     */
+    public void clear() {
+        for (int slot = links.head(); slot != SlotLinks.NIL; slot = links.next(slot)) {
+            dictionary.release(codes[slot]);
+        }
+        links.clear();
+    }
+
+    public int getNodeCount() {
+        return links.size();
+    }
+
+    /**
+     * Estimated heap saved compared with a {@link DoublyLinkedList} holding its own copy of every string, as a
+     * list filled from parsed input does. Covers the smaller element layout and this list's share of each
+     * dictionary string, so the figures of lists sharing a dictionary add up.
+     */
+    public long estimatedBytesSaved() {
+        double saved = (double) links.size() * (NODE_BYTES - SLOT_BYTES);
+        for (int slot = links.head(); slot != SlotLinks.NIL; slot = links.next(slot)) {
+            int code = codes[slot];
+            int references = dictionary.referencesTo(code);
+            long stringBytes = StringDictionary.estimatedSize(dictionary.decode(code));
+            saved += (double) ((references - 1) * stringBytes - StringDictionary.ENTRY_BYTES) / references;
+        }
+        return Math.round(saved);
+    }
+
+    public void printContents() {
+        System.out.println(asString());
+    }
+
+    public String asString() {
+        StringBuilder content = new StringBuilder();
+        if (isNotEmpty()) {
+            content.append("{ ");
+            for (int slot = links.head(); slot != SlotLinks.NIL; slot = links.next(slot)) {
+                content.append("[ ").append(dictionary.decode(codes[slot])).append(" ] ");
+            }
+            content.append("}");
+            return content.toString();
+        }
+
+        return "List is currently empty";
+    }
+
+    @VisibleForTesting
+    boolean isEmpty() {
+        return links.size() == 0;
+    }
+
+    @VisibleForTesting
+    boolean isNotEmpty() {
+        return !isEmpty();
+    }
+
+    private int store(String data) {
+        int slot = links.allocate();
+        if (slot >= codes.length) {
+            codes = Arrays.copyOf(codes, links.capacity());
+        }
+        codes[slot] = dictionary.acquire(data);
+        return slot;
+    }
+
+    private void release(int slot) {
+        dictionary.release(codes[slot]);
+        links.unlink(slot);
+    }
+}
@@ -0,0 +1,14 @@
+package data;
+
+/**
+ * Notified when a cache evicts an entry to stay within its capacity. Entries that are replaced, removed or
+ * cleared explicitly are not reported.
+ * <p>
+ * The listener runs on the thread that caused the eviction, while the cache is being updated, so it must be
+ * quick and must not call back into the cache.
+ */
+@FunctionalInterface
+public interface EvictionListener<K, V> {
+
+    void onEviction(K key, V value);
+}
@@ -0,0 +1,31 @@
+package data;
+
+/**
+ * Order in which a cache evicts its entries, kept by one {@link CachePolicy}. The cache reports every entry it
+ * adds, reads, reweighs and removes; each call takes constant time.
+ */
+interface EvictionOrder<K, V> {
+
+    void added(CacheEntry<K, V> entry);
+
+    void accessed(CacheEntry<K, V> entry);
+
+    /**
+     * Called after {@code entry} was given a new value whose weight differs from {@code previousWeight}, and
+     * before it is reported as accessed.
+     */
+    default void weightChanged(CacheEntry<K, V> entry, int previousWeight) {
+    }
+
+    /**
+     * Forgets {@code entry} and clears its {@link CacheEntry#node}.
+     */
+    void removed(CacheEntry<K, V> entry);
+
+    /**
+     * The entry to evict next; only called while at least one entry is held.
+     */
+    CacheEntry<K, V> victim();
+
+    void clear();
+}
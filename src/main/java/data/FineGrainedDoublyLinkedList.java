@@ -0,0 +1,244 @@
+package data;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe {@link DoublyLinkedList} where every operation locks only the nodes it splices.
+ * <p>
+ * Positions are found with an unlocked walk (optimistic traversal). The operation then locks the
+ * neighbouring nodes from left to right, validates that they are still live and still adjacent, and
+ * retries from scratch if another thread got there first. Edits at unrelated positions therefore
+ * proceed in parallel, and the fixed left-to-right lock order rules out deadlock. Removed nodes keep
+ * their {@code next} link so that walks already passing through them can continue.
+ * <p>
+ * Under concurrent edits an index means "the position observed by the walk"; the splice itself is atomic
+ * with respect to its neighbours.
+ */
+public class FineGrainedDoublyLinkedList {
+    private final LockNode head = new LockNode(null);
+    private final LockNode tail = new LockNode(null);
+    private final LongAdder nodeCount = new LongAdder();
+
+    public FineGrainedDoublyLinkedList() {
+        head.next = tail;
+        tail.previous = head;
+    }
+
+    public void addEngine(Object data) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        while (!tryInsertBetween(head, head.next, data)) {
+            // lost a race with a neighbouring edit, re-read the links and retry
+        }
+    }
+
+    public void addCaboose(Object data) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        while (!tryInsertBetween(tail.previous, tail, data)) {
+            // lost a race with a neighbouring edit, re-read the links and retry
+        }
+    }
+
+    public void addNodeAtIndex(Object data, Integer index) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        if (Objects.isNull(index)) {
+            addCaboose(data);
+            return;
+        }
+
+        while (true) {
+            LockNode predecessor = predecessorOf(index);
+            if (tryInsertBetween(predecessor, predecessor.next, data)) {
+                return;
+            }
+        }
+    }
+
+    public Optional<Object> removeHeadNode() {
+        while (true) {
+            LockNode node = head.next;
+            if (node == tail) {
+                return Optional.empty();
+            }
+            if (tryRemove(node)) {
+                return Optional.of(node.data);
+            }
+        }
+    }
+
+    public Optional<Object> removeTailNode() {
+        while (true) {
+            LockNode node = tail.previous;
+            if (node == head) {
+                return Optional.empty();
+            }
+            if (tryRemove(node)) {
+                return Optional.of(node.data);
+            }
+        }
+    }
+
+    /**
+     * Removes the node found at {@code index} and returns its data, or an empty optional when no node
+     * exists at that position.
+     */
+    public Optional<Object> removeNodeAtIndex(Integer index) {
+        if (Objects.isNull(index) || index < 0) {
+            System.out.println("Invalid index provided");
+            return Optional.empty();
+        }
+
+        while (true) {
+            LockNode node = predecessorOf(index).next;
+            if (node == tail) {
+                System.out.println("Invalid index provided");
+                return Optional.empty();
+            }
+            if (tryRemove(node)) {
+                return Optional.of(node.data);
+            }
+        }
+    }
+
+    public int getNodeCount() {
+        return nodeCount.intValue();
+    }
+
+    public boolean isEmpty() {
+        return head.next == tail;
+    }
+
+    public void printContents() {
+        System.out.println(asString());
+    }
+
+    public String asString() {
+        StringBuilder content = new StringBuilder();
+        for (LockNode node = head.next; node != tail; node = node.next) {
+            if (!node.removed) {
+                content.append("[ ").append(node.data).append(" ] ");
+            }
+        }
+
+        if (content.length() == 0) {
+            return "List is currently empty";
+        }
+        return "{ " + content + "}";
+    }
+
+    /**
+     * Checks, at quiescence, that the forward and backward chains mirror each other and that their length
+     * matches the node count.
+     */
+    @VisibleForTesting
+    boolean isConsistent() {
+        int forward = 0;
+        for (LockNode node = head; node != tail; node = node.next) {
+            if (node.next.previous != node || node.next.removed) {
+                return false;
+            }
+            forward++;
+        }
+
+        int backward = 0;
+        for (LockNode node = tail; node != head; node = node.previous) {
+            backward++;
+        }
+
+        return forward - 1 == getNodeCount() && backward - 1 == getNodeCount();
+    }
+
+    /**
+     * Unlocked walk to the node after which an element at {@code index} would be inserted, stopping at the
+     * last live node when the list is shorter than {@code index}.
+     */
+    private LockNode predecessorOf(int index) {
+        LockNode predecessor = head;
+        for (int i = 0; i < index && predecessor.next != tail; i++) {
+            predecessor = predecessor.next;
+        }
+        return predecessor;
+    }
+
+    private boolean tryInsertBetween(LockNode predecessor, LockNode successor, Object data) {
+        predecessor.lock.lock();
+        try {
+            successor.lock.lock();
+            try {
+                if (predecessor.removed || successor.removed || predecessor.next != successor) {
+                    return false;
+                }
+
+                LockNode node = new LockNode(data);
+                node.previous = predecessor;
+                node.next = successor;
+                predecessor.next = node;
+                successor.previous = node;
+                nodeCount.increment();
+                return true;
+            } finally {
+                successor.lock.unlock();
+            }
+        } finally {
+            predecessor.lock.unlock();
+        }
+    }
+
+    private boolean tryRemove(LockNode node) {
+        LockNode predecessor = node.previous;
+        predecessor.lock.lock();
+        try {
+            node.lock.lock();
+            try {
+                LockNode successor = node.next;
+                successor.lock.lock();
+                try {
+                    if (predecessor.removed || node.removed || successor.removed
+                            || predecessor.next != node || successor.previous != node) {
+                        return false;
+                    }
+
+                    node.removed = true;
+                    predecessor.next = successor;
+                    successor.previous = predecessor;
+                    nodeCount.decrement();
+                    return true;
+                } finally {
+                    successor.lock.unlock();
+                }
+            } finally {
+                node.lock.unlock();
+            }
+        } finally {
+            predecessor.lock.unlock();
+        }
+    }
+
+    private static final class LockNode {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Object data;
+        private volatile LockNode previous;
+        private volatile LockNode next;
+        private volatile boolean removed;
+
+        private LockNode(Object data) {
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package data;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.Objects;
+
+/**
+ * Remembers a handful of recently visited (index, node) pairs so that positional operations
+ * can start walking from whichever known position is closest to the requested index instead
+ * of always starting from the head.
+ * <p>
+ * This is the default {@link PositionIndex}; it costs nothing on head and tail operations and makes
+ * clustered positional edits O(distance from the last touched spot).
+ */
+class FingerCache implements PositionIndex {
+    private static final int FINGER_COUNT = 4;
+
+    private final int[] indexes = new int[FINGER_COUNT];
+    private final Node[] nodes = new Node[FINGER_COUNT];
+    private int nextSlot = 0;
+    private int lastTraversal = 0;
+
+    @Override
+    public Node nodeAt(Node head, Node tail, int size, int index) {
+        Node start = head;
+        int startIndex = 0;
+        int bestDistance = index;
+
+        if (size - 1 - index < bestDistance) {
+            start = tail;
+            startIndex = size - 1;
+            bestDistance = size - 1 - index;
+        }
+
+        for (int i = 0; i < FINGER_COUNT; i++) {
+            if (Objects.nonNull(nodes[i]) && Math.abs(index - indexes[i]) < bestDistance) {
+                start = nodes[i];
+                startIndex = indexes[i];
+                bestDistance = Math.abs(index - indexes[i]);
+            }
+        }
+
+        Node current = start;
+        for (int i = startIndex; i < index; i++) {
+            current = current.getNext();
+        }
+        for (int i = startIndex; i > index; i--) {
+            current = current.getPrevious();
+        }
+
+        remember(index, current);
+        lastTraversal = bestDistance;
+        return current;
+    }
+
+    @Override
+    public int lastTraversal() {
+        return lastTraversal;
+    }
+
+    @Override
+    public void inserted(int index, Node node) {
+        for (int i = 0; i < FINGER_COUNT; i++) {
+            if (Objects.nonNull(nodes[i]) && indexes[i] >= index) {
+                indexes[i]++;
+            }
+        }
+
+        if (index > 0 && Objects.nonNull(node.getNext())) {
+            remember(index, node);
+        }
+    }
+
+    /**
+     * A finger on the removed node slides onto its old successor, which now occupies the same index.
+     */
+    @Override
+    public void removed(int index, Node node) {
+        for (int i = 0; i < FINGER_COUNT; i++) {
+            if (nodes[i] == node) {
+                nodes[i] = node.getNext();
+            } else if (Objects.nonNull(nodes[i]) && indexes[i] > index) {
+                indexes[i]--;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < FINGER_COUNT; i++) {
+            nodes[i] = null;
+        }
+    }
+
+    /**
+     * Fingers are cheap to regain, so they are simply dropped.
+     */
+    @Override
+    public void invalidate() {
+        clear();
+    }
+
+    @Override
+    public PositionIndex newIndex() {
+        return new FingerCache();
+    }
+
+    @Override
+    public boolean isConsistentWith(Node head) {
+        for (int i = 0; i < FINGER_COUNT; i++) {
+            if (Objects.isNull(nodes[i])) {
+                continue;
+            }
+
+            Node current = head;
+            for (int j = 0; j < indexes[i] && Objects.nonNull(current); j++) {
+                current = current.getNext();
+            }
+
+            if (current != nodes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @VisibleForTesting
+    int size() {
+        int count = 0;
+        for (Node node : nodes) {
+            if (Objects.nonNull(node)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void remember(int index, Node node) {
+        for (int i = 0; i < FINGER_COUNT; i++) {
+            if (Objects.nonNull(nodes[i]) && indexes[i] == index) {
+                nodes[i] = node;
+                return;
+            }
+        }
+
+        indexes[nextSlot] = index;
+        nodes[nextSlot] = node;
+        nextSlot = (nextSlot + 1) % FINGER_COUNT;
+    }
+}
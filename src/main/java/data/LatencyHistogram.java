@@ -0,0 +1,84 @@
+package data;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in power-of-two nanosecond buckets.
+ * <p>
+ * Bucket {@code b} counts latencies in {@code [2^(b-1), 2^b)}, with bucket 0 holding zero, so recording is
+ * one leading-zero count and one striped increment. Percentiles are reported as the upper bound of the
+ * bucket they fall in, which is within a factor of two of the true value.
+ */
+public final class LatencyHistogram {
+    private static final int BUCKET_COUNT = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+    public LatencyHistogram() {
+        for (int b = 0; b < BUCKET_COUNT; b++) {
+            buckets[b] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        buckets[Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(Math.max(0L, nanos)))].increment();
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Counts per bucket; index {@code b} holds latencies below {@code 2^b} nanoseconds.
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int b = 0; b < BUCKET_COUNT; b++) {
+            counts[b] = buckets[b].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Upper bound, in nanoseconds, of the bucket holding the {@code percentile}th latency, or 0 when nothing
+     * has been recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int b = 0; b < BUCKET_COUNT; b++) {
+            seen += counts[b];
+            if (seen >= rank) {
+                return upperBound(b);
+            }
+        }
+        return upperBound(BUCKET_COUNT - 1);
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket == 0 ? 0 : bucket >= 63 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,85 @@
+package data;
+
+import java.util.Objects;
+
+/**
+ * {@link CachePolicy#LFU}: a list of frequency buckets in ascending order, each holding the entries read that
+ * many times in a list of its own with the most recently used at the head. An access moves the entry into the
+ * next bucket up, creating it next to the current one if needed, so no step searches for a frequency.
+ */
+final class LfuOrder<K, V> implements EvictionOrder<K, V> {
+    private final DoublyLinkedList buckets = new DoublyLinkedList();
+
+    @Override
+    public void added(CacheEntry<K, V> entry) {
+        Node first = buckets.getHead();
+        Bucket bucket = Objects.nonNull(first) && ((Bucket) first.getData()).frequency == 1
+                ? (Bucket) first.getData()
+                : newBucket(1, first);
+        linkAtHead(bucket, entry);
+    }
+
+    @Override
+    public void accessed(CacheEntry<K, V> entry) {
+        Bucket current = (Bucket) entry.owner;
+        Node following = current.node.getNext();
+        Bucket next = Objects.nonNull(following) && ((Bucket) following.getData()).frequency == current.frequency + 1
+                ? (Bucket) following.getData()
+                : newBucket(current.frequency + 1, following);
+
+        unlinkFrom(current, entry);
+        linkAtHead(next, entry);
+    }
+
+    @Override
+    public void removed(CacheEntry<K, V> entry) {
+        unlinkFrom((Bucket) entry.owner, entry);
+        entry.node = null;
+        entry.owner = null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CacheEntry<K, V> victim() {
+        Bucket lowest = (Bucket) buckets.getHead().getData();
+        return (CacheEntry<K, V>) lowest.entries.getTail().getData();
+    }
+
+    @Override
+    public void clear() {
+        buckets.clear();
+    }
+
+    /**
+     * Links a new, empty bucket in front of {@code successor} ({@code null} appends).
+     */
+    private Bucket newBucket(long frequency, Node successor) {
+        Bucket bucket = new Bucket(frequency);
+        buckets.linkBefore(bucket, successor);
+        bucket.node = Objects.isNull(successor) ? buckets.getTail() : successor.getPrevious();
+        return bucket;
+    }
+
+    private void linkAtHead(Bucket bucket, CacheEntry<K, V> entry) {
+        bucket.entries.addEngine(entry);
+        entry.node = bucket.entries.getHead();
+        entry.owner = bucket;
+    }
+
+    private void unlinkFrom(Bucket bucket, CacheEntry<K, V> entry) {
+        bucket.entries.unlink(entry.node);
+        if (bucket.entries.isEmpty()) {
+            buckets.unlink(bucket.node);
+        }
+    }
+
+    private static final class Bucket {
+        private final long frequency;
+        private final DoublyLinkedList entries = new DoublyLinkedList();
+        private Node node;
+
+        private Bucket(long frequency) {
+            this.frequency = frequency;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package data;
+
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * Bounded key-value cache built on {@link DoublyLinkedList}. A hash map finds the entry for a key, and the entry
+ * keeps the node that places it in the eviction order, so {@link #get} and {@link #put} both take O(1)
+ * expected time: a hit relinks its node at the head of a list, and eviction takes the node at a tail.
+ * <p>
+ * Capacity is counted by a {@link Weigher}; by default every entry weighs 1, so the capacity is a number of
+ * entries. Whenever a put takes the total weight past the capacity, entries are evicted in the order of the
+ * {@link CachePolicy} and reported to the {@link EvictionListener}.
+ * <p>
+ * Not thread-safe; see {@link ConcurrentLinkedCache}.
+ */
+public final class LinkedCache<K, V> {
+    private final CacheCore<K, V> core;
+
+    /**
+     * A least-recently-used cache of up to {@code maximumSize} entries.
+     */
+    public LinkedCache(long maximumSize) {
+        this(maximumSize, CachePolicy.LRU);
+    }
+
+    public LinkedCache(long maximumSize, CachePolicy policy) {
+        this(maximumSize, policy, (key, value) -> 1, (key, value) -> {
+        });
+    }
+
+    public LinkedCache(long maximumWeight, CachePolicy policy, Weigher<? super K, ? super V> weigher,
+                       EvictionListener<? super K, ? super V> evictionListener) {
+        this.core = new CacheCore<>(new HashMap<>(), maximumWeight, policy, weigher, evictionListener);
+    }
+
+    /**
+     * The value mapped to {@code key}, or {@code null}. A hit counts as a use of the entry.
+     */
+    public V get(Object key) {
+        CacheEntry<K, V> entry = core.getEntry(key);
+        if (Objects.isNull(entry)) {
+            return null;
+        }
+
+        core.accessed(entry);
+        return entry.value;
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, evicting entries if the cache goes over capacity, and returns the value
+     * previously mapped, or {@code null}.
+     */
+    public V put(K key, V value) {
+        return core.put(key, value);
+    }
+
+    public V remove(Object key) {
+        return core.remove(key);
+    }
+
+    /**
+     * Whether {@code key} is mapped; unlike {@link #get}, this does not count as a use of the entry.
+     */
+    public boolean containsKey(Object key) {
+        return Objects.nonNull(core.getEntry(key));
+    }
+
+    public int size() {
+        return core.size();
+    }
+
+    public long weight() {
+        return core.weight();
+    }
+
+    public long maximumWeight() {
+        return core.maximumWeight();
+    }
+
+    public void clear() {
+        core.clear();
+    }
+}
@@ -0,0 +1,134 @@
+package data;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Bidirectional cursor positioned on a node of a {@link DoublyLinkedList}, created by
+ * {@link DoublyLinkedList#cursor()} or {@link DoublyLinkedList#cursorAt(int)}.
+ * <p>
+ * Moving, reading, replacing, inserting next to the cursor and removing at it all take constant time, so a
+ * pass that edits as it walks costs O(n) however many edits it makes. The list's size, cached hash and value
+ * index stay correct; positional lookups made afterwards may have to re-learn their shortcuts.
+ * <p>
+ * Any number of cursors may edit the same list. Edits made elsewhere do not disturb a cursor unless they
+ * remove the node it is positioned on, or relink the list wholesale ({@link DoublyLinkedList#clear()},
+ * {@link DoublyLinkedList#split} or a sort). Its next use then throws {@link ConcurrentModificationException}.
+ * With a {@link NodePool}, a removed node can be reused before a cursor on it notices, so cursors that share a
+ * list with other editors should not be combined with pooling.
+ * <p>
+ * A cursor on an empty list has no node. Inserting through it appends the element and moves the cursor onto it.
+ */
+public final class ListCursor {
+    private final DoublyLinkedList list;
+    private Node node;
+    private final int expectedRelinks;
+
+    ListCursor(DoublyLinkedList list, Node node) {
+        this.list = list;
+        this.node = node;
+        this.expectedRelinks = list.relinkCount();
+    }
+
+    public boolean hasNext() {
+        checkPosition();
+        return Objects.nonNull(node) && Objects.nonNull(node.getNext());
+    }
+
+    public boolean hasPrevious() {
+        checkPosition();
+        return Objects.nonNull(node) && Objects.nonNull(node.getPrevious());
+    }
+
+    /**
+     * Moves to the next node and returns its element.
+     */
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        node = node.getNext();
+        return node.getData();
+    }
+
+    /**
+     * Moves to the previous node and returns its element.
+     */
+    public Object previous() {
+        if (!hasPrevious()) {
+            throw new NoSuchElementException();
+        }
+
+        node = node.getPrevious();
+        return node.getData();
+    }
+
+    public Object get() {
+        checkNode();
+        return node.getData();
+    }
+
+    /**
+     * Replaces the element at the cursor and returns the old one.
+     */
+    public Object set(Object data) {
+        Objects.requireNonNull(data);
+        checkNode();
+        return list.replaceData(node, data);
+    }
+
+    public void insertBefore(Object data) {
+        Objects.requireNonNull(data);
+        checkPosition();
+        if (Objects.isNull(node)) {
+            insertIntoEmptyPosition(data);
+            return;
+        }
+
+        list.linkBefore(data, node);
+    }
+
+    public void insertAfter(Object data) {
+        Objects.requireNonNull(data);
+        checkPosition();
+        if (Objects.isNull(node)) {
+            insertIntoEmptyPosition(data);
+            return;
+        }
+
+        list.linkBefore(data, node.getNext());
+    }
+
+    /**
+     * Removes the element at the cursor and returns it. The cursor moves to the next node, or to the previous
+     * one when it removed the tail.
+     */
+    public Object remove() {
+        checkNode();
+        Node removed = node;
+        Object data = removed.getData();
+        node = Objects.nonNull(removed.getNext()) ? removed.getNext() : removed.getPrevious();
+        list.unlink(removed);
+        return data;
+    }
+
+    private void insertIntoEmptyPosition(Object data) {
+        list.addCaboose(data);
+        node = list.getTail();
+    }
+
+    private void checkNode() {
+        checkPosition();
+        if (Objects.isNull(node)) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    private void checkPosition() {
+        if (list.relinkCount() != expectedRelinks || Objects.nonNull(node) && !list.isLinked(node)) {
+            throw new ConcurrentModificationException();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Append-only log of list mutations written through a memory-mapped file.
+ * <p>
+ * Each record is {@code [operation:1][index:4][length:4][UTF-8 data:length]}. The operation byte is written
+ * last, so a record only becomes visible to {@link #replay(DoublyLinkedList)} once it is complete, and the
+ * zero-filled space beyond the last record reads as the end of the log. The mapping grows in fixed regions,
+ * so appending costs a bounded amount of memory traffic regardless of how long the list is.
+ */
+final class ListJournal implements Closeable {
+    static final byte ADD_ENGINE = 1;
+    static final byte ADD_CABOOSE = 2;
+    static final byte ADD_AT_INDEX = 3;
+    static final byte REMOVE_HEAD = 4;
+    static final byte REMOVE_TAIL = 5;
+    static final byte REMOVE_AT_INDEX = 6;
+
+    private static final int REGION_SIZE = 1024 * 1024;
+    private static final int HEADER_SIZE = 1 + 4 + 4;
+    private static final byte[] NO_DATA = new byte[0];
+
+    private final FileChannel channel;
+    private MappedByteBuffer region;
+    private long regionStart;
+    private long position;
+
+    ListJournal(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        position = findEnd();
+    }
+
+    void append(byte operation, int index, Object data) throws IOException {
+        byte[] bytes = Objects.isNull(data) ? NO_DATA : String.valueOf(data).getBytes(StandardCharsets.UTF_8);
+        int length = HEADER_SIZE + bytes.length;
+        ensureMapped(position, length);
+
+        int offset = (int) (position - regionStart);
+        region.putInt(offset + 1, index);
+        region.putInt(offset + 5, bytes.length);
+        for (int i = 0; i < bytes.length; i++) {
+            region.put(offset + HEADER_SIZE + i, bytes[i]);
+        }
+        region.put(offset, operation);
+        position += length;
+    }
+
+    /**
+     * Applies every complete record, in order, to {@code list}.
+     */
+    void replay(DoublyLinkedList list) throws IOException {
+        long offset = 0;
+        while (offset < position) {
+            ensureMapped(offset, HEADER_SIZE);
+            int local = (int) (offset - regionStart);
+            byte operation = region.get(local);
+            int index = region.getInt(local + 1);
+            int length = region.getInt(local + 5);
+
+            ensureMapped(offset, HEADER_SIZE + length);
+            local = (int) (offset - regionStart);
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = region.get(local + HEADER_SIZE + i);
+            }
+            apply(list, operation, index, new String(bytes, StandardCharsets.UTF_8));
+            offset += HEADER_SIZE + length;
+        }
+    }
+
+    /**
+     * Flushes appended records from the page cache to the storage device.
+     */
+    void sync() {
+        if (Objects.nonNull(region)) {
+            region.force();
+        }
+    }
+
+    long size() {
+        return position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        sync();
+        region = null;
+        channel.close();
+    }
+
+    private static void apply(DoublyLinkedList list, byte operation, int index, String data) {
+        switch (operation) {
+            case ADD_ENGINE:
+                list.addEngine(data);
+                break;
+            case ADD_CABOOSE:
+                list.addCaboose(data);
+                break;
+            case ADD_AT_INDEX:
+                list.addNodeAtIndex(data, index);
+                break;
+            case REMOVE_HEAD:
+                list.removeHeadNode();
+                break;
+            case REMOVE_TAIL:
+                list.removeTailNode();
+                break;
+            case REMOVE_AT_INDEX:
+                list.removeNodeAtIndex(index);
+                break;
+            default:
+                throw new IllegalStateException("Unknown journal operation " + operation);
+        }
+    }
+
+    /**
+     * Scans from the start of the file to the first position without a committed record.
+     */
+    private long findEnd() throws IOException {
+        long offset = 0;
+        long fileSize = channel.size();
+        while (offset + HEADER_SIZE <= fileSize) {
+            ensureMapped(offset, HEADER_SIZE);
+            int local = (int) (offset - regionStart);
+            if (region.get(local) == 0) {
+                break;
+            }
+            offset += HEADER_SIZE + region.getInt(local + 5);
+        }
+        return offset;
+    }
+
+    /**
+     * Makes sure {@code [offset, offset + length)} lies inside the current mapping, remapping a larger region
+     * starting at {@code offset} when it does not.
+     */
+    private void ensureMapped(long offset, int length) throws IOException {
+        if (Objects.nonNull(region) && offset >= regionStart && offset + length <= regionStart + region.capacity()) {
+            return;
+        }
+
+        if (Objects.nonNull(region)) {
+            region.force();
+        }
+        regionStart = offset;
+        region = channel.map(FileChannel.MapMode.READ_WRITE, offset, Math.max(REGION_SIZE, length));
+    }
+}
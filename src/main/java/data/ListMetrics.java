@@ -0,0 +1,167 @@
+package data;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Opt-in counters for a {@link DoublyLinkedList}, attached with {@link DoublyLinkedList#setMetrics}.
+ * <p>
+ * For every {@link ListOperation} it keeps the number of calls, the number of nodes walked to reach a
+ * position and a {@link LatencyHistogram}; it also tracks the current size and the number of operations
+ * refused for invalid input. Everything is a striped {@link LongAdder} or a lazily written field, so
+ * recording never locks or allocates and one instance can be shared by lists on different threads, in which
+ * case the size is that of whichever list changed last. The counters can be published over JMX with
+ * {@link #register(String)} and every event is passed on to the registered {@link ListMetricsListener}s.
+ */
+public class ListMetrics implements ListMetricsMXBean {
+    public static final String DOMAIN = "data";
+
+    private static final ListOperation[] OPERATIONS = ListOperation.values();
+    private static final ListMetricsListener[] NO_LISTENERS = new ListMetricsListener[0];
+
+    private final LongAdder[] counts = new LongAdder[OPERATIONS.length];
+    private final LongAdder[] traversed = new LongAdder[OPERATIONS.length];
+    private final LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile ListMetricsListener[] listeners = NO_LISTENERS;
+    private volatile ObjectName objectName;
+
+    public ListMetrics() {
+        for (ListOperation operation : OPERATIONS) {
+            counts[operation.ordinal()] = new LongAdder();
+            traversed[operation.ordinal()] = new LongAdder();
+            latencies[operation.ordinal()] = new LatencyHistogram();
+        }
+    }
+
+    public synchronized void addListener(ListMetricsListener listener) {
+        ListMetricsListener[] current = listeners;
+        ListMetricsListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = Objects.requireNonNull(listener);
+        listeners = updated;
+    }
+
+    public synchronized void removeListener(ListMetricsListener listener) {
+        ListMetricsListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                ListMetricsListener[] updated = new ListMetricsListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = updated;
+                return;
+            }
+        }
+    }
+
+    public long getOperationCount(ListOperation operation) {
+        return counts[operation.ordinal()].sum();
+    }
+
+    public long getNodesTraversed(ListOperation operation) {
+        return traversed[operation.ordinal()].sum();
+    }
+
+    public LatencyHistogram getLatency(ListOperation operation) {
+        return latencies[operation.ordinal()];
+    }
+
+    @Override
+    public int getSize() {
+        return size.get();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        return byOperation(this::getOperationCount);
+    }
+
+    @Override
+    public Map<String, Long> getNodesTraversed() {
+        return byOperation(this::getNodesTraversed);
+    }
+
+    @Override
+    public Map<String, Long> getMedianLatencyNanos() {
+        return byOperation(operation -> getLatency(operation).getPercentile(50));
+    }
+
+    @Override
+    public Map<String, Long> getP99LatencyNanos() {
+        return byOperation(operation -> getLatency(operation).getPercentile(99));
+    }
+
+    @Override
+    public void reset() {
+        for (ListOperation operation : OPERATIONS) {
+            counts[operation.ordinal()].reset();
+            traversed[operation.ordinal()].reset();
+            latencies[operation.ordinal()].reset();
+        }
+        rejected.reset();
+    }
+
+    /**
+     * Registers this instance with the platform MBean server as {@code data:type=ListMetrics,name=<name>}.
+     */
+    public ObjectName register(String name) throws JMException {
+        ObjectName registered = ObjectName.getInstance(DOMAIN + ":type=ListMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, registered);
+        objectName = registered;
+        return registered;
+    }
+
+    public void unregister() throws JMException {
+        ObjectName registered = objectName;
+        if (Objects.nonNull(registered)) {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registered);
+            objectName = null;
+        }
+    }
+
+    void recorded(ListOperation operation, long latencyNanos, int nodesTraversed, int listSize) {
+        int i = operation.ordinal();
+        counts[i].increment();
+        if (nodesTraversed > 0) {
+            traversed[i].add(nodesTraversed);
+        }
+        latencies[i].record(latencyNanos);
+        size.lazySet(listSize);
+
+        ListMetricsListener[] current = listeners;
+        for (int l = 0; l < current.length; l++) {
+            current[l].onOperation(operation, latencyNanos, nodesTraversed);
+        }
+    }
+
+    void rejected(ListOperation operation, String reason) {
+        rejected.increment();
+
+        ListMetricsListener[] current = listeners;
+        for (int l = 0; l < current.length; l++) {
+            current[l].onRejected(operation, reason);
+        }
+    }
+
+    private static Map<String, Long> byOperation(ToLongFunction<ListOperation> value) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (ListOperation operation : OPERATIONS) {
+            values.put(operation.name(), value.applyAsLong(operation));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,17 @@
+package data;
+
+/**
+ * Receives every event recorded by a {@link ListMetrics}, on the thread that performed the operation.
+ * Implementations must be fast and must not change the list.
+ */
+public interface ListMetricsListener {
+
+    default void onOperation(ListOperation operation, long latencyNanos, int nodesTraversed) {
+    }
+
+    /**
+     * Called when an operation is refused because of invalid input, with the message reported to the user.
+     */
+    default void onRejected(ListOperation operation, String reason) {
+    }
+}
@@ -0,0 +1,23 @@
+package data;
+
+import java.util.Map;
+
+/**
+ * JMX view of a {@link ListMetrics}. Maps are keyed by {@link ListOperation} name.
+ */
+public interface ListMetricsMXBean {
+
+    int getSize();
+
+    long getRejectedCount();
+
+    Map<String, Long> getOperationCounts();
+
+    Map<String, Long> getNodesTraversed();
+
+    Map<String, Long> getMedianLatencyNanos();
+
+    Map<String, Long> getP99LatencyNanos();
+
+    void reset();
+}
@@ -0,0 +1,34 @@
+package data;
+
+/**
+ * Operations counted by {@link ListMetrics}. An index or node operation that lands on either end of the list
+ * is counted as the matching head or tail operation, since that is the work it does. Every operation that
+ * changes the size is counted, so the size gauge stays current; {@code moveToHead} and sorting only reorder
+ * the list and are not counted.
+ */
+public enum ListOperation {
+    ADD_ENGINE,
+    ADD_CABOOSE,
+    ADD_AT_INDEX,
+    REMOVE_HEAD,
+    REMOVE_TAIL,
+    REMOVE_AT_INDEX,
+    GET_AT_INDEX,
+    SET_AT_INDEX,
+    /**
+     * An insert next to a known node: {@code insertAfter} and cursor or iterator adds.
+     */
+    ADD_AT_NODE,
+    /**
+     * Removal of a known node: {@code remove(Object)} and cursor or iterator removals.
+     */
+    REMOVE_AT_NODE,
+    ADD_ALL,
+    /**
+     * Counted on the receiving list by {@code splice} and {@code concat}; the emptied list counts a
+     * {@link #CLEAR}.
+     */
+    SPLICE,
+    SPLIT,
+    CLEAR
+}
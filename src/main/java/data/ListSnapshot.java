@@ -0,0 +1,118 @@
+package data;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Immutable view of a {@link DoublyLinkedList} as it was when {@link DoublyLinkedList#snapshot()} was called.
+ * <p>
+ * Taking a snapshot is O(1): it records the head, the size and a new {@link VersionClock} version, and the
+ * list's nodes keep revisions of anything changed afterwards. Any number of threads may read a snapshot
+ * while the list's writer carries on, without locks on either side; only opening and closing a snapshot
+ * briefly take the {@link VersionClock} lock. A snapshot must be closed when no longer needed, which lets
+ * the revisions it was holding be reclaimed; it cannot be read after that.
+ */
+public final class ListSnapshot implements Iterable<Object>, AutoCloseable {
+    private final Node head;
+    private final int size;
+    private final long version;
+    private final SnapshotScope scope;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    ListSnapshot(Node head, int size, SnapshotScope scope) {
+        this.head = head;
+        this.size = size;
+        this.scope = scope;
+        scope.opened();
+        this.version = VersionClock.open();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        checkOpen();
+        return new Iterator<Object>() {
+            private Node next = head;
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public Object next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                checkOpen();
+
+                Object data = next.dataAt(version);
+                remaining--;
+                if (remaining > 0) {
+                    next = next.nextAt(version);
+                }
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Writes the snapshot to {@code out} in the {@link DoublyLinkedList#asString()} format.
+     */
+    public void render(Appendable out) throws IOException {
+        if (isEmpty()) {
+            out.append("List is currently empty");
+            return;
+        }
+
+        out.append("{ ");
+        for (Object data : this) {
+            out.append("[ ").append(String.valueOf(data)).append(" ] ");
+        }
+        out.append("}");
+    }
+
+    public String asString() {
+        StringBuilder content = new StringBuilder();
+        try {
+            render(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return content.toString();
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            scope.closed();
+            VersionClock.closed(version);
+        }
+    }
+
+    private void checkOpen() {
+        if (closed.get()) {
+            throw new IllegalStateException("Snapshot is closed.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ListSnapshot(version=" + version + ", size=" + size + ")";
+    }
+}
@@ -0,0 +1,131 @@
+package data;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.Arrays;
+
+/**
+ * {@code long} specialization of {@link DoublyLinkedList}.
+ * <p>
+ * Values live in a primitive array indexed by the slots of a {@link SlotLinks}, so no element is ever
+ * boxed and removed slots are recycled instead of becoming garbage.
+ */
+public class LongDoublyLinkedList {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final SlotLinks links;
+    private long[] values;
+
+    public LongDoublyLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongDoublyLinkedList(int initialCapacity) {
+        links = new SlotLinks(initialCapacity);
+        values = new long[links.capacity()];
+    }
+
+    public void addEngine(long data) {
+        links.linkFirst(store(data));
+    }
+
+    public void addCaboose(long data) {
+        links.linkLast(store(data));
+    }
+
+    public void addNodeAtIndex(long data, int index) {
+        if (index >= links.size()) {
+            addCaboose(data);
+            return;
+        }
+
+        if (index <= 0) {
+            addEngine(data);
+            return;
+        }
+
+        int successor = links.slotAt(index);
+        links.linkBefore(store(data), successor);
+    }
+
+    public void removeTailNode() {
+        if (isEmpty()) {
+            System.out.println("List is currently empty.");
+            return;
+        }
+
+        links.unlink(links.tail());
+    }
+
+    public void removeHeadNode() {
+        if (isEmpty()) {
+            System.out.println("List is currently empty.");
+            return;
+        }
+
+        links.unlink(links.head());
+    }
+
+    public void removeNodeAtIndex(int index) {
+        if (isEmpty()) {
+            System.out.println("List is currently empty.");
+            return;
+        }
+
+        if (index >= links.size() || index < 0) {
+            System.out.println("Invalid index provided");
+            return;
+        }
+
+        links.unlink(links.slotAt(index));
+    }
+
+    public long getDataAtIndex(int index) {
+        if (index >= links.size() || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + links.size());
+        }
+
+        return values[links.slotAt(index)];
+    }
+
+    public int getNodeCount() {
+        return links.size();
+    }
+
+    public void printContents() {
+        System.out.println(asString());
+    }
+
+    public String asString() {
+        StringBuilder content = new StringBuilder();
+        if (isNotEmpty()) {
+            content.append("{ ");
+            for (int slot = links.head(); slot != SlotLinks.NIL; slot = links.next(slot)) {
+                content.append("[ ").append(values[slot]).append(" ] ");
+            }
+            content.append("}");
+            return content.toString();
+        }
+
+        return "List is currently empty";
+    }
+
+    @VisibleForTesting
+    boolean isEmpty() {
+        return links.size() == 0;
+    }
+
+    @VisibleForTesting
+    boolean isNotEmpty() {
+        return !isEmpty();
+    }
+
+    private int store(long data) {
+        int slot = links.allocate();
+        if (slot >= values.length) {
+            values = Arrays.copyOf(values, links.capacity());
+        }
+        values[slot] = data;
+        return slot;
+    }
+}
@@ -0,0 +1,36 @@
+package data;
+
+/**
+ * {@link CachePolicy#LRU}: a single list with the most recently used entry at the head.
+ */
+final class LruOrder<K, V> implements EvictionOrder<K, V> {
+    private final DoublyLinkedList entries = new DoublyLinkedList();
+
+    @Override
+    public void added(CacheEntry<K, V> entry) {
+        entries.addEngine(entry);
+        entry.node = entries.getHead();
+    }
+
+    @Override
+    public void accessed(CacheEntry<K, V> entry) {
+        entries.moveToHead(entry.node);
+    }
+
+    @Override
+    public void removed(CacheEntry<K, V> entry) {
+        entries.unlink(entry.node);
+        entry.node = null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CacheEntry<K, V> victim() {
+        return (CacheEntry<K, V>) entries.getTail().getData();
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+}
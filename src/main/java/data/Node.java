@@ -1,14 +1,217 @@
 package data;
 
-import lombok.Data;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.experimental.Accessors;
 
-@Data
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A position in a {@link DoublyLinkedList}.
+ * <p>
+ * Nodes use identity equality: two nodes are equal only if they are the same position, even when they hold
+ * equal data. Comparing or hashing contents is the list's job, and never has to follow the cyclic
+ * {@code previous}/{@code next} links. Links and data are only changed by the list itself, which keeps its
+ * size, position index and cached hash in step with them.
+ * <p>
+ * While a {@link ListSnapshot} that can reach the node is open, as tracked by its list's
+ * {@link SnapshotScope}, changing {@code data} or {@code next} first records the old pair as a revision
+ * stamped with the current {@link VersionClock} time, so snapshot readers can still see the node as it was.
+ * Revisions live in the {@link VersionClock}'s table rather than in the node, so a node stays three
+ * references, as small as a {@code java.util.LinkedList} node, and only nodes changed under an open
+ * snapshot take an entry. The fields are volatile and written with release semantics, and a reader
+ * re-checks the newest revision after reading them, so it never mixes values from before and after a change.
+ * <p>
+ * A write to a list that has never had a snapshot costs one {@code null} check on top of the store; the
+ * stores are release stores ({@code lazySet}), which compile to plain stores on x86 and to store-release
+ * instructions on ARM. Only a list with an open snapshot, or holding nodes a snapshot of another list can
+ * reach, reads the scope's counters and the global clock on each write.
+ */
+@Getter
+@Setter(AccessLevel.PACKAGE)
 @NoArgsConstructor
 @Accessors(chain = true)
 public class Node {
-    private Object data;
+    private static final AtomicReferenceFieldUpdater<Node, Object> DATA =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Object.class, "data");
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+    private volatile Object data;
     private Node previous;
-    private Node next;
+    private volatile Node next;
+
+    /**
+     * Sets the data of a node no snapshot can reach, such as a detached or pooled one.
+     */
+    Node setData(Object data) {
+        DATA.lazySet(this, data);
+        return this;
+    }
+
+    /**
+     * Sets the data of a node of the list owning {@code scope}, recording a revision first if the scope says
+     * so; a {@code null} scope never records.
+     */
+    Node setData(Object data, SnapshotScope scope) {
+        recordRevision(scope);
+        DATA.lazySet(this, data);
+        return this;
+    }
+
+    /**
+     * Sets the successor of a node no snapshot can reach, such as a detached or pooled one.
+     */
+    Node setNext(Node next) {
+        NEXT.lazySet(this, next);
+        return this;
+    }
+
+    Node setNext(Node next, SnapshotScope scope) {
+        recordRevision(scope);
+        NEXT.lazySet(this, next);
+        return this;
+    }
+
+    /**
+     * Sets up a node that no list or snapshot can reach yet, without recording a revision. Nodes without data,
+     * such as pooled ones, never record revisions either: lists hold no {@code null} elements, so no snapshot
+     * can see them.
+     */
+    Node initialize(Object data, Node previous, Node next) {
+        this.previous = previous;
+        DATA.lazySet(this, data);
+        NEXT.lazySet(this, next);
+        return this;
+    }
+
+    /**
+     * The data this node held at {@code version}.
+     */
+    Object dataAt(long version) {
+        Revision newest = VersionClock.revisionOf(this);
+        if (Objects.isNull(newest) || newest.replacedAt < version) {
+            Object current = data;
+            Revision recheck = VersionClock.revisionOf(this);
+            if (recheck == newest) {
+                return current;
+            }
+            newest = recheck;
+        }
+        return revisionAt(newest, version).data;
+    }
+
+    /**
+     * The successor this node had at {@code version}.
+     */
+    Node nextAt(long version) {
+        Revision newest = VersionClock.revisionOf(this);
+        if (Objects.isNull(newest) || newest.replacedAt < version) {
+            Node current = next;
+            Revision recheck = VersionClock.revisionOf(this);
+            if (recheck == newest) {
+                return current;
+            }
+            newest = recheck;
+        }
+        return revisionAt(newest, version).next;
+    }
+
+    /**
+     * Drops every revision stamped before {@code oldestVersion}, which no open snapshot can need, removing
+     * the node from the {@link VersionClock}'s table once none is left.
+     */
+    void pruneRevisions(long oldestVersion) {
+        Revision newest = VersionClock.revisionOf(this);
+        if (Objects.isNull(newest)) {
+            return;
+        }
+        if (newest.replacedAt < oldestVersion) {
+            VersionClock.replaceRevision(this, newest, null);
+            return;
+        }
+
+        trimOlder(newest, oldestVersion);
+    }
+
+    @VisibleForTesting
+    boolean hasRevisions() {
+        return Objects.nonNull(VersionClock.revisionOf(this));
+    }
+
+    @Override
+    public String toString() {
+        return "Node(data=" + data + ")";
+    }
+
+    /**
+     * Installs a revision holding the current pair. The install is a compare-and-set against the revision
+     * read, because {@link VersionClock#reclaim()} may remove the node's entry from another thread at any
+     * time; after losing that race the writer retries and finds the entry gone.
+     */
+    private void recordRevision(SnapshotScope scope) {
+        if (Objects.isNull(scope) || Objects.isNull(data) || !scope.isRecording()) {
+            return;
+        }
+
+        long now = VersionClock.now();
+        while (true) {
+            Revision newest = VersionClock.revisionOf(this);
+            if (Objects.nonNull(newest) && newest.replacedAt == now) {
+                return;
+            }
+
+            Revision created = new Revision(data, next, now, newest);
+            if (VersionClock.replaceRevision(this, newest, created)) {
+                if (Objects.nonNull(newest)) {
+                    trimOlder(created, VersionClock.oldestOpenVersion());
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Cuts the chain below {@code newest} after the oldest revision still stamped at or after
+     * {@code oldestVersion}. Only the registry may drop the newest revision itself.
+     */
+    private static void trimOlder(Revision newest, long oldestVersion) {
+        Revision current = newest;
+        while (Objects.nonNull(current.older) && current.older.replacedAt >= oldestVersion) {
+            current = current.older;
+        }
+        current.older = null;
+    }
+
+    /**
+     * The oldest revision replaced at or after {@code version}: it holds the values that were current then.
+     */
+    private static Revision revisionAt(Revision newest, long version) {
+        Revision current = newest;
+        while (Objects.nonNull(current.older) && current.older.replacedAt >= version) {
+            current = current.older;
+        }
+        return current;
+    }
+
+    /**
+     * The data and successor a node had until {@code replacedAt}.
+     */
+    static final class Revision {
+        private final Object data;
+        private final Node next;
+        private final long replacedAt;
+        private volatile Revision older;
+
+        private Revision(Object data, Node next, long replacedAt, Revision older) {
+            this.data = data;
+            this.next = next;
+            this.replacedAt = replacedAt;
+            this.older = older;
+        }
+    }
 }
@@ -0,0 +1,115 @@
+package data;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of recycled {@link Node}s, shared by any number of {@link DoublyLinkedList}s.
+ * <p>
+ * Each thread first uses a small private cache, so a list churning on one thread recycles nodes without
+ * synchronisation or allocation. Nodes that overflow a thread's cache go to a shared queue holding at most
+ * {@code capacity} nodes, where other threads can pick them up; beyond that they are left to the garbage
+ * collector. The thread caches are not counted against {@code capacity}, so the pool can retain up to
+ * {@code capacity + threadCacheCapacity * releasing threads} nodes. Nodes are cleared on release so a pooled
+ * node never keeps an element reachable.
+ */
+public class NodePool {
+    public static final int DEFAULT_THREAD_CACHE_CAPACITY = 64;
+
+    private final ArrayBlockingQueue<Node> shared;
+    private final int threadCacheCapacity;
+    private final ThreadLocal<ThreadCache> threadCaches;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a pool with a shared queue of {@code capacity} nodes and a cache of
+     * {@link #DEFAULT_THREAD_CACHE_CAPACITY} nodes per thread.
+     */
+    public NodePool(int capacity) {
+        this(capacity, DEFAULT_THREAD_CACHE_CAPACITY);
+    }
+
+    /**
+     * Creates a pool with a shared queue of {@code capacity} nodes and a cache of {@code threadCacheCapacity}
+     * nodes for each thread that releases nodes. The thread caches come on top of the shared queue, so at
+     * most {@code capacity + threadCacheCapacity * threads} nodes are retained; they are not counted against
+     * {@code capacity} because a shared count would make every acquire and release contend on it. A cache is
+     * dropped with its thread. Pass a {@code threadCacheCapacity} of 0 to make {@code capacity} the exact bound.
+     */
+    public NodePool(int capacity, int threadCacheCapacity) {
+        if (capacity < 1 || threadCacheCapacity < 0) {
+            throw new IllegalArgumentException("Pool capacity must be positive and thread cache capacity non-negative.");
+        }
+
+        this.shared = new ArrayBlockingQueue<>(capacity);
+        this.threadCacheCapacity = threadCacheCapacity;
+        this.threadCaches = ThreadLocal.withInitial(() -> new ThreadCache(threadCacheCapacity));
+    }
+
+    /**
+     * Returns an empty node, recycled when one is available.
+     */
+    Node acquire() {
+        ThreadCache cache = threadCaches.get();
+        Node node = cache.size > 0 ? cache.pop() : shared.poll();
+        if (Objects.nonNull(node)) {
+            hits.increment();
+            return node;
+        }
+
+        misses.increment();
+        return new Node();
+    }
+
+    /**
+     * Clears {@code node} and keeps it for reuse if there is room. The node must already be unlinked and no
+     * longer referenced by any list or index.
+     */
+    void release(Node node) {
+        node.setData(null)
+                .setPrevious(null)
+                .setNext(null);
+
+        ThreadCache cache = threadCaches.get();
+        if (cache.size < threadCacheCapacity) {
+            cache.push(node);
+        } else {
+            shared.offer(node);
+        }
+    }
+
+    /**
+     * Number of acquisitions served by a recycled node.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of acquisitions that had to allocate a new node.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private static final class ThreadCache {
+        private final Node[] nodes;
+        private int size = 0;
+
+        private ThreadCache(int capacity) {
+            this.nodes = new Node[capacity];
+        }
+
+        private Node pop() {
+            Node node = nodes[--size];
+            nodes[size] = null;
+            return node;
+        }
+
+        private void push(Node node) {
+            nodes[size++] = node;
+        }
+    }
+}
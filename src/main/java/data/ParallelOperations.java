@@ -0,0 +1,285 @@
+package data;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Fork/join algorithms behind the bulk operations of {@link DoublyLinkedList}.
+ * <p>
+ * A linked list cannot be split in the middle without walking to it, so every operation first makes one pass
+ * over the chain to find the start of each chunk: about four chunks per worker thread, each at least
+ * {@link #MIN_CHUNK_SIZE} nodes. Chunks are then processed as a balanced tree of fork/join tasks. Sorting cuts
+ * the chain at the chunk starts, merge sorts each chunk bottom-up by relinking its nodes and merges the
+ * sorted runs pairwise up the tree, so no element is copied and no array is allocated. Map and filter build
+ * one list per chunk and join them with constant-time {@link DoublyLinkedList#concat}.
+ */
+final class ParallelOperations {
+    static final int MIN_CHUNK_SIZE = 4096;
+
+    private ParallelOperations() {
+    }
+
+    /**
+     * Sorts the {@code length} nodes starting at {@code first}, stably, and returns the first node of the
+     * sorted chain. Only {@code next} links are changed, and the last node's is {@code null}; if the comparator
+     * throws, every task has stopped by the time the exception arrives and the {@code previous} links still
+     * describe the original order. Changed links are recorded for the open snapshots of {@code scope}.
+     */
+    static Node sort(Node first, int length, Comparator<Object> order, boolean parallel, SnapshotScope scope) {
+        Chunks chunks = Chunks.of(first, length, parallel);
+        for (int c = 0; c < chunks.count; c++) {
+            Node last = chunks.starts[c];
+            for (int i = 1; i < chunks.lengths[c]; i++) {
+                last = last.getNext();
+            }
+            last.setNext(null, scope);
+        }
+
+        if (chunks.count == 1) {
+            return sortChain(first, length, order, scope);
+        }
+        return ForkJoinPool.commonPool().invoke(new SortTask(chunks, 0, chunks.count, order, scope));
+    }
+
+    static DoublyLinkedList map(DoublyLinkedList list, Function<Object, ?> mapper) {
+        Chunks chunks = Chunks.of(list.getHead(), list.getNodeCount(), true);
+        return ForkJoinPool.commonPool().invoke(new CollectTask(chunks, 0, chunks.count, mapper, null));
+    }
+
+    static DoublyLinkedList filter(DoublyLinkedList list, Predicate<Object> predicate) {
+        Chunks chunks = Chunks.of(list.getHead(), list.getNodeCount(), true);
+        return ForkJoinPool.commonPool().invoke(new CollectTask(chunks, 0, chunks.count, null, predicate));
+    }
+
+    static <R> R reduce(DoublyLinkedList list, R identity, BiFunction<R, Object, R> accumulator,
+                        BinaryOperator<R> combiner) {
+        Chunks chunks = Chunks.of(list.getHead(), list.getNodeCount(), true);
+        return ForkJoinPool.commonPool().invoke(new ReduceTask<>(chunks, 0, chunks.count, identity, accumulator, combiner));
+    }
+
+    /**
+     * Bottom-up merge sort of a {@code null}-terminated chain of {@code length} nodes, in O(1) extra space.
+     */
+    static Node sortChain(Node first, int length, Comparator<Object> order, SnapshotScope scope) {
+        Node sentinel = new Node();
+        sentinel.setNext(first);
+        for (int width = 1; width < length; width <<= 1) {
+            Node remaining = sentinel.getNext();
+            Node tail = sentinel;
+            while (Objects.nonNull(remaining)) {
+                Node left = remaining;
+                Node right = cut(left, width, scope);
+                remaining = cut(right, width, scope);
+                tail = merge(tail, left, right, order, scope);
+            }
+        }
+        return sentinel.getNext();
+    }
+
+    /**
+     * Merges two sorted chains behind {@code tail}, taking from {@code left} on ties, and returns the new
+     * last node.
+     */
+    private static Node merge(Node tail, Node left, Node right, Comparator<Object> order, SnapshotScope scope) {
+        while (Objects.nonNull(left) && Objects.nonNull(right)) {
+            if (order.compare(right.getData(), left.getData()) < 0) {
+                tail.setNext(right, scope);
+                tail = right;
+                right = right.getNext();
+            } else {
+                tail.setNext(left, scope);
+                tail = left;
+                left = left.getNext();
+            }
+        }
+
+        tail.setNext(Objects.nonNull(left) ? left : right, scope);
+        while (Objects.nonNull(tail.getNext())) {
+            tail = tail.getNext();
+        }
+        return tail;
+    }
+
+    /**
+     * Detaches the chain after its first {@code count} nodes and returns the rest.
+     */
+    private static Node cut(Node first, int count, SnapshotScope scope) {
+        Node last = first;
+        for (int i = 1; i < count && Objects.nonNull(last); i++) {
+            last = last.getNext();
+        }
+        if (Objects.isNull(last)) {
+            return null;
+        }
+
+        Node rest = last.getNext();
+        last.setNext(null, scope);
+        return rest;
+    }
+
+    /**
+     * First node and length of each chunk, found in one pass.
+     */
+    private static final class Chunks {
+        private final Node[] starts;
+        private final int[] lengths;
+        private final int count;
+
+        private Chunks(int count) {
+            this.starts = new Node[count];
+            this.lengths = new int[count];
+            this.count = count;
+        }
+
+        private static Chunks of(Node first, int length, boolean parallel) {
+            int wanted = parallel ? ForkJoinPool.getCommonPoolParallelism() * 4 : 1;
+            Chunks chunks = new Chunks(Math.max(1, Math.min(wanted, length / MIN_CHUNK_SIZE)));
+
+            Node current = first;
+            for (int c = 0; c < chunks.count; c++) {
+                int chunkLength = length / chunks.count + (c < length % chunks.count ? 1 : 0);
+                chunks.starts[c] = current;
+                chunks.lengths[c] = chunkLength;
+                for (int i = 0; i < chunkLength && c < chunks.count - 1; i++) {
+                    current = current.getNext();
+                }
+            }
+            return chunks;
+        }
+    }
+
+    private static final class SortTask extends RecursiveTask<Node> {
+        private static final long serialVersionUID = 1L;
+
+        private final Chunks chunks;
+        private final int from;
+        private final int to;
+        private final Comparator<Object> order;
+        private final SnapshotScope scope;
+
+        private SortTask(Chunks chunks, int from, int to, Comparator<Object> order, SnapshotScope scope) {
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.order = order;
+            this.scope = scope;
+        }
+
+        @Override
+        protected Node compute() {
+            if (to - from == 1) {
+                return sortChain(chunks.starts[from], chunks.lengths[from], order, scope);
+            }
+
+            int middle = (from + to) >>> 1;
+            SortTask left = new SortTask(chunks, from, middle, order, scope);
+            left.fork();
+            Node right;
+            try {
+                right = new SortTask(chunks, middle, to, order, scope).compute();
+            } catch (RuntimeException | Error e) {
+                left.quietlyJoin();
+                throw e;
+            }
+
+            Node sentinel = new Node();
+            merge(sentinel, left.join(), right, order, scope);
+            return sentinel.getNext();
+        }
+    }
+
+    /**
+     * Maps or filters a range of chunks into a new list; exactly one of {@code mapper} and {@code predicate}
+     * is set.
+     */
+    private static final class CollectTask extends RecursiveTask<DoublyLinkedList> {
+        private static final long serialVersionUID = 1L;
+
+        private final Chunks chunks;
+        private final int from;
+        private final int to;
+        private final Function<Object, ?> mapper;
+        private final Predicate<Object> predicate;
+
+        private CollectTask(Chunks chunks, int from, int to, Function<Object, ?> mapper, Predicate<Object> predicate) {
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.mapper = mapper;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected DoublyLinkedList compute() {
+            if (to - from == 1) {
+                DoublyLinkedList result = new DoublyLinkedList();
+                Node current = chunks.starts[from];
+                for (int i = 0; i < chunks.lengths[from]; i++) {
+                    Object data = current.getData();
+                    if (Objects.nonNull(mapper)) {
+                        result.addLast(mapper.apply(data));
+                    } else if (predicate.test(data)) {
+                        result.addLast(data);
+                    }
+                    current = current.getNext();
+                }
+                return result;
+            }
+
+            int middle = (from + to) >>> 1;
+            CollectTask left = new CollectTask(chunks, from, middle, mapper, predicate);
+            left.fork();
+            DoublyLinkedList right = new CollectTask(chunks, middle, to, mapper, predicate).compute();
+
+            DoublyLinkedList result = left.join();
+            result.concat(right);
+            return result;
+        }
+    }
+
+    private static final class ReduceTask<R> extends RecursiveTask<R> {
+        private static final long serialVersionUID = 1L;
+
+        private final Chunks chunks;
+        private final int from;
+        private final int to;
+        private final R identity;
+        private final BiFunction<R, Object, R> accumulator;
+        private final BinaryOperator<R> combiner;
+
+        private ReduceTask(Chunks chunks, int from, int to, R identity, BiFunction<R, Object, R> accumulator,
+                           BinaryOperator<R> combiner) {
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from == 1) {
+                R result = identity;
+                Node current = chunks.starts[from];
+                for (int i = 0; i < chunks.lengths[from]; i++) {
+                    result = accumulator.apply(result, current.getData());
+                    current = current.getNext();
+                }
+                return result;
+            }
+
+            int middle = (from + to) >>> 1;
+            ReduceTask<R> left = new ReduceTask<>(chunks, from, middle, identity, accumulator, combiner);
+            left.fork();
+            R right = new ReduceTask<>(chunks, middle, to, identity, accumulator, combiner).compute();
+            return combiner.apply(left.join(), right);
+        }
+    }
+}
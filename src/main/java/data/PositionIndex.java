@@ -0,0 +1,48 @@
+package data;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Strategy used by {@link DoublyLinkedList} to locate nodes by position.
+ * <p>
+ * The list reports every structural change after relinking, so implementations can keep whatever
+ * auxiliary structure they need in step with the node chain.
+ */
+interface PositionIndex {
+
+    /**
+     * Locates the node at {@code index}. The caller guarantees {@code 0 <= index < size}.
+     */
+    Node nodeAt(Node head, Node tail, int size, int index);
+
+    /**
+     * Number of links the last {@link #nodeAt} call followed, express links and rebuilds included.
+     */
+    int lastTraversal();
+
+    /**
+     * Called once {@code node} has been linked in at {@code index}.
+     */
+    void inserted(int index, Node node);
+
+    /**
+     * Called once {@code node} has been unlinked from {@code index}, while it still references its old neighbours.
+     */
+    void removed(int index, Node node);
+
+    void clear();
+
+    /**
+     * Called after a bulk relink (splice, concat or split) that the index cannot follow incrementally. The
+     * index must not rely on anything it recorded before, and rebuilds from the chain if it needs to.
+     */
+    void invalidate();
+
+    /**
+     * Returns a new, empty index of the same kind, for lists split off from this one.
+     */
+    PositionIndex newIndex();
+
+    @VisibleForTesting
+    boolean isConsistentWith(Node head);
+}
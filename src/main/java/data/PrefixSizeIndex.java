@@ -0,0 +1,72 @@
+package data;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Fenwick tree over the sizes of the segments of a {@link SegmentedDoublyLinkedList}.
+ * <p>
+ * Adding to one segment's size, summing the sizes of the first segments and finding the segment that holds a
+ * position all take O(log segments). Each tree cell is updated atomically, so threads editing different
+ * segments can adjust the index at the same time; a reader racing with them may see a sum that is briefly out
+ * of date and must check what it finds against the segment itself.
+ */
+final class PrefixSizeIndex {
+    private final AtomicIntegerArray tree;
+    private final int segmentCount;
+    private final int highestBit;
+
+    PrefixSizeIndex(int[] sizes) {
+        segmentCount = sizes.length;
+        highestBit = segmentCount == 0 ? 0 : Integer.highestOneBit(segmentCount);
+        int[] cells = new int[segmentCount + 1];
+        for (int i = 1; i <= segmentCount; i++) {
+            cells[i] += sizes[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= segmentCount) {
+                cells[parent] += cells[i];
+            }
+        }
+        tree = new AtomicIntegerArray(cells);
+    }
+
+    void add(int segment, int delta) {
+        for (int i = segment + 1; i <= segmentCount; i += i & -i) {
+            tree.addAndGet(i, delta);
+        }
+    }
+
+    /**
+     * Total size of the segments before {@code segment}.
+     */
+    int prefix(int segment) {
+        int sum = 0;
+        for (int i = segment; i > 0; i -= i & -i) {
+            sum += tree.get(i);
+        }
+        return sum;
+    }
+
+    int total() {
+        return prefix(segmentCount);
+    }
+
+    /**
+     * The segment holding position {@code index}, which must be below {@link #total()}: the last segment whose
+     * prefix is at most {@code index}.
+     */
+    int segmentAt(int index) {
+        int segment = 0;
+        int remaining = index;
+        for (int bit = highestBit; bit > 0; bit >>= 1) {
+            int next = segment + bit;
+            if (next <= segmentCount) {
+                int size = tree.get(next);
+                if (size <= remaining) {
+                    segment = next;
+                    remaining -= size;
+                }
+            }
+        }
+        return Math.min(segment, segmentCount - 1);
+    }
+}
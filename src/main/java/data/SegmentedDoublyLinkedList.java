@@ -0,0 +1,399 @@
+package data;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Thread-safe list made of consecutive {@link DoublyLinkedList} segments, each guarded by its own lock.
+ * <p>
+ * The elements, in order, are the elements of the first segment followed by those of the second and so on.
+ * A {@link PrefixSizeIndex} over the segment sizes finds the segment holding any position in O(log segments),
+ * after which only that segment is locked and walked, so writers at different positions, including the two
+ * ends, proceed in parallel. Bulk loads build one segment per range of the input on separate threads and link
+ * them in input order, giving exactly the list that appending the input one element at a time would.
+ * <p>
+ * Segments drift away from the target size as elements come and go. An edit that leaves its segment more than
+ * twice the target size, or empty, rebalances the list unless another thread is already waiting to: oversized segments are
+ * split and undersized ones merged into their neighbours, in time proportional to the nodes it cuts at. A
+ * rebalance, a bulk load and whole-list reads such as {@link #asString()} take a structure lock that briefly
+ * holds off all other operations.
+ * <p>
+ * Under concurrent edits an index means "the position observed when the segment was found", as in
+ * {@link FineGrainedDoublyLinkedList}.
+ */
+public class SegmentedDoublyLinkedList {
+    public static final int DEFAULT_SEGMENT_SIZE = ParallelOperations.MIN_CHUNK_SIZE;
+
+    private final int segmentSize;
+    private final ReentrantReadWriteLock structure = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebalancing = new AtomicBoolean(false);
+    private List<Segment> segments = new ArrayList<>();
+    private PrefixSizeIndex sizes;
+
+    public SegmentedDoublyLinkedList() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    public SegmentedDoublyLinkedList(int segmentSize) {
+        if (segmentSize < 2) {
+            throw new IllegalArgumentException("Segment size must be at least 2: " + segmentSize);
+        }
+        this.segmentSize = segmentSize;
+        segments.add(new Segment(new DoublyLinkedList()));
+        reindex();
+    }
+
+    public void addEngine(Object data) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        insert(data, 0);
+    }
+
+    public void addCaboose(Object data) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        insert(data, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Inserts {@code data} at {@code index}; a {@code null} or too large index appends and a negative one
+     * prepends.
+     */
+    public void addNodeAtIndex(Object data, Integer index) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        insert(data, Objects.isNull(index) ? Integer.MAX_VALUE : Math.max(0, index));
+    }
+
+    public Optional<Object> removeHeadNode() {
+        return remove(Position.HEAD, 0);
+    }
+
+    public Optional<Object> removeTailNode() {
+        return remove(Position.TAIL, 0);
+    }
+
+    /**
+     * Removes and returns the element at {@code index}, or returns empty if there is none.
+     */
+    public Optional<Object> removeNodeAtIndex(Integer index) {
+        if (Objects.isNull(index) || index < 0) {
+            return Optional.empty();
+        }
+
+        return remove(Position.INDEX, index);
+    }
+
+    public Object getDataAtIndex(Integer index) {
+        structure.readLock().lock();
+        try {
+            while (true) {
+                int size = sizes.total();
+                if (Objects.isNull(index) || index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+                }
+
+                int segment = sizes.segmentAt(index);
+                Segment found = segments.get(segment);
+                found.lock.lock();
+                try {
+                    int offset = index - sizes.prefix(segment);
+                    if (offset >= 0 && offset < found.list.getNodeCount()) {
+                        return found.list.getNodeAtIndex(offset).getData();
+                    }
+                } finally {
+                    found.lock.unlock();
+                }
+            }
+        } finally {
+            structure.readLock().unlock();
+        }
+    }
+
+    /**
+     * Appends every element of {@code elements}, in iteration order, loading disjoint ranges of it in parallel.
+     *
+     * @throws NullPointerException if an element is {@code null}; the list is then unchanged
+     */
+    public void addAllParallel(Collection<?> elements) {
+        List<?> source = elements instanceof List && elements instanceof RandomAccess
+                ? (List<?>) elements
+                : new ArrayList<>(elements);
+        addAllParallel(source.size(), source::get);
+    }
+
+    /**
+     * Appends {@code generator.apply(0)} to {@code generator.apply(count - 1)}, in that order, calling the
+     * generator from several threads at once for disjoint ranges of indexes.
+     *
+     * @throws NullPointerException if the generator returns {@code null}; the list is then unchanged
+     */
+    public void addAllParallel(int count, IntFunction<?> generator) {
+        int parts = (int) ((count + (long) segmentSize - 1) / segmentSize);
+        Segment[] loaded = new Segment[parts];
+        IntStream.range(0, parts).parallel().forEach(part -> {
+            DoublyLinkedList list = new DoublyLinkedList();
+            int end = (int) Math.min(count, (long) (part + 1) * segmentSize);
+            for (int i = part * segmentSize; i < end; i++) {
+                list.addLast(generator.apply(i));
+            }
+            loaded[part] = new Segment(list);
+        });
+
+        structure.writeLock().lock();
+        try {
+            if (segments.size() == 1 && segments.get(0).list.isEmpty()) {
+                segments.clear();
+            }
+            for (Segment segment : loaded) {
+                segments.add(segment);
+            }
+            if (segments.isEmpty()) {
+                segments.add(new Segment(new DoublyLinkedList()));
+            }
+            reindex();
+        } finally {
+            structure.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Splits segments larger than twice the target size and merges those smaller than half of it, or empty,
+     * into their neighbours.
+     */
+    public void rebalance() {
+        structure.writeLock().lock();
+        try {
+            rebalanceLocked();
+        } finally {
+            structure.writeLock().unlock();
+        }
+    }
+
+    public int getNodeCount() {
+        structure.readLock().lock();
+        try {
+            return sizes.total();
+        } finally {
+            structure.readLock().unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return getNodeCount() == 0;
+    }
+
+    public int getSegmentCount() {
+        structure.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            structure.readLock().unlock();
+        }
+    }
+
+    /**
+     * A copy of the whole list, made from the segments in order.
+     */
+    public DoublyLinkedList toDoublyLinkedList() {
+        structure.writeLock().lock();
+        try {
+            DoublyLinkedList copy = new DoublyLinkedList();
+            for (Segment segment : segments) {
+                copy.addAll(segment.list);
+            }
+            return copy;
+        } finally {
+            structure.writeLock().unlock();
+        }
+    }
+
+    public void printContents() {
+        System.out.println(asString());
+    }
+
+    public String asString() {
+        structure.writeLock().lock();
+        try {
+            StringBuilder content = new StringBuilder();
+            for (Segment segment : segments) {
+                for (Object data : segment.list) {
+                    content.append("[ ").append(data).append(" ] ");
+                }
+            }
+            return content.length() == 0 ? "List is currently empty" : "{ " + content + "}";
+        } finally {
+            structure.writeLock().unlock();
+        }
+    }
+
+    @VisibleForTesting
+    int[] segmentSizes() {
+        structure.writeLock().lock();
+        try {
+            int[] result = new int[segments.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = segments.get(i).list.getNodeCount();
+            }
+            return result;
+        } finally {
+            structure.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts at {@code index}, clamped to the current size.
+     */
+    private void insert(Object data, int index) {
+        boolean unbalanced;
+        structure.readLock().lock();
+        try {
+            while (true) {
+                int size = sizes.total();
+                int segment = index >= size ? segments.size() - 1 : index == 0 ? 0 : sizes.segmentAt(index);
+                Segment found = segments.get(segment);
+                found.lock.lock();
+                try {
+                    int offset = index >= size ? found.list.getNodeCount() : index - sizes.prefix(segment);
+                    if (offset < 0 || offset > found.list.getNodeCount()) {
+                        continue;
+                    }
+                    found.list.addNodeAtIndex(data, offset);
+                    sizes.add(segment, 1);
+                    unbalanced = found.list.getNodeCount() > 2 * segmentSize;
+                } finally {
+                    found.lock.unlock();
+                }
+                break;
+            }
+        } finally {
+            structure.readLock().unlock();
+        }
+
+        if (unbalanced) {
+            tryRebalance();
+        }
+    }
+
+    private Optional<Object> remove(Position position, int index) {
+        Object removed;
+        boolean unbalanced;
+        structure.readLock().lock();
+        try {
+            while (true) {
+                int size = sizes.total();
+                if (size == 0 || position == Position.INDEX && index >= size) {
+                    return Optional.empty();
+                }
+
+                int target = position == Position.HEAD ? 0 : position == Position.TAIL ? size - 1 : index;
+                int segment = sizes.segmentAt(target);
+                Segment found = segments.get(segment);
+                found.lock.lock();
+                try {
+                    int count = found.list.getNodeCount();
+                    int offset = position == Position.TAIL ? count - 1 : target - sizes.prefix(segment);
+                    if (count == 0 || offset < 0 || offset >= count) {
+                        continue;
+                    }
+                    removed = found.list.remove(offset);
+                    sizes.add(segment, -1);
+                    unbalanced = count == 1 && segments.size() > 1;
+                } finally {
+                    found.lock.unlock();
+                }
+                break;
+            }
+        } finally {
+            structure.readLock().unlock();
+        }
+
+        if (unbalanced) {
+            tryRebalance();
+        }
+        return Optional.of(removed);
+    }
+
+    private void tryRebalance() {
+        if (!rebalancing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            rebalance();
+        } finally {
+            rebalancing.set(false);
+        }
+    }
+
+    private void rebalanceLocked() {
+        int minimum = segmentSize / 2;
+        int maximum = segmentSize * 2;
+        List<Segment> balanced = new ArrayList<>(segments.size());
+        Segment pending = null;
+
+        for (Segment segment : segments) {
+            if (Objects.isNull(pending)) {
+                pending = segment;
+            } else if (pending.list.getNodeCount() < minimum || segment.list.getNodeCount() < minimum) {
+                pending.list.concat(segment.list);
+            } else {
+                balanced.add(pending);
+                pending = segment;
+            }
+
+            while (pending.list.getNodeCount() > maximum) {
+                DoublyLinkedList rest = pending.list.split(segmentSize);
+                balanced.add(pending);
+                pending = new Segment(rest);
+            }
+        }
+        balanced.add(pending);
+
+        segments = balanced;
+        reindex();
+    }
+
+    private void reindex() {
+        int[] counts = new int[segments.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = segments.get(i).list.getNodeCount();
+        }
+        sizes = new PrefixSizeIndex(counts);
+    }
+
+    private enum Position {
+        HEAD,
+        TAIL,
+        INDEX
+    }
+
+    private static final class Segment {
+        private final DoublyLinkedList list;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private Segment(DoublyLinkedList list) {
+            this.list = list;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package data;
+
+/**
+ * {@link CachePolicy#SEGMENTED_LRU}: a probation list for entries seen once and a protected list for entries
+ * seen again, each with the most recently used entry at the head. When the protected list outgrows its share
+ * of the capacity, its least recently used entries are demoted to the head of the probation list, where they
+ * get another chance before being evicted.
+ */
+final class SegmentedLruOrder<K, V> implements EvictionOrder<K, V> {
+    private static final int PROTECTED_PERCENT = 80;
+
+    private final DoublyLinkedList probation = new DoublyLinkedList();
+    private final DoublyLinkedList protectedEntries = new DoublyLinkedList();
+    private final long maximumProtectedWeight;
+    private long protectedWeight;
+
+    SegmentedLruOrder(long maximumWeight) {
+        this.maximumProtectedWeight = maximumWeight / 100 * PROTECTED_PERCENT
+                + maximumWeight % 100 * PROTECTED_PERCENT / 100;
+    }
+
+    @Override
+    public void added(CacheEntry<K, V> entry) {
+        linkAtHead(probation, entry);
+    }
+
+    @Override
+    public void accessed(CacheEntry<K, V> entry) {
+        if (entry.owner == protectedEntries) {
+            protectedEntries.moveToHead(entry.node);
+        } else {
+            probation.unlink(entry.node);
+            linkAtHead(protectedEntries, entry);
+            protectedWeight += entry.weight;
+        }
+        demoteOverflow();
+    }
+
+    @Override
+    public void weightChanged(CacheEntry<K, V> entry, int previousWeight) {
+        if (entry.owner == protectedEntries) {
+            protectedWeight += entry.weight - previousWeight;
+        }
+    }
+
+    @Override
+    public void removed(CacheEntry<K, V> entry) {
+        if (entry.owner == protectedEntries) {
+            protectedWeight -= entry.weight;
+        }
+        ((DoublyLinkedList) entry.owner).unlink(entry.node);
+        entry.node = null;
+        entry.owner = null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CacheEntry<K, V> victim() {
+        DoublyLinkedList segment = probation.isEmpty() ? protectedEntries : probation;
+        return (CacheEntry<K, V>) segment.getTail().getData();
+    }
+
+    @Override
+    public void clear() {
+        probation.clear();
+        protectedEntries.clear();
+        protectedWeight = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void demoteOverflow() {
+        while (protectedWeight > maximumProtectedWeight) {
+            CacheEntry<K, V> demoted = (CacheEntry<K, V>) protectedEntries.getTail().getData();
+            protectedEntries.unlink(demoted.node);
+            protectedWeight -= demoted.weight;
+            linkAtHead(probation, demoted);
+        }
+    }
+
+    private void linkAtHead(DoublyLinkedList segment, CacheEntry<K, V> entry) {
+        segment.addEngine(entry);
+        entry.node = segment.getHead();
+        entry.owner = segment;
+    }
+}
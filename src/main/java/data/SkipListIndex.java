@@ -0,0 +1,302 @@
+package data;
+
+import java.util.Objects;
+
+/**
+ * Indexable skip list layered over the node chain, giving O(log n) expected positional lookups.
+ * <p>
+ * The bottom lane is the list itself: only roughly one node in four is promoted into an express entry,
+ * and each express link records its span (how many nodes it jumps over) so that positions can be
+ * resolved by summing spans. A lookup descends the express lanes and finishes with a short walk
+ * along {@link Node#getNext()}.
+ * <p>
+ * Head and tail inserts and removals still relink in O(1); the only extra work is adjusting one span per
+ * express lane, and the number of lanes is capped at {@link #MAX_LEVEL}. Head changes find their
+ * predecessors at the header, and tail changes find them in {@link #tails}, the last entry of each lane,
+ * whose lane-local back links cover removing an entry that is itself last; neither descends the lanes.
+ * <p>
+ * After a bulk relink the index is dropped and rebuilt in one linear pass on the next lookup, so splices
+ * themselves stay O(1).
+ */
+class SkipListIndex implements PositionIndex {
+    private static final int MAX_LEVEL = 32;
+
+    private final Entry header = new Entry(null, MAX_LEVEL);
+    private final Entry[] update = new Entry[MAX_LEVEL];
+    private final Entry[] tails = new Entry[MAX_LEVEL];
+    private final int[] rank = new int[MAX_LEVEL];
+    private int level = 0;
+    private int size = 0;
+    private int seed = 0x2545F491;
+    private boolean stale = false;
+    private int lastTraversal = 0;
+
+    @Override
+    public Node nodeAt(Node head, Node tail, int size, int index) {
+        if (index == size - 1) {
+            lastTraversal = 0;
+            return tail;
+        }
+        int steps = 0;
+        if (stale) {
+            rebuild(head, size);
+            steps += size;
+        }
+
+        int target = index + 1;
+        Entry current = header;
+        int currentRank = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (Objects.nonNull(current.next[l]) && currentRank + current.span[l] <= target) {
+                currentRank += current.span[l];
+                current = current.next[l];
+                steps++;
+            }
+        }
+
+        Node node = current == header ? head : current.node;
+        int start = Math.max(currentRank, 1);
+        for (int i = start; i < target; i++) {
+            node = node.getNext();
+        }
+        lastTraversal = steps + Math.max(0, target - start);
+        return node;
+    }
+
+    @Override
+    public int lastTraversal() {
+        return lastTraversal;
+    }
+
+    @Override
+    public void inserted(int index, Node node) {
+        if (stale) {
+            return;
+        }
+
+        int target = index + 1;
+        if (target == size + 1) {
+            tailPredecessors();
+        } else {
+            findPredecessors(target);
+        }
+
+        int height = randomHeight();
+        if (height > level) {
+            for (int l = level; l < height; l++) {
+                rank[l] = 0;
+                update[l] = header;
+                tails[l] = header;
+                header.next[l] = null;
+                header.span[l] = size;
+            }
+            level = height;
+        }
+
+        if (height > 0) {
+            Entry entry = new Entry(node, height);
+            for (int l = 0; l < height; l++) {
+                entry.next[l] = update[l].next[l];
+                entry.previous[l] = update[l];
+                update[l].next[l] = entry;
+                if (Objects.nonNull(entry.next[l])) {
+                    entry.next[l].previous[l] = entry;
+                } else {
+                    tails[l] = entry;
+                }
+                entry.span[l] = update[l].span[l] - (target - 1 - rank[l]);
+                update[l].span[l] = target - rank[l];
+            }
+        }
+
+        for (int l = height; l < level; l++) {
+            update[l].span[l]++;
+        }
+        size++;
+    }
+
+    @Override
+    public void removed(int index, Node node) {
+        if (stale) {
+            return;
+        }
+
+        if (index == size - 1) {
+            tailPredecessors();
+            Entry last = level > 0 ? tails[0] : header;
+            if (last != header && last.node == node) {
+                System.arraycopy(last.previous, 0, update, 0, last.previous.length);
+            }
+        } else {
+            findPredecessors(index + 1);
+        }
+
+        for (int l = 0; l < level; l++) {
+            Entry next = update[l].next[l];
+            if (Objects.nonNull(next) && next.node == node) {
+                update[l].span[l] += next.span[l] - 1;
+                update[l].next[l] = next.next[l];
+                if (Objects.nonNull(next.next[l])) {
+                    next.next[l].previous[l] = update[l];
+                } else {
+                    tails[l] = update[l];
+                }
+            } else {
+                update[l].span[l]--;
+            }
+        }
+
+        while (level > 0 && Objects.isNull(header.next[level - 1])) {
+            level--;
+        }
+        size--;
+    }
+
+    @Override
+    public void clear() {
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            header.next[l] = null;
+            update[l] = null;
+            tails[l] = header;
+        }
+        level = 0;
+        size = 0;
+        stale = false;
+    }
+
+    @Override
+    public void invalidate() {
+        clear();
+        stale = true;
+    }
+
+    @Override
+    public PositionIndex newIndex() {
+        return new SkipListIndex();
+    }
+
+    @Override
+    public boolean isConsistentWith(Node head) {
+        if (stale) {
+            return true;
+        }
+
+        for (int l = 0; l < level; l++) {
+            Entry current = header;
+            int currentRank = 0;
+            while (Objects.nonNull(current.next[l])) {
+                if (current.next[l].previous[l] != current) {
+                    return false;
+                }
+                currentRank += current.span[l];
+                current = current.next[l];
+
+                Node node = head;
+                for (int i = 1; i < currentRank && Objects.nonNull(node); i++) {
+                    node = node.getNext();
+                }
+                if (node != current.node) {
+                    return false;
+                }
+            }
+
+            if (currentRank + current.span[l] != size || tails[l] != current) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indexes the chain starting at {@code head} from scratch, appending entries lane by lane in a single pass.
+     */
+    private void rebuild(Node head, int nodeCount) {
+        clear();
+
+        int currentRank = 0;
+        for (Node node = head; Objects.nonNull(node); node = node.getNext()) {
+            currentRank++;
+            int height = randomHeight();
+            for (int l = level; l < height; l++) {
+                update[l] = header;
+                rank[l] = 0;
+            }
+            level = Math.max(level, height);
+
+            if (height > 0) {
+                Entry entry = new Entry(node, height);
+                for (int l = 0; l < height; l++) {
+                    update[l].next[l] = entry;
+                    entry.previous[l] = update[l];
+                    update[l].span[l] = currentRank - rank[l];
+                    update[l] = entry;
+                    rank[l] = currentRank;
+                }
+            }
+        }
+
+        for (int l = 0; l < level; l++) {
+            update[l].span[l] = nodeCount - rank[l];
+            tails[l] = update[l];
+        }
+        size = nodeCount;
+    }
+
+    /**
+     * Fills {@link #update} with the last entry on each lane, which precedes the position just past the tail.
+     * The last entry's span reaches the end of the list, so its rank is {@code size} minus that span.
+     */
+    private void tailPredecessors() {
+        for (int l = 0; l < level; l++) {
+            update[l] = tails[l];
+            rank[l] = size - tails[l].span[l];
+        }
+    }
+
+    /**
+     * Fills {@link #update} with the last entry on each lane whose rank is strictly below {@code target}.
+     */
+    private void findPredecessors(int target) {
+        Entry current = header;
+        int currentRank = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (Objects.nonNull(current.next[l]) && currentRank + current.span[l] < target) {
+                currentRank += current.span[l];
+                current = current.next[l];
+            }
+            update[l] = current;
+            rank[l] = currentRank;
+        }
+    }
+
+    /**
+     * Geometric height with p = 1/4, drawn from an inline xorshift so that inserts do not allocate.
+     */
+    private int randomHeight() {
+        int height = 0;
+        while (height < MAX_LEVEL) {
+            seed ^= seed << 13;
+            seed ^= seed >>> 17;
+            seed ^= seed << 5;
+            if ((seed & 3) != 0) {
+                break;
+            }
+            height++;
+        }
+        return height;
+    }
+
+    private static final class Entry {
+        private final Node node;
+        private final Entry[] next;
+        private final Entry[] previous;
+        private final int[] span;
+
+        private Entry(Node node, int height) {
+            this.node = node;
+            this.next = new Entry[height];
+            this.previous = new Entry[height];
+            this.span = new int[height];
+        }
+    }
+}
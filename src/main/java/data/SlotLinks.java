@@ -0,0 +1,160 @@
+package data;
+
+import java.util.Arrays;
+
+/**
+ * Link structure of a doubly linked list kept in two flat {@code int} arrays instead of node objects.
+ * <p>
+ * Each element occupies a slot; {@code previous[slot]} and {@code next[slot]} hold the neighbouring slots,
+ * or {@link #NIL} at either end. Unlinked slots are chained through {@code next} into a free list and
+ * handed out again by {@link #allocate()}, so once the arrays have grown to the working-set size,
+ * adds and removes allocate nothing. Owners keep their payload in parallel arrays indexed by slot and
+ * grow them to {@link #capacity()} whenever {@link #allocate()} returns a slot beyond their length.
+ */
+final class SlotLinks {
+    static final int NIL = -1;
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private int[] previous;
+    private int[] next;
+    private int head = NIL;
+    private int tail = NIL;
+    private int size = 0;
+    private int freeHead = NIL;
+    private int used = 0;
+
+    SlotLinks(int initialCapacity) {
+        int capacity = Math.max(MINIMUM_CAPACITY, initialCapacity);
+        previous = new int[capacity];
+        next = new int[capacity];
+    }
+
+    int allocate() {
+        if (freeHead != NIL) {
+            int slot = freeHead;
+            freeHead = next[slot];
+            return slot;
+        }
+
+        if (used == previous.length) {
+            int capacity = previous.length * 2;
+            previous = Arrays.copyOf(previous, capacity);
+            next = Arrays.copyOf(next, capacity);
+        }
+        return used++;
+    }
+
+    void linkFirst(int slot) {
+        previous[slot] = NIL;
+        next[slot] = head;
+        if (head == NIL) {
+            tail = slot;
+        } else {
+            previous[head] = slot;
+        }
+        head = slot;
+        size++;
+    }
+
+    void linkLast(int slot) {
+        next[slot] = NIL;
+        previous[slot] = tail;
+        if (tail == NIL) {
+            head = slot;
+        } else {
+            next[tail] = slot;
+        }
+        tail = slot;
+        size++;
+    }
+
+    void linkBefore(int slot, int successor) {
+        int predecessor = previous[successor];
+        previous[slot] = predecessor;
+        next[slot] = successor;
+        previous[successor] = slot;
+        if (predecessor == NIL) {
+            head = slot;
+        } else {
+            next[predecessor] = slot;
+        }
+        size++;
+    }
+
+    /**
+     * Unlinks {@code slot} and returns it to the free list.
+     */
+    void unlink(int slot) {
+        int predecessor = previous[slot];
+        int successor = next[slot];
+
+        if (predecessor == NIL) {
+            head = successor;
+        } else {
+            next[predecessor] = successor;
+        }
+
+        if (successor == NIL) {
+            tail = predecessor;
+        } else {
+            previous[successor] = predecessor;
+        }
+
+        next[slot] = freeHead;
+        previous[slot] = NIL;
+        freeHead = slot;
+        size--;
+    }
+
+    /**
+     * Slot of the element at {@code index}, walking from whichever end is closer.
+     * The caller guarantees {@code 0 <= index < size}.
+     */
+    int slotAt(int index) {
+        if (index < size / 2) {
+            int slot = head;
+            for (int i = 0; i < index; i++) {
+                slot = next[slot];
+            }
+            return slot;
+        }
+
+        int slot = tail;
+        for (int i = size - 1; i > index; i--) {
+            slot = previous[slot];
+        }
+        return slot;
+    }
+
+    void clear() {
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        freeHead = NIL;
+        used = 0;
+    }
+
+    int next(int slot) {
+        return next[slot];
+    }
+
+    int previous(int slot) {
+        return previous[slot];
+    }
+
+    int head() {
+        return head;
+    }
+
+    int tail() {
+        return tail;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return previous.length;
+    }
+}
@@ -0,0 +1,86 @@
+package data;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides whether writes to the nodes of one {@link DoublyLinkedList} must record revisions.
+ * <p>
+ * They must while a snapshot of the list is open, and also while a snapshot is open on a list the nodes came
+ * from: {@link DoublyLinkedList#splice}, {@link DoublyLinkedList#concat} and {@link DoublyLinkedList#split}
+ * move nodes that an older snapshot of the source list can still reach. The receiving list inherits the
+ * source's scope, and the scopes the source had itself inherited, at the moment of the move, and drops each
+ * inherited scope once it has no open snapshot: snapshots opened on the source later cannot reach the nodes
+ * that left it.
+ * <p>
+ * A list only gets a scope when it first takes a snapshot or receives nodes from a list that has one, so
+ * lists that never meet a snapshot pay a single {@code null} check per write.
+ */
+final class SnapshotScope {
+    private static final SnapshotScope[] NONE = new SnapshotScope[0];
+
+    private final AtomicInteger open = new AtomicInteger();
+    private volatile SnapshotScope[] inherited = NONE;
+
+    boolean isRecording() {
+        if (open.get() > 0) {
+            return true;
+        }
+
+        SnapshotScope[] from = inherited;
+        return from.length > 0 && anyInheritedOpen(from);
+    }
+
+    void opened() {
+        open.incrementAndGet();
+    }
+
+    void closed() {
+        open.decrementAndGet();
+    }
+
+    /**
+     * Keeps this scope recording for as long as {@code source}, or any scope it inherited, has an open
+     * snapshot. Called by the thread moving nodes from the source's list into this scope's list.
+     */
+    void inherit(SnapshotScope source) {
+        SnapshotScope[] current = inherited;
+        SnapshotScope[] merged = Arrays.copyOf(current, current.length + 1 + source.inherited.length);
+        int count = current.length;
+        count = add(merged, count, source);
+        for (SnapshotScope scope : source.inherited) {
+            count = add(merged, count, scope);
+        }
+        inherited = Arrays.copyOf(merged, count);
+    }
+
+    private int add(SnapshotScope[] scopes, int count, SnapshotScope scope) {
+        if (scope == this || scope.open.get() == 0) {
+            return count;
+        }
+        for (int i = 0; i < count; i++) {
+            if (scopes[i] == scope) {
+                return count;
+            }
+        }
+        scopes[count] = scope;
+        return count + 1;
+    }
+
+    /**
+     * Whether any inherited scope is still open, forgetting the ones that are not.
+     */
+    private boolean anyInheritedOpen(SnapshotScope[] from) {
+        int live = 0;
+        SnapshotScope[] kept = new SnapshotScope[from.length];
+        for (SnapshotScope scope : from) {
+            if (scope.open.get() > 0) {
+                kept[live++] = scope;
+            }
+        }
+        if (live < from.length) {
+            inherited = Arrays.copyOf(kept, live);
+        }
+        return live > 0;
+    }
+}
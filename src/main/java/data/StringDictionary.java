@@ -0,0 +1,134 @@
+package data;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reference-counted dictionary of strings, shared by {@link EncodedDoublyLinkedList}s.
+ * <p>
+ * Each distinct string is stored once and given a small {@code int} code. Lists hold codes and acquire a
+ * reference for every element they add and release it for every element they remove; once a string's last
+ * reference is released it is dropped and its code is handed out again, so the dictionary only ever holds the
+ * vocabulary currently in use.
+ * <p>
+ * Not thread-safe: lists sharing a dictionary must be used from one thread at a time.
+ */
+public final class StringDictionary {
+    static final int NO_CODE = -1;
+    /**
+     * Approximate cost of one entry: its {@code HashMap} node, the boxed code and the two array slots.
+     */
+    static final int ENTRY_BYTES = 56;
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private String[] values = new String[MINIMUM_CAPACITY];
+    private int[] references = new int[MINIMUM_CAPACITY];
+    private int[] freeCodes = new int[MINIMUM_CAPACITY];
+    private int freeCount = 0;
+    private int used = 0;
+    private long referenceCount = 0;
+
+    /**
+     * Returns the code of {@code value}, adding it if it is new, and counts one more reference to it.
+     */
+    int acquire(String value) {
+        Integer known = codes.get(value);
+        int code = Objects.nonNull(known) ? known : add(value);
+        references[code]++;
+        referenceCount++;
+        return code;
+    }
+
+    /**
+     * Counts one reference to {@code code} less, dropping its string when none is left.
+     */
+    void release(int code) {
+        referenceCount--;
+        if (--references[code] > 0) {
+            return;
+        }
+
+        codes.remove(values[code]);
+        values[code] = null;
+        if (freeCount == freeCodes.length) {
+            freeCodes = Arrays.copyOf(freeCodes, freeCount * 2);
+        }
+        freeCodes[freeCount++] = code;
+    }
+
+    String decode(int code) {
+        return values[code];
+    }
+
+    /**
+     * The code of {@code value}, or {@link #NO_CODE} if no list holds it.
+     */
+    int codeOf(String value) {
+        Integer code = codes.get(value);
+        return Objects.nonNull(code) ? code : NO_CODE;
+    }
+
+    int referencesTo(int code) {
+        return references[code];
+    }
+
+    /**
+     * Number of distinct strings held.
+     */
+    public int size() {
+        return codes.size();
+    }
+
+    /**
+     * Number of list elements, over every list sharing this dictionary, that refer to one of its strings.
+     */
+    public long getReferenceCount() {
+        return referenceCount;
+    }
+
+    /**
+     * Estimated heap saved by keeping each string once instead of one copy per element, net of the
+     * dictionary's own entries.
+     */
+    public long estimatedBytesSaved() {
+        long saved = 0;
+        for (int code = 0; code < used; code++) {
+            if (references[code] > 0) {
+                saved += (long) (references[code] - 1) * estimatedSize(values[code]) - ENTRY_BYTES;
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Approximate size of a {@code String} and its backing array on a 64-bit JVM with compressed oops and
+     * compact strings.
+     */
+    static long estimatedSize(String value) {
+        boolean latin1 = true;
+        for (int i = 0; i < value.length() && latin1; i++) {
+            latin1 = value.charAt(i) < 256;
+        }
+        long arrayBytes = 16 + (long) value.length() * (latin1 ? 1 : 2);
+        return 24 + (arrayBytes + 7 & ~7L);
+    }
+
+    private int add(String value) {
+        int code;
+        if (freeCount > 0) {
+            code = freeCodes[--freeCount];
+        } else {
+            if (used == values.length) {
+                values = Arrays.copyOf(values, used * 2);
+                references = Arrays.copyOf(references, used * 2);
+            }
+            code = used++;
+        }
+        values[code] = value;
+        codes.put(value, code);
+        return code;
+    }
+}
@@ -0,0 +1,379 @@
+package data;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Doubly linked list of fixed-size blocks, each holding a small array of elements.
+ * <p>
+ * Exposes the same operations as {@link DoublyLinkedList}, but neighbouring elements share a block,
+ * so traversal touches one link per block instead of one per element. Full blocks split in half on
+ * insert. A block that drops below half full on removal merges with a neighbour it fits into, or else
+ * evens out its elements with its fuller neighbour, so every block is at least half full except a
+ * lone block and the head or tail block freshly started by {@link #addEngine} or {@link #addCaboose}.
+ */
+public class UnrolledDoublyLinkedList {
+    public static final int DEFAULT_BLOCK_CAPACITY = 64;
+
+    private final int blockCapacity;
+    private Block head;
+    private Block tail;
+    @Getter
+    private int nodeCount = 0;
+    private int locatedOffset;
+
+    public UnrolledDoublyLinkedList() {
+        this(DEFAULT_BLOCK_CAPACITY);
+    }
+
+    public UnrolledDoublyLinkedList(int blockCapacity) {
+        if (blockCapacity < 2) {
+            throw new IllegalArgumentException("Block capacity must be at least 2.");
+        }
+        this.blockCapacity = blockCapacity;
+    }
+
+    public void addEngine(Object data) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        if (isEmpty() || head.count == blockCapacity) {
+            linkBefore(head, new Block(blockCapacity));
+        }
+        head.insert(0, data);
+        nodeCount++;
+    }
+
+    public void addCaboose(Object data) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        if (isEmpty() || tail.count == blockCapacity) {
+            linkAfter(tail, new Block(blockCapacity));
+        }
+        tail.items[tail.count++] = data;
+        nodeCount++;
+    }
+
+    public void addNodeAtIndex(Object data, Integer index) {
+        if (Objects.isNull(data)) {
+            System.out.println("No data provided.");
+            return;
+        }
+
+        if (Objects.isNull(index) || index >= nodeCount) {
+            addCaboose(data);
+            return;
+        }
+
+        if (index <= 0) {
+            addEngine(data);
+            return;
+        }
+
+        Block block = locate(index);
+        int offset = locatedOffset;
+
+        if (block.count == blockCapacity) {
+            Block split = split(block);
+            if (offset > block.count) {
+                offset -= block.count;
+                block = split;
+            }
+        }
+
+        block.insert(offset, data);
+        nodeCount++;
+    }
+
+    public void removeTailNode() {
+        if (isEmpty()) {
+            System.out.println("List is currently empty.");
+            return;
+        }
+
+        tail.items[--tail.count] = null;
+        nodeCount--;
+        rebalance(tail);
+    }
+
+    public void removeHeadNode() {
+        if (isEmpty()) {
+            System.out.println("List is currently empty.");
+            return;
+        }
+
+        removeFromBlock(head, 0);
+    }
+
+    public void removeNodeAtIndex(Integer index) {
+        if (isEmpty()) {
+            System.out.println("List is currently empty.");
+            return;
+        }
+
+        if (Objects.isNull(index)
+                || index >= nodeCount
+                || index < 0) {
+            System.out.println("Invalid index provided");
+            return;
+        }
+
+        Block block = locate(index);
+        removeFromBlock(block, locatedOffset);
+    }
+
+    public Object getDataAtIndex(Integer index) {
+        if (Objects.isNull(index)
+                || index >= nodeCount
+                || index < 0) {
+            System.out.println("Invalid index provided");
+            return null;
+        }
+
+        Block block = locate(index);
+        return block.items[locatedOffset];
+    }
+
+    /**
+     * Passes every element to {@code action}, head to tail, reading each block's array in order.
+     */
+    public void forEach(Consumer<? super Object> action) {
+        Objects.requireNonNull(action);
+        for (Block block = head; Objects.nonNull(block); block = block.next) {
+            for (int i = 0; i < block.count; i++) {
+                action.accept(block.items[i]);
+            }
+        }
+    }
+
+    public void printContents() {
+        System.out.println(asString());
+    }
+
+    public String asString() {
+        StringBuilder content = new StringBuilder();
+        if (isNotEmpty()) {
+            content.append("{ ");
+            for (Block block = head; Objects.nonNull(block); block = block.next) {
+                for (int i = 0; i < block.count; i++) {
+                    content.append("[ ").append(block.items[i]).append(" ] ");
+                }
+            }
+            content.append("}");
+            return content.toString();
+        }
+
+        return "List is currently empty";
+    }
+
+    @VisibleForTesting
+    boolean isEmpty() {
+        return nodeCount == 0;
+    }
+
+    @VisibleForTesting
+    boolean isNotEmpty() {
+        return !isEmpty();
+    }
+
+    @VisibleForTesting
+    int[] blockSizes() {
+        int[] sizes = new int[blockCount()];
+        int i = 0;
+        for (Block block = head; Objects.nonNull(block); block = block.next) {
+            sizes[i++] = block.count;
+        }
+        return sizes;
+    }
+
+    @VisibleForTesting
+    int blockCount() {
+        int count = 0;
+        for (Block block = head; Objects.nonNull(block); block = block.next) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Finds the block holding {@code index}, walking block by block from whichever end is closer.
+     * The offset inside the returned block is left in {@link #locatedOffset}.
+     */
+    private Block locate(int index) {
+        if (index < nodeCount / 2) {
+            Block block = head;
+            int offset = index;
+            while (offset >= block.count) {
+                offset -= block.count;
+                block = block.next;
+            }
+            locatedOffset = offset;
+            return block;
+        }
+
+        Block block = tail;
+        int offset = nodeCount - 1 - index;
+        while (offset >= block.count) {
+            offset -= block.count;
+            block = block.previous;
+        }
+        locatedOffset = block.count - 1 - offset;
+        return block;
+    }
+
+    private void removeFromBlock(Block block, int offset) {
+        block.remove(offset);
+        nodeCount--;
+        rebalance(block);
+    }
+
+    /**
+     * Restores the half-full bound on a block that just lost an element: an empty block is unlinked, and one
+     * below half capacity merges with whichever neighbour it fits into, or else takes half the difference
+     * from its fuller neighbour so that the next few removals do not have to rebalance again.
+     */
+    private void rebalance(Block block) {
+        if (block.count == 0) {
+            unlink(block);
+            return;
+        }
+        if (block.count >= blockCapacity / 2) {
+            return;
+        }
+
+        Block previous = block.previous;
+        Block next = block.next;
+        if (Objects.nonNull(next) && block.count + next.count <= blockCapacity) {
+            merge(block, next);
+        } else if (Objects.nonNull(previous) && previous.count + block.count <= blockCapacity) {
+            merge(previous, block);
+        } else if (Objects.nonNull(next)
+                && (Objects.isNull(previous) || next.count >= previous.count)) {
+            borrowFromNext(block, next);
+        } else if (Objects.nonNull(previous)) {
+            borrowFromPrevious(block, previous);
+        }
+    }
+
+    /**
+     * Appends the elements of {@code second} to {@code first}, its predecessor, and unlinks {@code second}.
+     */
+    private void merge(Block first, Block second) {
+        System.arraycopy(second.items, 0, first.items, first.count, second.count);
+        first.count += second.count;
+        unlink(second);
+    }
+
+    private void borrowFromNext(Block block, Block next) {
+        int move = (next.count - block.count) / 2;
+        System.arraycopy(next.items, 0, block.items, block.count, move);
+        System.arraycopy(next.items, move, next.items, 0, next.count - move);
+        Arrays.fill(next.items, next.count - move, next.count, null);
+        block.count += move;
+        next.count -= move;
+    }
+
+    private void borrowFromPrevious(Block block, Block previous) {
+        int move = (previous.count - block.count) / 2;
+        System.arraycopy(block.items, 0, block.items, move, block.count);
+        System.arraycopy(previous.items, previous.count - move, block.items, 0, move);
+        Arrays.fill(previous.items, previous.count - move, previous.count, null);
+        block.count += move;
+        previous.count -= move;
+    }
+
+    /**
+     * Moves the upper half of a full block into a new block linked right after it.
+     */
+    private Block split(Block block) {
+        Block split = new Block(blockCapacity);
+        int keep = block.count / 2;
+        int move = block.count - keep;
+
+        System.arraycopy(block.items, keep, split.items, 0, move);
+        Arrays.fill(block.items, keep, block.count, null);
+        split.count = move;
+        block.count = keep;
+        linkAfter(block, split);
+        return split;
+    }
+
+    private void linkBefore(Block successor, Block block) {
+        if (Objects.isNull(successor)) {
+            head = block;
+            tail = block;
+            return;
+        }
+
+        block.next = successor;
+        block.previous = successor.previous;
+        if (Objects.nonNull(successor.previous)) {
+            successor.previous.next = block;
+        } else {
+            head = block;
+        }
+        successor.previous = block;
+    }
+
+    private void linkAfter(Block predecessor, Block block) {
+        if (Objects.isNull(predecessor)) {
+            head = block;
+            tail = block;
+            return;
+        }
+
+        block.previous = predecessor;
+        block.next = predecessor.next;
+        if (Objects.nonNull(predecessor.next)) {
+            predecessor.next.previous = block;
+        } else {
+            tail = block;
+        }
+        predecessor.next = block;
+    }
+
+    private void unlink(Block block) {
+        if (Objects.nonNull(block.previous)) {
+            block.previous.next = block.next;
+        } else {
+            head = block.next;
+        }
+
+        if (Objects.nonNull(block.next)) {
+            block.next.previous = block.previous;
+        } else {
+            tail = block.previous;
+        }
+    }
+
+    private static final class Block {
+        private final Object[] items;
+        private int count;
+        private Block previous;
+        private Block next;
+
+        private Block(int capacity) {
+            this.items = new Object[capacity];
+        }
+
+        private void insert(int offset, Object data) {
+            System.arraycopy(items, offset, items, offset + 1, count - offset);
+            items[offset] = data;
+            count++;
+        }
+
+        private void remove(int offset) {
+            System.arraycopy(items, offset + 1, items, offset, count - offset - 1);
+            items[--count] = null;
+        }
+    }
+}
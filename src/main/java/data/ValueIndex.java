@@ -0,0 +1,136 @@
+package data;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Hash index from element values to the nodes holding them, used by {@link DoublyLinkedList#valueIndexed()}.
+ * <p>
+ * A value held by one node maps straight to that node, so finding it is O(1) expected time. A value held by
+ * several nodes maps to the set of them; membership is still O(1), but picking the first of them in list
+ * order walks from the head to it, as a plain scan would. The list reports every node it links, unlinks or
+ * changes the data of, so the index always mirrors the chain.
+ */
+final class ValueIndex {
+    private final Map<Object, Object> nodes = new HashMap<>();
+
+    boolean contains(Object value) {
+        return nodes.containsKey(value);
+    }
+
+    /**
+     * The first node in list order holding {@code value}, or {@code null} if none does.
+     */
+    @SuppressWarnings("unchecked")
+    Node first(Node head, Object value) {
+        Object entry = nodes.get(value);
+        if (Objects.isNull(entry) || entry instanceof Node) {
+            return (Node) entry;
+        }
+
+        Set<Node> duplicates = (Set<Node>) entry;
+        for (Node current = head; Objects.nonNull(current); current = current.getNext()) {
+            if (duplicates.contains(current)) {
+                return current;
+            }
+        }
+        throw new IllegalStateException("Value index is out of step with the list.");
+    }
+
+    /**
+     * Called once {@code node} holds its data and is part of the list.
+     */
+    @SuppressWarnings("unchecked")
+    void added(Node node) {
+        Object value = node.getData();
+        Object entry = nodes.get(value);
+        if (Objects.isNull(entry)) {
+            nodes.put(value, node);
+        } else if (entry instanceof Node) {
+            Set<Node> duplicates = new HashSet<>();
+            duplicates.add((Node) entry);
+            duplicates.add(node);
+            nodes.put(value, duplicates);
+        } else {
+            ((Set<Node>) entry).add(node);
+        }
+    }
+
+    /**
+     * Called once {@code node}, which held {@code value}, has left the list or been given other data.
+     */
+    @SuppressWarnings("unchecked")
+    void removed(Object value, Node node) {
+        Object entry = nodes.get(value);
+        if (entry == node) {
+            nodes.remove(value);
+        } else if (entry instanceof Set) {
+            Set<Node> duplicates = (Set<Node>) entry;
+            duplicates.remove(node);
+            if (duplicates.size() == 1) {
+                nodes.put(value, duplicates.iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Adds every node of the chain {@code first..last}.
+     */
+    void addedChain(Node first, Node last) {
+        for (Node current = first; Objects.nonNull(current); current = current.getNext()) {
+            added(current);
+            if (current == last) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes every node of the chain {@code first..last}.
+     */
+    void removedChain(Node first, Node last) {
+        for (Node current = first; Objects.nonNull(current); current = current.getNext()) {
+            removed(current.getData(), current);
+            if (current == last) {
+                return;
+            }
+        }
+    }
+
+    void clear() {
+        nodes.clear();
+    }
+
+    /**
+     * Checks that the index holds exactly the nodes of the chain starting at {@code head}, each under its data.
+     */
+    @VisibleForTesting
+    @SuppressWarnings("unchecked")
+    boolean isConsistentWith(Node head) {
+        int indexed = 0;
+        for (Object entry : nodes.values()) {
+            if (entry instanceof Node) {
+                indexed++;
+            } else if (((Set<Node>) entry).size() < 2) {
+                return false;
+            } else {
+                indexed += ((Set<Node>) entry).size();
+            }
+        }
+
+        int linked = 0;
+        for (Node current = head; Objects.nonNull(current); current = current.getNext()) {
+            Object entry = nodes.get(current.getData());
+            if (entry != current && !(entry instanceof Set && ((Set<Node>) entry).contains(current))) {
+                return false;
+            }
+            linked++;
+        }
+        return indexed == linked;
+    }
+}
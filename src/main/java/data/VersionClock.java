@@ -0,0 +1,103 @@
+package data;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global version counter and registry of open {@link ListSnapshot}s.
+ * <p>
+ * Opening a snapshot advances the clock, so every change made afterwards is stamped with a time at or after
+ * the snapshot's version, and every change made before it with an earlier one. Whether a list records
+ * revisions at all is decided per list by its {@link SnapshotScope}; the clock is only read by lists that do.
+ * Versions come from one counter because splice, concat and split move nodes between lists, and a snapshot
+ * must be able to order the revisions of its nodes wherever they end up.
+ * <p>
+ * The newest revision of every node changed under an open snapshot is kept here, keyed by the node, so nodes
+ * carry no field for it; closing a snapshot prunes every revision no remaining snapshot can need, so old
+ * versions become garbage as soon as their last reader is done. Pruning goes by the oldest snapshot open on
+ * any list, so a long-lived snapshot delays reclaiming revisions elsewhere, but never makes another list
+ * record them. Opening a snapshot and computing that bound take a lock, so a snapshot opened on one thread
+ * while another closes one never loses revisions to the prune.
+ */
+final class VersionClock {
+    private static final Object LOCK = new Object();
+    private static final AtomicLong CLOCK = new AtomicLong();
+    private static final TreeSet<Long> OPEN = new TreeSet<>();
+    private static final ConcurrentHashMap<Node, Node.Revision> REVISIONS = new ConcurrentHashMap<>();
+
+    private VersionClock() {
+    }
+
+    static long now() {
+        return CLOCK.get();
+    }
+
+    /**
+     * Advances the clock and registers the new time as the version of an open snapshot, in one step, so no
+     * reclaim can see the advanced clock without the snapshot that needs it.
+     */
+    static long open() {
+        synchronized (LOCK) {
+            long version = CLOCK.incrementAndGet();
+            OPEN.add(version);
+            return version;
+        }
+    }
+
+    static void closed(long version) {
+        synchronized (LOCK) {
+            OPEN.remove(version);
+        }
+        reclaim();
+    }
+
+    /**
+     * The oldest version an open snapshot has or a snapshot opened from now on can get: revisions replaced
+     * before it are garbage.
+     */
+    static long oldestOpenVersion() {
+        synchronized (LOCK) {
+            return OPEN.isEmpty() ? CLOCK.get() + 1 : OPEN.first();
+        }
+    }
+
+    /**
+     * The newest revision of {@code node}, or {@code null} when it has none.
+     */
+    static Node.Revision revisionOf(Node node) {
+        return REVISIONS.get(node);
+    }
+
+    /**
+     * Replaces the newest revision of {@code node} if it is still {@code expected}; a {@code null} on either
+     * side stands for no entry.
+     */
+    static boolean replaceRevision(Node node, Node.Revision expected, Node.Revision replacement) {
+        if (Objects.isNull(expected)) {
+            return Objects.isNull(REVISIONS.putIfAbsent(node, replacement));
+        }
+        if (Objects.isNull(replacement)) {
+            return REVISIONS.remove(node, expected);
+        }
+        return REVISIONS.replace(node, expected, replacement);
+    }
+
+    /**
+     * Prunes every node holding revisions, dropping the ones left without any.
+     */
+    static void reclaim() {
+        long oldest = oldestOpenVersion();
+        for (Node node : REVISIONS.keySet()) {
+            node.pruneRevisions(oldest);
+        }
+    }
+
+    @VisibleForTesting
+    static int revisedNodeCount() {
+        return REVISIONS.size();
+    }
+}
@@ -0,0 +1,14 @@
+package data;
+
+/**
+ * Computes how much of a cache's capacity an entry uses. The weight of an entry is fixed when it is put, so it
+ * must not depend on state that changes afterwards.
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    /**
+     * The non-negative weight of the entry.
+     */
+    int weigh(K key, V value);
+}
@@ -0,0 +1,117 @@
+package cli;
+
+import data.DoublyLinkedList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchRunnerTest {
+
+    @TempDir
+    Path directory;
+
+    private final DoublyLinkedList doublyLinkedList = new DoublyLinkedList();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @Test
+    void run_shouldApplyCommandsInOrder_givenMixedRuns() throws IOException {
+        BatchRunner.Result result = run("b\nc tail\na head\nz 0\nx 2\nremoveNode tail\nremoveNode 0\nd 10\n");
+
+        assertThat(doublyLinkedList).containsExactly("a", "x", "b", "d");
+        assertThat(result.getCommands()).isEqualTo(8);
+        assertThat(result.getRejected()).isZero();
+    }
+
+    @Test
+    void run_shouldPrintOnlyOnRequestAndAtEnd() throws IOException {
+        run("a\nb\nprint\nc\n");
+
+        String printed = output.toString();
+        assertThat(printed).startsWith("{ [ a ] [ b ] }" + System.lineSeparator());
+        assertThat(printed).contains("Final DLL: { [ a ] [ b ] [ c ] }");
+        assertThat(printed).contains("Processed 4 commands (0 rejected)");
+    }
+
+    @Test
+    void run_shouldCountRejectedCommands_givenInvalidInput() throws IOException {
+        BatchRunner.Result result = run("removeNode head\na b c\nremoveNode\na x\nremoveNode 5\n");
+
+        assertThat(doublyLinkedList).isEmpty();
+        assertThat(result.getRejected()).isEqualTo(5);
+    }
+
+    @Test
+    void run_shouldStopAtQuit() throws IOException {
+        run("a\nquit\nb\n");
+
+        assertThat(doublyLinkedList).containsExactly("a");
+    }
+
+    @Test
+    void run_shouldSaveAndLoadList() throws IOException {
+        BatchRunner runner = new BatchRunner(doublyLinkedList, directory.resolve("list.txt"), new PrintStream(output));
+
+        runner.run(new StringReader("a\nb\nsaveList\nremoveNode head\nremoveNode head\nc\nloadList\n"));
+
+        assertThat(doublyLinkedList).containsExactly("a", "b");
+    }
+
+    @Test
+    void run_shouldKeepList_givenLoadOfUnreadableFile() throws IOException {
+        Path listFile = directory.resolve("list.txt");
+        Files.write(listFile, new byte[]{'x', '\n', (byte) 0xff, '\n'});
+        BatchRunner runner = new BatchRunner(doublyLinkedList, listFile, new PrintStream(output));
+
+        runner.run(new StringReader("a\nb\nloadList\n"));
+
+        assertThat(doublyLinkedList).containsExactly("a", "b");
+        assertThat(output.toString()).contains("Could not load from file.");
+    }
+
+    @Test
+    void run_shouldMatchCommandByCommandExecution_givenRandomScript() throws IOException {
+        Random random = new Random(3);
+        StringBuilder script = new StringBuilder();
+        Deque<String> reference = new ArrayDeque<>();
+        for (int i = 0; i < 20_000; i++) {
+            int choice = random.nextInt(5);
+            if (choice == 0) {
+                script.append("v").append(i).append(" head\n");
+                reference.addFirst("v" + i);
+            } else if (choice == 1) {
+                script.append("v").append(i).append('\n');
+                reference.addLast("v" + i);
+            } else if (choice == 2) {
+                script.append("removeNode head\n");
+                reference.pollFirst();
+            } else if (choice == 3) {
+                script.append("removeNode tail\n");
+                reference.pollLast();
+            } else {
+                script.append("v").append(i).append(" tail\n");
+                reference.addLast("v" + i);
+            }
+        }
+
+        run(script.toString());
+
+        assertThat(doublyLinkedList).containsExactlyElementsOf(reference);
+        assertThat(doublyLinkedList.hashCode()).isEqualTo(reference.stream().reduce(1, (hash, e) -> 31 * hash + e.hashCode(), (a, b) -> a));
+    }
+
+    private BatchRunner.Result run(String script) throws IOException {
+        BatchRunner runner = new BatchRunner(doublyLinkedList, directory.resolve("list.txt"), new PrintStream(output));
+        return runner.run(new StringReader(script));
+    }
+}
@@ -0,0 +1,89 @@
+package cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommandReaderTest {
+
+    @Test
+    void next_shouldSplitTokens_givenRepeatedSeparatorsAndCarriageReturn() throws IOException {
+        CommandReader reader = new CommandReader(new StringReader("  a \t tail\r\nremoveNode 12\n"));
+
+        assertThat(reader.next()).isTrue();
+        assertThat(reader.tokenCount()).isEqualTo(2);
+        assertThat(reader.token(0)).isEqualTo("a");
+        assertThat(reader.tokenEqualsIgnoreCase(1, "TAIL")).isTrue();
+
+        assertThat(reader.next()).isTrue();
+        assertThat(reader.tokenEqualsIgnoreCase(0, "removenode")).isTrue();
+        assertThat(reader.isIndex(1)).isTrue();
+        assertThat(reader.index(1)).isEqualTo(12);
+
+        assertThat(reader.next()).isFalse();
+    }
+
+    @Test
+    void next_shouldReportTooManyTokens_givenThreeTokens() throws IOException {
+        CommandReader reader = new CommandReader(new StringReader("a b c"));
+
+        reader.next();
+
+        assertThat(reader.tokenCount()).isEqualTo(CommandReader.MAX_TOKENS + 1);
+    }
+
+    @Test
+    void next_shouldReadLineLongerThanInitialBuffer() throws IOException {
+        StringBuilder longToken = new StringBuilder();
+        for (int i = 0; i < 1_000; i++) {
+            longToken.append('x');
+        }
+        CommandReader reader = new CommandReader(new StringReader(longToken + " 3"));
+
+        reader.next();
+
+        assertThat(reader.token(0)).isEqualTo(longToken.toString());
+        assertThat(reader.index(1)).isEqualTo(3);
+    }
+
+    @Test
+    void isIndex_shouldMatchIntegerParseInt() throws IOException {
+        String[] candidates = {"0", "-5", "+7", "2147483647", "2147483648", "-2147483648", "-2147483649", "1a", "-", "99999999999"};
+        StringBuilder input = new StringBuilder();
+        for (String candidate : candidates) {
+            input.append("x ").append(candidate).append('\n');
+        }
+        CommandReader reader = new CommandReader(new StringReader(input.toString()));
+
+        for (String candidate : candidates) {
+            reader.next();
+            Integer expected = parseOrNull(candidate);
+            assertThat(reader.isIndex(1)).as(candidate).isEqualTo(expected != null);
+            if (expected != null) {
+                assertThat(reader.index(1)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void hasBufferedInput_shouldReportRemainingLines_givenReadAhead() throws IOException {
+        CommandReader reader = new CommandReader(new StringReader("a\nb\n"));
+
+        reader.next();
+        assertThat(reader.hasBufferedInput()).isTrue();
+
+        reader.next();
+        assertThat(reader.hasBufferedInput()).isFalse();
+    }
+
+    private static Integer parseOrNull(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
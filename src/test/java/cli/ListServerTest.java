@@ -0,0 +1,191 @@
+package cli;
+
+import data.DoublyLinkedList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListServerTest {
+
+    @TempDir
+    Path directory;
+
+    private final DoublyLinkedList doublyLinkedList = new DoublyLinkedList();
+    private ListServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = ListServer.start(doublyLinkedList, directory.resolve("list.txt"), 0);
+    }
+
+    @AfterEach
+    void stopServer() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void serve_shouldAnswerEachPipelinedCommandInOrder() throws IOException {
+        List<String> responses = send("b\na head\nc tail\nx 1\n\nremoveNode 1\nprint\nquit\n", 7);
+
+        assertThat(responses).containsExactly("OK 1", "OK 2", "OK 3", "OK 4", "OK 3", "{ [ a ] [ b ] [ c ] }", "BYE");
+        assertThat(doublyLinkedList).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void serve_shouldRejectInvalidCommandsWithoutChangingList() throws IOException {
+        List<String> responses = send("removeNode head\nremoveNode\na b c\nremoveNode x\nquit\n", 5);
+
+        assertThat(responses).containsExactly("ERR List is currently empty.", "ERR Invalid input.",
+                "ERR Invalid input.", "ERR Invalid input.", "BYE");
+        assertThat(doublyLinkedList).isEmpty();
+    }
+
+    @Test
+    void serve_shouldPrintListAsOfEachPrint_givenLaterPipelinedChanges() throws IOException {
+        List<String> responses = send("a\nb\nprint\nremoveNode head\nprint\nc\nquit\n", 7);
+
+        assertThat(responses).containsExactly("OK 1", "OK 2", "{ [ a ] [ b ] }", "OK 1", "{ [ b ] }", "OK 2", "BYE");
+        assertThat(doublyLinkedList).containsExactly("b", "c");
+    }
+
+    @Test
+    void serve_shouldSaveAndLoadListFile() throws IOException {
+        List<String> responses = send("a\nb\nsaveList\nremoveNode tail\nloadList\nquit\n", 6);
+
+        assertThat(responses).containsExactly("OK 1", "OK 2", "OK File saved.", "OK 1", "OK 2", "BYE");
+        assertThat(Files.readAllLines(directory.resolve("list.txt"))).isNotEmpty();
+        assertThat(doublyLinkedList).containsExactly("a", "b");
+    }
+
+    @Test
+    void serve_shouldKeepList_givenLoadOfMissingOrUnreadableFile() throws IOException {
+        List<String> responses = send("a\nb\nloadList\nquit\n", 4);
+        assertThat(responses.get(2)).startsWith("ERR Could not load from file.");
+
+        Files.write(directory.resolve("list.txt"), new byte[]{'x', '\n', (byte) 0xff, '\n'});
+        responses = send("loadList\nprint\nquit\n", 3);
+
+        assertThat(responses.get(0)).startsWith("ERR Could not load from file.");
+        assertThat(responses.subList(1, 3)).containsExactly("{ [ a ] [ b ] }", "BYE");
+        assertThat(doublyLinkedList).containsExactly("a", "b");
+    }
+
+    @Test
+    void serve_shouldReadEachStateInOrder_givenPrintsAndSavesPipelinedBetweenChanges() throws IOException {
+        LinkedList<String> expected = new LinkedList<>();
+        StringBuilder commands = new StringBuilder();
+        List<String> responses = new ArrayList<>();
+        Random random = new Random(24);
+        int added = 0;
+        for (int i = 0; i < 512; i++) {
+            String data = "e" + added++;
+            commands.append(data).append('\n');
+            expected.addLast(data);
+            responses.add("OK " + expected.size());
+        }
+
+        for (int round = 0; round < 1_000; round++) {
+            for (int change = 0; change < 4; change++) {
+                String data = "e" + added++;
+                switch (random.nextInt(3)) {
+                    case 0:
+                        commands.append(data).append(" head\n");
+                        expected.addFirst(data);
+                        break;
+                    case 1:
+                        int index = 1 + random.nextInt(expected.size() - 1);
+                        commands.append(data).append(' ').append(index).append('\n');
+                        expected.add(index, data);
+                        break;
+                    default:
+                        commands.append(data).append('\n');
+                        expected.addLast(data);
+                        break;
+                }
+                responses.add("OK " + expected.size());
+            }
+            commands.append("removeNode head\nremoveNode tail\n");
+            expected.removeFirst();
+            responses.add("OK " + expected.size());
+            expected.removeLast();
+            responses.add("OK " + expected.size());
+            int index = random.nextInt(expected.size());
+            commands.append("removeNode ").append(index).append('\n');
+            expected.remove(index);
+            responses.add("OK " + expected.size());
+
+            commands.append("print\n");
+            responses.add(expected.stream().map(data -> "[ " + data + " ] ").collect(Collectors.joining("", "{ ", "}")));
+            if (round % 100 == 99) {
+                commands.append("saveList\n");
+                responses.add("OK File saved.");
+            }
+        }
+        List<String> saved = new ArrayList<>(expected);
+        commands.append("removeNode head\nloadList\nquit\n");
+        responses.add("OK " + (saved.size() - 1));
+        responses.add("OK " + saved.size());
+        responses.add("BYE");
+
+        assertThat(send(commands.toString(), responses.size())).containsExactlyElementsOf(responses);
+        assertThat(doublyLinkedList).containsExactlyElementsOf(saved);
+    }
+
+    @Test
+    void serve_shouldApplyEveryCommand_givenConcurrentClients() throws Exception {
+        LoadGenerator.Report report = LoadGenerator.run(server.getPort(), 4, 200, 10);
+
+        assertThat(report.getCommands()).isEqualTo(8_000);
+        assertThat(report.getRejected()).isZero();
+        assertThat(report.getP99Nanos()).isGreaterThanOrEqualTo(report.getP50Nanos()).isPositive();
+        assertThat(report.commandsPerSecond()).isPositive();
+        assertThat(doublyLinkedList).isEmpty();
+    }
+
+    /**
+     * Writes {@code commands} from another thread, so responses to a long pipeline cannot fill the socket
+     * while the test is still writing.
+     */
+    private List<String> send(String commands, int expectedLines) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            CompletableFuture<Void> written = CompletableFuture.runAsync(() -> {
+                try {
+                    OutputStream out = socket.getOutputStream();
+                    out.write(commands.getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            List<String> lines = new ArrayList<>();
+            for (int i = 0; i < expectedLines; i++) {
+                lines.add(in.readLine());
+            }
+            assertThat(in.readLine()).isNull();
+            written.join();
+            return lines;
+        }
+    }
+}
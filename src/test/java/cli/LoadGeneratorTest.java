@@ -0,0 +1,25 @@
+package cli;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadGeneratorTest {
+
+    @Test
+    void percentile_shouldReturnExactNearestRankSample() {
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = 1_000 + i * 7L;
+        }
+
+        assertThat(LoadGenerator.percentile(sorted, 50)).isEqualTo(1_343);
+        assertThat(LoadGenerator.percentile(sorted, 99)).isEqualTo(1_686);
+        assertThat(LoadGenerator.percentile(sorted, 100)).isEqualTo(1_693);
+    }
+
+    @Test
+    void percentile_shouldReturnZero_givenNoSamples() {
+        assertThat(LoadGenerator.percentile(new long[0], 99)).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArrayBackedDoublyLinkedListTest {
+
+    private final ArrayBackedDoublyLinkedList arrayList = new ArrayBackedDoublyLinkedList();
+
+    @Test
+    void addEngine_shouldDoNothing_givenNullData() {
+        arrayList.addEngine(null);
+
+        assertThat(arrayList.getNodeCount()).isZero();
+    }
+
+    @Test
+    void addNodeAtIndex_shouldAddTail_givenNullIndex() {
+        arrayList.addCaboose("1");
+
+        arrayList.addNodeAtIndex("2", null);
+
+        assertThat(arrayList.asString()).isEqualTo("{ [ 1 ] [ 2 ] }");
+    }
+
+    @Test
+    void addNodeAtIndex_shouldInsertInMiddle_givenValidIndex() {
+        arrayList.addCaboose("1");
+        arrayList.addCaboose("3");
+
+        arrayList.addNodeAtIndex("2", 1);
+
+        assertThat(arrayList.asString()).isEqualTo("{ [ 1 ] [ 2 ] [ 3 ] }");
+    }
+
+    @Test
+    void forEach_shouldVisitElementsInOrder_givenRecycledSlots() {
+        arrayList.addCaboose("2");
+        arrayList.addCaboose("x");
+        arrayList.addCaboose("3");
+        arrayList.removeNodeAtIndex(1);
+        arrayList.addEngine("1");
+        List<Object> visited = new ArrayList<>();
+
+        arrayList.forEach(visited::add);
+
+        assertThat(visited).containsExactly("1", "2", "3");
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(ints = {-1, 2})
+    void getDataAtIndex_shouldReturnNull_givenNullOrInvalidIndex(Integer index) {
+        arrayList.addCaboose("1");
+        arrayList.addCaboose("2");
+
+        assertThat(arrayList.getDataAtIndex(index)).isNull();
+    }
+
+    @Test
+    void removeOperations_shouldRecycleSlots_givenSteadyStateChurn() {
+        for (int i = 0; i < 100; i++) {
+            arrayList.addCaboose(i);
+        }
+        int capacity = arrayList.capacity();
+
+        for (int i = 0; i < 10_000; i++) {
+            arrayList.addCaboose(i);
+            switch (i % 3) {
+                case 0:
+                    arrayList.removeHeadNode();
+                    break;
+                case 1:
+                    arrayList.removeTailNode();
+                    break;
+                default:
+                    arrayList.removeNodeAtIndex(50);
+                    break;
+            }
+        }
+
+        assertThat(arrayList.getNodeCount()).isEqualTo(100);
+        assertThat(arrayList.capacity()).isEqualTo(capacity);
+    }
+}
@@ -0,0 +1,183 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentDoublyLinkedListTest {
+
+    private final ConcurrentDoublyLinkedList concurrentList = new ConcurrentDoublyLinkedList();
+
+    @Test
+    void addEngine_shouldDoNothing_givenNullData() {
+        concurrentList.addEngine(null);
+
+        assertThat(concurrentList.getNodeCount()).isZero();
+        assertThat(concurrentList.isEmpty()).isTrue();
+    }
+
+    @Test
+    void removeHeadNode_shouldReturnEmpty_whenListIsEmpty() {
+        assertThat(concurrentList.removeHeadNode()).isEmpty();
+        assertThat(concurrentList.removeTailNode()).isEmpty();
+        assertThat(concurrentList.getNodeCount()).isZero();
+    }
+
+    @Test
+    void removeOperations_shouldReturnEnds_givenPopulatedList() {
+        concurrentList.addCaboose("2");
+        concurrentList.addEngine("1");
+        concurrentList.addCaboose("3");
+
+        assertThat(concurrentList.asString()).isEqualTo("{ [ 1 ] [ 2 ] [ 3 ] }");
+        assertThat(concurrentList.removeHeadNode()).contains("1");
+        assertThat(concurrentList.removeTailNode()).contains("3");
+        assertThat(concurrentList.getNodeCount()).isOne();
+    }
+
+    @Test
+    void operations_shouldMatchDeque_givenMixedEndOperations() {
+        Deque<Object> expected = new ArrayDeque<>();
+        Random random = new Random(6);
+
+        for (int i = 0; i < 10_000; i++) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    concurrentList.addEngine(i);
+                    expected.addFirst(i);
+                    break;
+                case 1:
+                    concurrentList.addCaboose(i);
+                    expected.addLast(i);
+                    break;
+                case 2:
+                    assertThat(concurrentList.removeHeadNode()).isEqualTo(Optional.ofNullable(expected.pollFirst()));
+                    break;
+                default:
+                    assertThat(concurrentList.removeTailNode()).isEqualTo(Optional.ofNullable(expected.pollLast()));
+                    break;
+            }
+            assertThat(concurrentList.getNodeCount()).isEqualTo(expected.size());
+        }
+
+        String rendered = expected.stream().map(data -> "[ " + data + " ] ").collect(Collectors.joining("", "{ ", "}"));
+        assertThat(concurrentList.asString()).isEqualTo(expected.isEmpty() ? "List is currently empty" : rendered);
+    }
+
+    @Test
+    void getNodeCount_shouldCountOnlyNodesInList_givenConcurrentAddsAndRemoves() throws Exception {
+        int workers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(workers + 1);
+        AtomicBoolean done = new AtomicBoolean(false);
+        try {
+            Future<Boolean> observer = executor.submit(() -> {
+                boolean inRange = true;
+                while (!done.get()) {
+                    int count = concurrentList.getNodeCount();
+                    inRange &= count >= 0 && count <= workers;
+                }
+                return inRange;
+            });
+            List<Future<?>> running = new ArrayList<>();
+            for (int w = 0; w < workers; w++) {
+                int worker = w;
+                running.add(executor.submit(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        if ((worker + i) % 2 == 0) {
+                            concurrentList.addEngine(i);
+                        } else {
+                            concurrentList.addCaboose(i);
+                        }
+                        Optional<Object> removed = i % 3 == 0
+                                ? concurrentList.removeTailNode()
+                                : concurrentList.removeHeadNode();
+                        assertThat(removed).isPresent();
+                    }
+                }));
+            }
+            for (Future<?> future : running) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            done.set(true);
+
+            assertThat(observer.get(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(concurrentList.getNodeCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void operations_shouldDeliverEveryNodeOnce_givenConcurrentProducersAndConsumers() throws InterruptedException {
+        int producers = 4;
+        int consumers = 4;
+        int perProducer = 25_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger consumed = new AtomicInteger();
+        Set<Object> seen = ConcurrentHashMap.newKeySet();
+
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            executor.execute(() -> {
+                await(start);
+                for (int i = 0; i < perProducer; i++) {
+                    String data = producer + ":" + i;
+                    if (i % 2 == 0) {
+                        concurrentList.addEngine(data);
+                    } else {
+                        concurrentList.addCaboose(data);
+                    }
+                }
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            int consumer = c;
+            executor.execute(() -> {
+                await(start);
+                while (consumed.get() < producers * perProducer) {
+                    Optional<Object> data = consumer % 2 == 0
+                            ? concurrentList.removeHeadNode()
+                            : concurrentList.removeTailNode();
+                    data.ifPresent(value -> {
+                        seen.add(value);
+                        consumed.incrementAndGet();
+                    });
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(seen).hasSize(producers * perProducer);
+        assertThat(concurrentList.getNodeCount()).isZero();
+        assertThat(concurrentList.isEmpty()).isTrue();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
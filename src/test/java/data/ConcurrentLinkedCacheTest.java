@@ -0,0 +1,94 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentLinkedCacheTest {
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsed_givenBufferedHitsDrained() {
+        List<String> evicted = new ArrayList<>();
+        ConcurrentLinkedCache<String, Integer> cache = new ConcurrentLinkedCache<>(2, CachePolicy.LRU,
+                (key, value) -> 1, (key, value) -> evicted.add(key));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        cache.put("c", 3);
+
+        assertThat(evicted).containsExactly("b");
+        assertThat(cache.get("a")).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldDrainBuffers_givenFullBuffer() {
+        ConcurrentLinkedCache<String, Integer> cache = new ConcurrentLinkedCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        for (int i = 0; i < ConcurrentLinkedCache.BUFFER_SIZE * 3; i++) {
+            assertThat(cache.get("a")).isEqualTo(1);
+        }
+        cache.put("c", 3);
+
+        assertThat(cache.containsKey("a")).isTrue();
+        assertThat(cache.containsKey("b")).isFalse();
+    }
+
+    @Test
+    void remove_shouldIgnoreBufferedHit_givenRemovedEntry() {
+        ConcurrentLinkedCache<String, Integer> cache = new ConcurrentLinkedCache<>(2, CachePolicy.LFU);
+        cache.put("a", 1);
+        cache.get("a");
+
+        assertThat(cache.remove("a")).isEqualTo(1);
+        cache.cleanUp();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.weight()).isZero();
+    }
+
+    @Test
+    void cache_shouldStayWithinCapacity_givenConcurrentReadersAndWriters() throws Exception {
+        for (CachePolicy policy : CachePolicy.values()) {
+            ConcurrentLinkedCache<Integer, Integer> cache = new ConcurrentLinkedCache<>(100, policy);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<Boolean>> workers = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    workers.add(executor.submit(() -> {
+                        boolean consistent = true;
+                        for (int i = 0; i < 20_000; i++) {
+                            int key = ThreadLocalRandom.current().nextInt(500);
+                            if (i % 4 == 0) {
+                                cache.put(key, key);
+                            } else {
+                                Integer value = cache.get(key);
+                                consistent &= value == null || value == key;
+                            }
+                        }
+                        return consistent;
+                    }));
+                }
+                for (Future<Boolean> worker : workers) {
+                    assertThat(worker.get(30, TimeUnit.SECONDS)).isTrue();
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            cache.cleanUp();
+            assertThat(cache.size()).isLessThanOrEqualTo(100);
+            assertThat(cache.weight()).isEqualTo(cache.size());
+        }
+    }
+}
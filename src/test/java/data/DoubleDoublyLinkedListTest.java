@@ -0,0 +1,37 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DoubleDoublyLinkedListTest {
+
+    private final DoubleDoublyLinkedList doubleList = new DoubleDoublyLinkedList();
+
+    @Test
+    void addOperations_shouldPreserveOrder() {
+        doubleList.addCaboose(2);
+        doubleList.addEngine(0);
+        doubleList.addNodeAtIndex(1, 1);
+
+        assertThat(doubleList.getNodeCount()).isEqualTo(3);
+        assertThat(doubleList.getDataAtIndex(0)).isEqualTo(0);
+        assertThat(doubleList.getDataAtIndex(1)).isEqualTo(1);
+        assertThat(doubleList.getDataAtIndex(2)).isEqualTo(2);
+    }
+
+    @Test
+    void removeOperations_shouldPreserveOrder() {
+        for (int i = 0; i < 5; i++) {
+            doubleList.addCaboose(i);
+        }
+
+        doubleList.removeHeadNode();
+        doubleList.removeTailNode();
+        doubleList.removeNodeAtIndex(1);
+
+        assertThat(doubleList.getNodeCount()).isEqualTo(2);
+        assertThat(doubleList.getDataAtIndex(0)).isEqualTo(1);
+        assertThat(doubleList.getDataAtIndex(1)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,121 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DoublyLinkedListStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void save_shouldWriteOneRecordPerLine() throws IOException {
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addCaboose("a");
+        list.addCaboose("b c");
+        Path file = directory.resolve("list.txt");
+
+        DoublyLinkedListStore.save(list, file);
+
+        assertThat(Files.readAllLines(file, StandardCharsets.UTF_8)).containsExactly("a", "b c");
+    }
+
+    @Test
+    void load_shouldRestoreSavedList_givenElementsNeedingEscapes() throws IOException {
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addCaboose("plain");
+        list.addCaboose("multi\nline");
+        list.addCaboose("back\\slash\\n");
+        list.addCaboose("carriage\r\nreturn");
+        list.addCaboose("");
+        list.addCaboose("\u00fcn\u00efc\u00f8d\u00e9");
+        Path file = directory.resolve("list.txt");
+
+        DoublyLinkedListStore.save(list, file);
+        DoublyLinkedList loaded = new DoublyLinkedList();
+        DoublyLinkedListStore.load(loaded, file);
+
+        assertThat(loaded.getNodeCount()).isEqualTo(6);
+        assertThat(loaded.asString()).isEqualTo(list.asString());
+    }
+
+    @Test
+    void save_shouldReplaceExistingFile() throws IOException {
+        Path file = directory.resolve("list.txt");
+        Files.write(file, "stale\nstale\nstale\n".getBytes(StandardCharsets.UTF_8));
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addCaboose("fresh");
+
+        DoublyLinkedListStore.save(list, file);
+
+        assertThat(Files.readAllLines(file, StandardCharsets.UTF_8)).containsExactly("fresh");
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+
+    @Test
+    void load_shouldThrow_whenFileMissing() {
+        assertThatThrownBy(() -> DoublyLinkedListStore.load(new DoublyLinkedList(), directory.resolve("missing.txt")))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void replace_shouldSwapInLoadedList_givenReadableFile() throws IOException {
+        Path file = directory.resolve("list.txt");
+        Files.write(file, "x\ny\n".getBytes(StandardCharsets.UTF_8));
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addAll("a", "b", "c");
+
+        DoublyLinkedListStore.replace(list, file);
+
+        assertThat(list).containsExactly("x", "y");
+        assertThat(list.getNodeCount()).isEqualTo(2);
+    }
+
+    @Test
+    void replace_shouldKeepList_givenFileFailingPartWay() throws IOException {
+        Path file = directory.resolve("list.txt");
+        Files.write(file, new byte[]{'x', '\n', 'y', '\n', (byte) 0xff, '\n'});
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addAll("a", "b", "c");
+
+        assertThatThrownBy(() -> DoublyLinkedListStore.replace(list, file)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> DoublyLinkedListStore.replace(list, directory.resolve("missing.txt")))
+                .isInstanceOf(IOException.class);
+
+        assertThat(list).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void readRecord_shouldAcceptCrLfLineEndings() throws IOException {
+        DoublyLinkedListStore.RecordReader reader = new DoublyLinkedListStore.RecordReader(new StringReader("a\r\nb\r\n"));
+        StringBuilder record = new StringBuilder();
+
+        assertThat(reader.next(record)).isTrue();
+        assertThat(record.toString()).isEqualTo("a");
+        assertThat(reader.next(record)).isTrue();
+        assertThat(record.toString()).isEqualTo("b");
+        assertThat(reader.next(record)).isFalse();
+    }
+
+    @Test
+    void writeRecord_shouldEscapeSpecialCharacters() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        DoublyLinkedListStore.writeRecord(writer, "a\\b\nc");
+
+        assertThat(writer.toString()).isEqualTo("a\\\\b\\nc\n");
+    }
+}
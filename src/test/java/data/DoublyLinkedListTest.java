@@ -12,10 +12,29 @@ import org.mockito.InjectMocks;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
 
@@ -288,6 +307,612 @@ class DoublyLinkedListTest {
         assertThat(doublyLinkedList.getTail().getPrevious()).usingRecursiveComparison().isEqualTo(doublyLinkedList.getHead());
     }
 
+    @Test
+    void removeTailNode_shouldEmptyDLL_whenDLLHasOneNode() {
+        doublyLinkedList.addCaboose("1");
+
+        doublyLinkedList.removeTailNode();
+
+        assertThat(doublyLinkedList.getNodeCount()).isZero();
+        assertThat(doublyLinkedList.getHead()).isNull();
+        assertThat(doublyLinkedList.getTail()).isNull();
+    }
+
+    @Test
+    void addNodeAtIndex_shouldAddTail_givenIndexEqualToNodeCount() {
+        populateList();
+
+        doublyLinkedList.addNodeAtIndex("data", doublyLinkedList.getNodeCount());
+
+        assertThat(doublyLinkedList.getTail().getData()).isEqualTo("data");
+        assertThat(contents()).containsExactly("1", "2", "3", "data");
+    }
+
+    @Test
+    void getNodeAtIndex_shouldReturnNode_givenValidIndex() {
+        populateList();
+
+        assertThat(doublyLinkedList.getNodeAtIndex(1).getData()).isEqualTo("2");
+        assertThat(doublyLinkedList.getNodeAtIndex(2)).isSameAs(doublyLinkedList.getTail());
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(ints = {-1, 3})
+    void getNodeAtIndex_shouldReturnNull_givenNullOrInvalidIndex(Integer index) {
+        populateList();
+
+        assertThat(doublyLinkedList.getNodeAtIndex(index)).isNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("fingerCacheMutations")
+    void fingerCache_shouldStayConsistent_afterEachMutation(Consumer<DoublyLinkedList> mutation,
+                                                           List<String> expectedContents) {
+        populateList(10);
+        doublyLinkedList.addNodeAtIndex("warm", 6);
+        doublyLinkedList.removeNodeAtIndex(6);
+        doublyLinkedList.addNodeAtIndex("warm", 3);
+        doublyLinkedList.removeNodeAtIndex(3);
+
+        mutation.accept(doublyLinkedList);
+
+        assertThat(doublyLinkedList.positions().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+        assertThat(contents()).containsExactlyElementsOf(expectedContents);
+    }
+
+    static Stream<Arguments> fingerCacheMutations() {
+        return Stream.of(
+                Arguments.of((Consumer<DoublyLinkedList>) list -> list.addEngine("x"),
+                        ImmutableList.of("x", "0", "1", "2", "3", "4", "5", "6", "7", "8", "9")),
+                Arguments.of((Consumer<DoublyLinkedList>) list -> list.addCaboose("x"),
+                        ImmutableList.of("0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "x")),
+                Arguments.of((Consumer<DoublyLinkedList>) list -> list.addNodeAtIndex("x", 5),
+                        ImmutableList.of("0", "1", "2", "3", "4", "x", "5", "6", "7", "8", "9")),
+                Arguments.of((Consumer<DoublyLinkedList>) DoublyLinkedList::removeHeadNode,
+                        ImmutableList.of("1", "2", "3", "4", "5", "6", "7", "8", "9")),
+                Arguments.of((Consumer<DoublyLinkedList>) DoublyLinkedList::removeTailNode,
+                        ImmutableList.of("0", "1", "2", "3", "4", "5", "6", "7", "8")),
+                Arguments.of((Consumer<DoublyLinkedList>) list -> list.removeNodeAtIndex(6),
+                        ImmutableList.of("0", "1", "2", "3", "4", "5", "7", "8", "9"))
+        );
+    }
+
+    @Test
+    void fingerCache_shouldMatchReferenceList_givenRandomPositionalOperations() {
+        Random random = new Random(42);
+        List<String> reference = new ArrayList<>();
+        int cursor = 0;
+
+        for (int i = 0; i < 2_000; i++) {
+            cursor = Math.max(0, Math.min(reference.size(), cursor + random.nextInt(5) - 2));
+            String data = String.valueOf(i);
+
+            switch (random.nextInt(6)) {
+                case 0:
+                    doublyLinkedList.addEngine(data);
+                    reference.add(0, data);
+                    break;
+                case 1:
+                    doublyLinkedList.addCaboose(data);
+                    reference.add(data);
+                    break;
+                case 2:
+                    if (!reference.isEmpty()) {
+                        doublyLinkedList.removeHeadNode();
+                        reference.remove(0);
+                    }
+                    break;
+                case 3:
+                    if (!reference.isEmpty()) {
+                        doublyLinkedList.removeTailNode();
+                        reference.remove(reference.size() - 1);
+                    }
+                    break;
+                case 4:
+                    if (cursor < reference.size()) {
+                        doublyLinkedList.removeNodeAtIndex(cursor);
+                        reference.remove(cursor);
+                    }
+                    break;
+                default:
+                    doublyLinkedList.addNodeAtIndex(data, cursor);
+                    reference.add(cursor, data);
+                    break;
+            }
+
+            assertThat(doublyLinkedList.positions().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+        }
+
+        assertThat(contents()).containsExactlyElementsOf(reference);
+        assertThat(doublyLinkedList.getNodeCount()).isEqualTo(reference.size());
+    }
+
+    @Test
+    void clear_shouldEmptyDLL() {
+        populateList();
+        doublyLinkedList.getNodeAtIndex(1);
+
+        doublyLinkedList.clear();
+
+        assertThat(doublyLinkedList.getNodeCount()).isZero();
+        assertThat(doublyLinkedList.getHead()).isNull();
+        assertThat(doublyLinkedList.getTail()).isNull();
+        assertThat(doublyLinkedList.positions().isConsistentWith(null)).isTrue();
+    }
+
+    @Test
+    void listIterator_shouldEditInPlace_givenAddSetAndRemove() {
+        populateList();
+
+        ListIterator<Object> iterator = doublyLinkedList.listIterator(1);
+        iterator.add("1.5");
+        assertThat(iterator.next()).isEqualTo("2");
+        iterator.set("two");
+        assertThat(iterator.next()).isEqualTo("3");
+        iterator.remove();
+        assertThat(iterator.previous()).isEqualTo("two");
+        iterator.remove();
+
+        assertThat(contents()).containsExactly("1", "1.5");
+        assertThat(doublyLinkedList.getTail().getData()).isEqualTo("1.5");
+        assertThat(doublyLinkedList.positions().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+    }
+
+    @Test
+    void iterator_shouldFailFast_givenModificationOutsideIterator() {
+        populateList();
+        Iterator<Object> iterator = doublyLinkedList.iterator();
+        iterator.next();
+
+        doublyLinkedList.addCaboose("4");
+
+        assertThatThrownBy(iterator::next).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void descendingIterator_shouldWalkFromTail() {
+        populateList();
+
+        List<Object> reversed = new ArrayList<>();
+        doublyLinkedList.descendingIterator().forEachRemaining(reversed::add);
+
+        assertThat(reversed).containsExactly("3", "2", "1");
+    }
+
+    @Test
+    void dequeOperations_shouldMatchArrayDeque() {
+        doublyLinkedList.push("b");
+        doublyLinkedList.offerFirst("a");
+        doublyLinkedList.offer("c");
+
+        assertThat(doublyLinkedList.peekFirst()).isEqualTo("a");
+        assertThat(doublyLinkedList.peekLast()).isEqualTo("c");
+        assertThat(doublyLinkedList.pop()).isEqualTo("a");
+        assertThat(doublyLinkedList.pollLast()).isEqualTo("c");
+        assertThat(doublyLinkedList.poll()).isEqualTo("b");
+        assertThat(doublyLinkedList.poll()).isNull();
+        assertThatThrownBy(doublyLinkedList::removeFirst).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void removeLastOccurrence_shouldRemoveOccurrenceClosestToTail() {
+        doublyLinkedList.addAll(ImmutableList.of("a", "b", "a", "c"));
+
+        assertThat(doublyLinkedList.removeLastOccurrence("a")).isTrue();
+
+        assertThat(contents()).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void addFirst_shouldThrowNullPointerException_givenNullElement() {
+        assertThatThrownBy(() -> doublyLinkedList.addFirst(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void get_shouldThrowIndexOutOfBoundsException_givenInvalidIndex() {
+        populateList();
+
+        assertThatThrownBy(() -> doublyLinkedList.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void equals_shouldCompareElements_givenAnyList() {
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addAll(ImmutableList.of("1", "2", "3"));
+
+        assertThat(list).isEqualTo(ImmutableList.of("1", "2", "3"));
+        assertThat(list.hashCode()).isEqualTo(ImmutableList.of("1", "2", "3").hashCode());
+    }
+
+    @Test
+    void listOperations_shouldMatchLinkedList_givenRandomOperations() {
+        List<Object> reference = new LinkedList<>();
+        Random random = new Random(11);
+
+        for (int i = 0; i < 2_000; i++) {
+            int size = reference.size();
+            switch (random.nextInt(4)) {
+                case 0:
+                    int insertAt = random.nextInt(size + 1);
+                    doublyLinkedList.add(insertAt, i);
+                    reference.add(insertAt, i);
+                    break;
+                case 1:
+                    if (size > 0) {
+                        int removeAt = random.nextInt(size);
+                        assertThat(doublyLinkedList.remove(removeAt)).isEqualTo(reference.remove(removeAt));
+                    }
+                    break;
+                case 2:
+                    ListIterator<Object> actual = doublyLinkedList.listIterator(size / 2);
+                    ListIterator<Object> expected = reference.listIterator(size / 2);
+                    if (expected.hasNext()) {
+                        assertThat(actual.next()).isEqualTo(expected.next());
+                        actual.remove();
+                        expected.remove();
+                    }
+                    actual.add(i);
+                    expected.add(i);
+                    break;
+                default:
+                    if (size > 0) {
+                        int setAt = random.nextInt(size);
+                        doublyLinkedList.set(setAt, i);
+                        reference.set(setAt, i);
+                    }
+            }
+        }
+
+        assertThat(doublyLinkedList).containsExactlyElementsOf(reference);
+        assertThat(contents()).containsExactlyElementsOf(reference);
+        assertThat(doublyLinkedList.positions().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+    }
+
+    @Test
+    void spliterator_shouldSplitIntoBalancedDisjointRanges() {
+        populateList(10_000);
+
+        Spliterator<Object> suffix = doublyLinkedList.spliterator();
+        Spliterator<Object> prefix = suffix.trySplit();
+
+        assertThat(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED)).isTrue();
+        assertThat(prefix.estimateSize() + suffix.estimateSize()).isEqualTo(10_000);
+        assertThat(prefix.estimateSize()).isBetween(4_990L, 5_010L);
+
+        List<Object> elements = new ArrayList<>();
+        prefix.forEachRemaining(elements::add);
+        suffix.forEachRemaining(elements::add);
+        assertThat(elements).containsExactlyElementsOf(contents());
+    }
+
+    @Test
+    void parallelStream_shouldMatchSequentialStream() {
+        populateList(100_000);
+
+        List<Object> parallel = doublyLinkedList.parallelStream()
+                .map(data -> data + "!")
+                .collect(Collectors.toList());
+
+        assertThat(parallel).containsExactlyElementsOf(IntStream.range(0, 100_000)
+                .mapToObj(i -> i + "!")
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void spliterator_shouldFailFast_givenModificationDuringTraversal() {
+        populateList();
+        Spliterator<Object> spliterator = doublyLinkedList.spliterator();
+
+        doublyLinkedList.removeHeadNode();
+
+        assertThatThrownBy(() -> spliterator.tryAdvance(data -> { }))
+                .isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void hashCode_shouldMatchListHash_givenRandomOperations() {
+        DoublyLinkedList list = new DoublyLinkedList();
+        List<Object> reference = new ArrayList<>();
+        Random random = new Random(5);
+
+        for (int i = 0; i < 5_000; i++) {
+            int size = reference.size();
+            switch (random.nextInt(7)) {
+                case 0:
+                    list.addEngine(i);
+                    reference.add(0, i);
+                    break;
+                case 1:
+                    list.addCaboose("value" + i);
+                    reference.add("value" + i);
+                    break;
+                case 2:
+                    list.removeHeadNode();
+                    if (size > 0) {
+                        reference.remove(0);
+                    }
+                    break;
+                case 3:
+                    list.removeTailNode();
+                    if (size > 0) {
+                        reference.remove(size - 1);
+                    }
+                    break;
+                case 4:
+                    int insertAt = random.nextInt(size + 1);
+                    list.addNodeAtIndex(i, insertAt);
+                    reference.add(insertAt, i);
+                    break;
+                case 5:
+                    if (size > 0) {
+                        int removeAt = random.nextInt(size);
+                        list.removeNodeAtIndex(removeAt);
+                        reference.remove(removeAt);
+                    }
+                    break;
+                default:
+                    if (size > 0) {
+                        int setAt = random.nextInt(size);
+                        list.set(setAt, i);
+                        reference.set(setAt, i);
+                    }
+            }
+            assertThat(list.hashCode()).isEqualTo(reference.hashCode());
+        }
+        assertThat(list).isEqualTo(reference);
+    }
+
+    @Test
+    void equals_shouldReturnFalse_givenSameSizeDifferentContents() {
+        DoublyLinkedList first = new DoublyLinkedList();
+        DoublyLinkedList second = new DoublyLinkedList();
+        first.addAll(ImmutableList.of("1", "2", "3"));
+        second.addAll(ImmutableList.of("1", "2", "4"));
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first).isNotEqualTo(ImmutableList.of("1", "2"));
+    }
+
+    @Test
+    void hashCode_shouldSupportHashMapKeys_givenLargeList() {
+        DoublyLinkedList first = new DoublyLinkedList();
+        DoublyLinkedList second = new DoublyLinkedList();
+        for (int i = 0; i < 200_000; i++) {
+            first.addCaboose(i);
+            second.addCaboose(i);
+        }
+
+        Map<DoublyLinkedList, String> map = new HashMap<>();
+        map.put(first, "first");
+
+        assertThat(map.get(second)).isEqualTo("first");
+        assertThat(first.toString()).startsWith("[0, 1, 2");
+    }
+
+    @Test
+    void nodeToString_shouldShowDataOnly() {
+        populateList();
+
+        assertThat(doublyLinkedList.getHead().getNext().toString()).isEqualTo("Node(data=2)");
+        assertThat(doublyLinkedList.getHead()).isNotEqualTo(new Node().setData("1"));
+    }
+
+    @Test
+    void concat_shouldMoveAllNodes_givenNonEmptyLists() {
+        DoublyLinkedList list = new DoublyLinkedList();
+        DoublyLinkedList other = new DoublyLinkedList();
+        list.addAll("1", "2");
+        other.addAll("3", "4");
+
+        list.concat(other);
+
+        assertThat(list).containsExactly("1", "2", "3", "4");
+        assertThat(list.getTail().getData()).isEqualTo("4");
+        assertThat(list.getTail().getPrevious().getPrevious().getNext().getData()).isEqualTo("3");
+        assertThat(list.hashCode()).isEqualTo(ImmutableList.of("1", "2", "3", "4").hashCode());
+        assertThat(other.isEmpty()).isTrue();
+        assertThat(other.getHead()).isNull();
+    }
+
+    @Test
+    void splice_shouldInsertInFrontOfNode_givenHeadOrInteriorNode() {
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addAll("1", "4");
+
+        DoublyLinkedList middle = new DoublyLinkedList();
+        middle.addAll("2", "3");
+        list.splice(middle, list.getTail());
+
+        DoublyLinkedList front = new DoublyLinkedList();
+        front.addAll("0");
+        list.splice(front, list.getHead());
+
+        assertThat(list).containsExactly("0", "1", "2", "3", "4");
+        assertThat(list.getNodeCount()).isEqualTo(5);
+        assertThat(list.get(3)).isEqualTo("3");
+        assertThat(list.hashCode()).isEqualTo(ImmutableList.of("0", "1", "2", "3", "4").hashCode());
+        assertThat(list.positions().isConsistentWith(list.getHead())).isTrue();
+    }
+
+    @Test
+    void split_shouldDivideList_givenInteriorIndex() {
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addAll("1", "2", "3", "4", "5");
+        list.get(3);
+
+        DoublyLinkedList suffix = list.split(2);
+
+        assertThat(list).containsExactly("1", "2");
+        assertThat(suffix).containsExactly("3", "4", "5");
+        assertThat(list.getTail().getNext()).isNull();
+        assertThat(suffix.getHead().getPrevious()).isNull();
+        assertThat(list.hashCode()).isEqualTo(ImmutableList.of("1", "2").hashCode());
+        assertThat(suffix.hashCode()).isEqualTo(ImmutableList.of("3", "4", "5").hashCode());
+        assertThat(list.positions().isConsistentWith(list.getHead())).isTrue();
+
+        suffix.addEngine("2.5");
+        assertThat(suffix.hashCode()).isEqualTo(ImmutableList.of("2.5", "3", "4", "5").hashCode());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 3})
+    void split_shouldMoveAllOrNothing_givenBoundaryIndex(int index) {
+        populateList();
+
+        DoublyLinkedList suffix = doublyLinkedList.split(index);
+
+        assertThat(doublyLinkedList.getNodeCount()).isEqualTo(index);
+        assertThat(suffix.getNodeCount()).isEqualTo(3 - index);
+    }
+
+    @Test
+    void split_shouldReturnNull_givenInvalidIndex() {
+        populateList();
+
+        assertThat(doublyLinkedList.split(4)).isNull();
+        assertThat(doublyLinkedList.getNodeCount()).isEqualTo(3);
+    }
+
+    @Test
+    void addAll_shouldLeaveListUnchanged_givenNullElement() {
+        populateList();
+
+        assertThatThrownBy(() -> doublyLinkedList.addAll(Arrays.asList("4", null)))
+                .isInstanceOf(NullPointerException.class);
+
+        assertThat(contents()).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    void addAll_shouldInsertBatchAtIndex() {
+        populateList();
+
+        doublyLinkedList.addAll(1, ImmutableList.of("a", "b"));
+
+        assertThat(contents()).containsExactly("1", "a", "b", "2", "3");
+        assertThat(doublyLinkedList.getNodeCount()).isEqualTo(5);
+        assertThat(doublyLinkedList.getTail().getPrevious().getData()).isEqualTo("2");
+    }
+
+    @Test
+    void moveToHead_shouldRelinkFirstOccurrence_givenUnindexedList() {
+        populateList();
+        doublyLinkedList.addCaboose("2");
+
+        assertThat(doublyLinkedList.moveToHead("2")).isTrue();
+
+        assertThat(contents()).containsExactly("2", "1", "3", "2");
+        assertThat(doublyLinkedList.getHead().getPrevious()).isNull();
+        assertThat(doublyLinkedList.getTail().getData()).isEqualTo("2");
+    }
+
+    @Test
+    void moveToHead_shouldMoveTail() {
+        populateList();
+
+        assertThat(doublyLinkedList.moveToHead("3")).isTrue();
+
+        assertThat(contents()).containsExactly("3", "1", "2");
+        assertThat(doublyLinkedList.getTail().getData()).isEqualTo("2");
+        assertThat(doublyLinkedList.getTail().getNext()).isNull();
+        assertThat(doublyLinkedList.get(2)).isEqualTo("2");
+    }
+
+    @Test
+    void moveToHead_shouldReturnFalse_givenMissingValue() {
+        populateList();
+
+        assertThat(doublyLinkedList.moveToHead("4")).isFalse();
+
+        assertThat(contents()).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    void insertAfter_shouldLinkNewNode_givenUnindexedList() {
+        populateList();
+
+        assertThat(doublyLinkedList.insertAfter("1", "1.5")).isTrue();
+        assertThat(doublyLinkedList.insertAfter("3", "4")).isTrue();
+
+        assertThat(contents()).containsExactly("1", "1.5", "2", "3", "4");
+        assertThat(doublyLinkedList.getTail().getData()).isEqualTo("4");
+        assertThat(doublyLinkedList.getNodeCount()).isEqualTo(5);
+    }
+
+    @Test
+    void insertAfter_shouldDoNothing_givenNullNewValue() {
+        populateList();
+
+        assertThat(doublyLinkedList.insertAfter("1", null)).isFalse();
+
+        assertThat(contents()).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    void render_shouldWriteSameContentAsAsString() throws IOException {
+        populateList();
+        StringWriter out = new StringWriter();
+
+        doublyLinkedList.render(out);
+
+        assertThat(out.toString()).isEqualTo(doublyLinkedList.asString()).isEqualTo("{ [ 1 ] [ 2 ] [ 3 ] }");
+    }
+
+    @Test
+    void renderHead_shouldSummariseRemainder_givenCountBelowSize() throws IOException {
+        populateList(10);
+        StringBuilder out = new StringBuilder();
+
+        doublyLinkedList.renderHead(out, 2);
+
+        assertThat(out.toString()).isEqualTo("{ [ 0 ] [ 1 ] ... (8 more) }");
+    }
+
+    @Test
+    void renderTail_shouldRenderWholeList_givenCountAboveSize() throws IOException {
+        populateList();
+        StringBuilder out = new StringBuilder();
+
+        doublyLinkedList.renderTail(out, 10);
+
+        assertThat(out.toString()).isEqualTo("{ [ 1 ] [ 2 ] [ 3 ] }");
+    }
+
+    @Test
+    void renderAround_shouldSummariseBothSides_givenInteriorIndex() throws IOException {
+        populateList(10);
+        StringBuilder out = new StringBuilder();
+
+        doublyLinkedList.renderAround(out, 5, 1);
+
+        assertThat(out.toString()).isEqualTo("{ ... (4 more) [ 4 ] [ 5 ] [ 6 ] ... (3 more) }");
+    }
+
+    @Test
+    void renderRange_shouldReportEmptyList_givenEmptyList() throws IOException {
+        StringBuilder out = new StringBuilder();
+
+        doublyLinkedList.renderRange(out, 0, 5);
+
+        assertThat(out.toString()).isEqualTo("List is currently empty");
+    }
+
+    @Test
+    void printAround_shouldPrintWindowToStandardOut() {
+        populateList(100);
+        PrintStream standardOut = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured));
+        try {
+            doublyLinkedList.printAround(99, 1);
+        } finally {
+            System.setOut(standardOut);
+        }
+
+        assertThat(captured.toString().trim()).isEqualTo("{ ... (98 more) [ 98 ] [ 99 ] }");
+    }
+
     @Test
     void isEmpty_shouldReturnTrue_whenDLLIsEmpty() {
         assertThat(doublyLinkedList.isEmpty()).isTrue();
@@ -317,4 +942,18 @@ class DoublyLinkedListTest {
 
         prePopulatedValues.forEach(doublyLinkedList::addCaboose);
     }
+
+    private void populateList(int size) {
+        for (int i = 0; i < size; i++) {
+            doublyLinkedList.addCaboose(String.valueOf(i));
+        }
+    }
+
+    private List<Object> contents() {
+        List<Object> contents = new ArrayList<>();
+        for (Node current = doublyLinkedList.getHead(); current != null; current = current.getNext()) {
+            contents.add(current.getData());
+        }
+        return contents;
+    }
 }
\ No newline at end of file
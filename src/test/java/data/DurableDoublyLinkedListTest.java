@@ -0,0 +1,123 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DurableDoublyLinkedListTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void open_shouldRejectNonPositiveCompactionThreshold() {
+        assertThatThrownBy(() -> DurableDoublyLinkedList.open(directory, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void open_shouldRecoverEveryOperation_afterClose() throws IOException {
+        try (DurableDoublyLinkedList durableList = DurableDoublyLinkedList.open(directory)) {
+            durableList.addCaboose("b");
+            durableList.addEngine("a");
+            durableList.addCaboose("d");
+            durableList.addNodeAtIndex("c", 2);
+            durableList.addNodeAtIndex("e", null);
+            durableList.addCaboose("x");
+            durableList.removeTailNode();
+            durableList.addEngine("y");
+            durableList.removeHeadNode();
+            durableList.addNodeAtIndex("z", 1);
+            durableList.removeNodeAtIndex(1);
+        }
+
+        try (DurableDoublyLinkedList recovered = DurableDoublyLinkedList.open(directory)) {
+            assertThat(recovered.asString()).isEqualTo("{ [ a ] [ b ] [ c ] [ d ] [ e ] }");
+            assertThat(recovered.getNodeCount()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void open_shouldRecoverWithoutClose_givenAbandonedInstance() throws IOException {
+        DurableDoublyLinkedList abandoned = DurableDoublyLinkedList.open(directory);
+        abandoned.addCaboose("kept");
+        abandoned.addCaboose("also kept");
+
+        try (DurableDoublyLinkedList recovered = DurableDoublyLinkedList.open(directory)) {
+            assertThat(recovered.asString()).isEqualTo("{ [ kept ] [ also kept ] }");
+        }
+        abandoned.close();
+    }
+
+    @Test
+    void invalidOperations_shouldNotBeJournaled() throws IOException {
+        try (DurableDoublyLinkedList durableList = DurableDoublyLinkedList.open(directory)) {
+            durableList.removeHeadNode();
+            durableList.addCaboose(null);
+            durableList.addCaboose("a");
+            durableList.removeNodeAtIndex(5);
+        }
+
+        try (DurableDoublyLinkedList recovered = DurableDoublyLinkedList.open(directory)) {
+            assertThat(recovered.asString()).isEqualTo("{ [ a ] }");
+        }
+    }
+
+    @Test
+    void compact_shouldReplaceJournalWithSnapshot() throws IOException {
+        try (DurableDoublyLinkedList durableList = DurableDoublyLinkedList.open(directory, 10)) {
+            for (int i = 0; i < 25; i++) {
+                durableList.addCaboose(i);
+            }
+            durableList.removeNodeAtIndex(3);
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(file -> file.getFileName().toString()))
+                    .containsExactlyInAnyOrder("snapshot.2", "journal.2");
+        }
+        try (DurableDoublyLinkedList recovered = DurableDoublyLinkedList.open(directory)) {
+            assertThat(recovered.getNodeCount()).isEqualTo(24);
+            assertThat(recovered.getHead().getNext().getNext().getNext().getData()).isEqualTo("4");
+        }
+    }
+
+    @Test
+    void open_shouldPreferNewestSnapshot_givenCompactionInterruptedBeforeCleanup() throws IOException {
+        try (DurableDoublyLinkedList durableList = DurableDoublyLinkedList.open(directory)) {
+            durableList.addCaboose("old");
+        }
+        Files.write(directory.resolve("snapshot.1"), "new\n".getBytes());
+
+        try (DurableDoublyLinkedList recovered = DurableDoublyLinkedList.open(directory)) {
+            assertThat(recovered.asString()).isEqualTo("{ [ new ] }");
+        }
+        assertThat(directory.resolve("journal.0")).doesNotExist();
+    }
+
+    @Test
+    void journal_shouldGrowAcrossMappedRegions() throws IOException {
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            large.append("0123456789");
+        }
+
+        try (DurableDoublyLinkedList durableList = DurableDoublyLinkedList.open(directory)) {
+            for (int i = 0; i < 15; i++) {
+                durableList.addCaboose(large.toString() + i);
+            }
+        }
+
+        try (DurableDoublyLinkedList recovered = DurableDoublyLinkedList.open(directory)) {
+            assertThat(recovered.getNodeCount()).isEqualTo(15);
+            assertThat(recovered.getHead().getData()).isEqualTo(large + "0");
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EncodedDoublyLinkedListTest {
+
+    private final EncodedDoublyLinkedList encodedList = new EncodedDoublyLinkedList();
+
+    @Test
+    void addEngine_shouldPrependValue() {
+        encodedList.addCaboose("b");
+        encodedList.addEngine("a");
+
+        assertThat(encodedList.asString()).isEqualTo("{ [ a ] [ b ] }");
+        assertThat(encodedList.getNodeCount()).isEqualTo(2);
+    }
+
+    @Test
+    void addCaboose_shouldDoNothing_givenNullData() {
+        encodedList.addCaboose(null);
+
+        assertThat(encodedList.getNodeCount()).isZero();
+    }
+
+    @Test
+    void addCaboose_shouldShareDictionaryEntry_givenRepeatedValue() {
+        encodedList.addCaboose("token");
+        encodedList.addCaboose(new String("token"));
+        encodedList.addCaboose("other");
+
+        assertThat(encodedList.getDictionary().size()).isEqualTo(2);
+        assertThat(encodedList.getDataAtIndex(0)).isSameAs(encodedList.getDataAtIndex(1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 3})
+    void removeNodeAtIndex_shouldDoNothing_givenInvalidIndex(int index) {
+        encodedList.addCaboose("a");
+        encodedList.addCaboose("b");
+        encodedList.addCaboose("c");
+
+        encodedList.removeNodeAtIndex(index);
+
+        assertThat(encodedList.getNodeCount()).isEqualTo(3);
+    }
+
+    @Test
+    void removeHeadNode_shouldReleaseDictionaryEntry_givenLastReference() {
+        encodedList.addCaboose("a");
+        encodedList.addCaboose("b");
+
+        encodedList.removeHeadNode();
+
+        assertThat(encodedList.getDictionary().size()).isEqualTo(1);
+        assertThat(encodedList.contains("a")).isFalse();
+    }
+
+    @Test
+    void getDataAtIndex_shouldThrow_givenInvalidIndex() {
+        assertThatThrownBy(() -> encodedList.getDataAtIndex(0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void indexOf_shouldFindFirstMatch_givenDuplicates() {
+        encodedList.addCaboose("a");
+        encodedList.addCaboose("b");
+        encodedList.addCaboose("b");
+
+        assertThat(encodedList.indexOf("b")).isEqualTo(1);
+        assertThat(encodedList.indexOf("missing")).isEqualTo(-1);
+        assertThat(encodedList.indexOf(null)).isEqualTo(-1);
+    }
+
+    @Test
+    void clear_shouldReleaseOnlyOwnReferences_givenSharedDictionary() {
+        StringDictionary dictionary = new StringDictionary();
+        EncodedDoublyLinkedList first = new EncodedDoublyLinkedList(dictionary);
+        EncodedDoublyLinkedList second = new EncodedDoublyLinkedList(dictionary);
+        first.addCaboose("shared");
+        first.addCaboose("own");
+        second.addCaboose("shared");
+
+        first.clear();
+
+        assertThat(first.getNodeCount()).isZero();
+        assertThat(dictionary.size()).isEqualTo(1);
+        assertThat(dictionary.getReferenceCount()).isEqualTo(1);
+        assertThat(second.getDataAtIndex(0)).isEqualTo("shared");
+    }
+
+    @Test
+    void estimatedBytesSaved_shouldExceedEncodedFootprint_givenLowCardinalityData() {
+        String[] vocabulary = {"alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel"};
+        for (int i = 0; i < 100_000; i++) {
+            encodedList.addCaboose(new String(vocabulary[i % vocabulary.length]));
+        }
+
+        long encodedBytes = (long) encodedList.getNodeCount() * EncodedDoublyLinkedList.SLOT_BYTES;
+        long plainBytes = encodedBytes + encodedList.estimatedBytesSaved();
+
+        assertThat(plainBytes).isGreaterThan(5 * encodedBytes);
+        assertThat(encodedList.estimatedBytesSaved()).isEqualTo(
+                (long) encodedList.getNodeCount() * (EncodedDoublyLinkedList.NODE_BYTES - EncodedDoublyLinkedList.SLOT_BYTES)
+                        + encodedList.getDictionary().estimatedBytesSaved());
+    }
+
+    @Test
+    void operations_shouldMatchReferenceList_givenRandomOperations() {
+        Random random = new Random(23);
+        List<String> reference = new ArrayList<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            int index = reference.isEmpty() ? 0 : random.nextInt(reference.size());
+            String value = "v" + random.nextInt(20);
+
+            switch (random.nextInt(6)) {
+                case 0:
+                    encodedList.addEngine(value);
+                    reference.add(0, value);
+                    break;
+                case 1:
+                    encodedList.addCaboose(value);
+                    reference.add(value);
+                    break;
+                case 2:
+                    if (!reference.isEmpty()) {
+                        encodedList.removeHeadNode();
+                        reference.remove(0);
+                    }
+                    break;
+                case 3:
+                    if (!reference.isEmpty()) {
+                        encodedList.removeTailNode();
+                        reference.remove(reference.size() - 1);
+                    }
+                    break;
+                case 4:
+                    if (!reference.isEmpty()) {
+                        encodedList.removeNodeAtIndex(index);
+                        reference.remove(index);
+                    }
+                    break;
+                default:
+                    encodedList.addNodeAtIndex(value, index);
+                    reference.add(index, value);
+                    break;
+            }
+        }
+
+        assertThat(encodedList.getNodeCount()).isEqualTo(reference.size());
+        assertThat(encodedList.getDictionary().getReferenceCount()).isEqualTo(reference.size());
+        assertThat(encodedList.getDictionary().size()).isEqualTo((int) reference.stream().distinct().count());
+        for (int i = 0; i < reference.size(); i++) {
+            assertThat(encodedList.getDataAtIndex(i)).isEqualTo(reference.get(i));
+        }
+    }
+}
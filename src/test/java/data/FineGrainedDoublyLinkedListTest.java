@@ -0,0 +1,112 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FineGrainedDoublyLinkedListTest {
+
+    private final FineGrainedDoublyLinkedList fineGrainedList = new FineGrainedDoublyLinkedList();
+
+    @Test
+    void addNodeAtIndex_shouldInsertAtPosition_givenValidIndex() {
+        fineGrainedList.addCaboose("1");
+        fineGrainedList.addCaboose("3");
+
+        fineGrainedList.addNodeAtIndex("2", 1);
+        fineGrainedList.addNodeAtIndex("0", 0);
+        fineGrainedList.addNodeAtIndex("4", 1000);
+
+        assertThat(fineGrainedList.asString()).isEqualTo("{ [ 0 ] [ 1 ] [ 2 ] [ 3 ] [ 4 ] }");
+        assertThat(fineGrainedList.isConsistent()).isTrue();
+    }
+
+    @Test
+    void removeNodeAtIndex_shouldReturnRemovedData_givenValidIndex() {
+        fineGrainedList.addCaboose("1");
+        fineGrainedList.addCaboose("2");
+        fineGrainedList.addCaboose("3");
+
+        assertThat(fineGrainedList.removeNodeAtIndex(1)).contains("2");
+        assertThat(fineGrainedList.removeNodeAtIndex(5)).isEmpty();
+        assertThat(fineGrainedList.removeNodeAtIndex(-1)).isEmpty();
+        assertThat(fineGrainedList.asString()).isEqualTo("{ [ 1 ] [ 3 ] }");
+        assertThat(fineGrainedList.isConsistent()).isTrue();
+    }
+
+    @Test
+    void removeOperations_shouldReturnEmpty_whenListIsEmpty() {
+        assertThat(fineGrainedList.removeHeadNode()).isEmpty();
+        assertThat(fineGrainedList.removeTailNode()).isEmpty();
+        assertThat(fineGrainedList.isEmpty()).isTrue();
+        assertThat(fineGrainedList.asString()).isEqualTo("List is currently empty");
+    }
+
+    @Test
+    void operations_shouldKeepListIntact_givenConcurrentPositionalEdits() throws InterruptedException {
+        for (int i = 0; i < 1_000; i++) {
+            fineGrainedList.addCaboose(i);
+        }
+        int threads = 8;
+        int operationsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger expectedCount = new AtomicInteger(1_000);
+
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            executor.execute(() -> {
+                Random random = new Random(seed);
+                awaitQuietly(start);
+                for (int i = 0; i < operationsPerThread; i++) {
+                    int index = random.nextInt(1_000);
+                    switch (random.nextInt(6)) {
+                        case 0:
+                            fineGrainedList.addEngine(i);
+                            expectedCount.incrementAndGet();
+                            break;
+                        case 1:
+                            fineGrainedList.addCaboose(i);
+                            expectedCount.incrementAndGet();
+                            break;
+                        case 2:
+                            fineGrainedList.removeHeadNode().ifPresent(data -> expectedCount.decrementAndGet());
+                            break;
+                        case 3:
+                            fineGrainedList.removeTailNode().ifPresent(data -> expectedCount.decrementAndGet());
+                            break;
+                        case 4:
+                            fineGrainedList.removeNodeAtIndex(index).ifPresent(data -> expectedCount.decrementAndGet());
+                            break;
+                        default:
+                            fineGrainedList.addNodeAtIndex(i, index);
+                            expectedCount.incrementAndGet();
+                            break;
+                    }
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        assertThat(fineGrainedList.isConsistent()).isTrue();
+        assertThat(fineGrainedList.getNodeCount()).isEqualTo(expectedCount.get());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package data;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FingerCacheTest {
+
+    private final FingerCache fingerCache = new FingerCache();
+    private final Node[] nodes = new Node[10];
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new Node().setData(i);
+            if (i > 0) {
+                nodes[i].setPrevious(nodes[i - 1]);
+                nodes[i - 1].setNext(nodes[i]);
+            }
+        }
+    }
+
+    @Test
+    void nodeAt_shouldReturnNodeAtIndex_givenAnyIndex() {
+        for (int i = 0; i < nodes.length; i++) {
+            assertThat(fingerCache.nodeAt(head(), tail(), nodes.length, i)).isSameAs(nodes[i]);
+        }
+    }
+
+    @Test
+    void nodeAt_shouldRememberVisitedIndex() {
+        fingerCache.nodeAt(head(), tail(), nodes.length, 4);
+
+        assertThat(fingerCache.size()).isOne();
+        assertThat(fingerCache.isConsistentWith(head())).isTrue();
+    }
+
+    @Test
+    void inserted_shouldShiftFingersAtOrAfterIndex() {
+        fingerCache.nodeAt(head(), tail(), nodes.length, 2);
+        fingerCache.nodeAt(head(), tail(), nodes.length, 6);
+        Node inserted = new Node().setData("x")
+                .setPrevious(nodes[3])
+                .setNext(nodes[4]);
+        nodes[3].setNext(inserted);
+        nodes[4].setPrevious(inserted);
+
+        fingerCache.inserted(4, inserted);
+
+        assertThat(fingerCache.size()).isEqualTo(3);
+        assertThat(fingerCache.isConsistentWith(head())).isTrue();
+    }
+
+    @Test
+    void removed_shouldSlideFingerOntoSuccessor() {
+        fingerCache.nodeAt(head(), tail(), nodes.length, 5);
+        nodes[4].setNext(nodes[6]);
+        nodes[6].setPrevious(nodes[4]);
+
+        fingerCache.removed(5, nodes[5]);
+
+        assertThat(fingerCache.size()).isOne();
+        assertThat(fingerCache.isConsistentWith(head())).isTrue();
+        assertThat(fingerCache.nodeAt(head(), tail(), nodes.length - 1, 5)).isSameAs(nodes[6]);
+    }
+
+    @Test
+    void clear_shouldForgetAllFingers() {
+        fingerCache.nodeAt(head(), tail(), nodes.length, 3);
+        fingerCache.nodeAt(head(), tail(), nodes.length, 7);
+
+        fingerCache.clear();
+
+        assertThat(fingerCache.size()).isZero();
+    }
+
+    private Node head() {
+        return nodes[0];
+    }
+
+    private Node tail() {
+        return nodes[nodes.length - 1];
+    }
+}
@@ -0,0 +1,119 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntDoublyLinkedListTest {
+
+    private final IntDoublyLinkedList intList = new IntDoublyLinkedList();
+
+    @Test
+    void addEngine_shouldPrependValue() {
+        intList.addCaboose(2);
+        intList.addEngine(1);
+
+        assertThat(intList.asString()).isEqualTo("{ [ 1 ] [ 2 ] }");
+        assertThat(intList.getNodeCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void addNodeAtIndex_shouldAddHead_givenNegativeOrZeroIndex(int index) {
+        intList.addCaboose(1);
+
+        intList.addNodeAtIndex(0, index);
+
+        assertThat(intList.getDataAtIndex(0)).isZero();
+    }
+
+    @Test
+    void addNodeAtIndex_shouldAddTail_givenIndexBeyondSize() {
+        intList.addCaboose(1);
+
+        intList.addNodeAtIndex(2, 1000);
+
+        assertThat(intList.getDataAtIndex(1)).isEqualTo(2);
+    }
+
+    @Test
+    void removeHeadNode_shouldDoNothing_whenListIsEmpty() {
+        intList.removeHeadNode();
+
+        assertThat(intList.getNodeCount()).isZero();
+        assertThat(intList.asString()).isEqualTo("List is currently empty");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 3})
+    void removeNodeAtIndex_shouldDoNothing_givenInvalidIndex(int index) {
+        intList.addCaboose(1);
+        intList.addCaboose(2);
+        intList.addCaboose(3);
+
+        intList.removeNodeAtIndex(index);
+
+        assertThat(intList.getNodeCount()).isEqualTo(3);
+    }
+
+    @Test
+    void getDataAtIndex_shouldThrow_givenInvalidIndex() {
+        assertThatThrownBy(() -> intList.getDataAtIndex(0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void operations_shouldMatchReferenceList_givenRandomOperations() {
+        Random random = new Random(11);
+        List<Integer> reference = new ArrayList<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            int index = reference.isEmpty() ? 0 : random.nextInt(reference.size());
+
+            switch (random.nextInt(6)) {
+                case 0:
+                    intList.addEngine(i);
+                    reference.add(0, i);
+                    break;
+                case 1:
+                    intList.addCaboose(i);
+                    reference.add(i);
+                    break;
+                case 2:
+                    if (!reference.isEmpty()) {
+                        intList.removeHeadNode();
+                        reference.remove(0);
+                    }
+                    break;
+                case 3:
+                    if (!reference.isEmpty()) {
+                        intList.removeTailNode();
+                        reference.remove(reference.size() - 1);
+                    }
+                    break;
+                case 4:
+                    if (!reference.isEmpty()) {
+                        intList.removeNodeAtIndex(index);
+                        reference.remove(index);
+                    }
+                    break;
+                default:
+                    intList.addNodeAtIndex(i, index);
+                    reference.add(index, i);
+                    break;
+            }
+        }
+
+        assertThat(intList.getNodeCount()).isEqualTo(reference.size());
+        for (int i = 0; i < reference.size(); i++) {
+            assertThat(intList.getDataAtIndex(i)).isEqualTo(reference.get(i));
+        }
+    }
+}
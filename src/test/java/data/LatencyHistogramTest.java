@@ -0,0 +1,44 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    void getPercentile_shouldReturnZero_givenNoRecords() {
+        assertThat(histogram.getPercentile(99)).isZero();
+    }
+
+    @Test
+    void getPercentile_shouldReturnBucketUpperBound() {
+        for (int i = 0; i < 98; i++) {
+            histogram.record(100);
+        }
+        histogram.record(5_000);
+        histogram.record(1_000_000);
+
+        assertThat(histogram.getCount()).isEqualTo(100);
+        assertThat(histogram.getPercentile(50)).isEqualTo(127);
+        assertThat(histogram.getPercentile(99)).isEqualTo(8_191);
+        assertThat(histogram.getPercentile(100)).isEqualTo((1L << 20) - 1);
+    }
+
+    @Test
+    void record_shouldPlaceZeroAndNegativeInFirstBucket() {
+        histogram.record(0);
+        histogram.record(-5);
+
+        assertThat(histogram.getBucketCounts()[0]).isEqualTo(2);
+        assertThat(histogram.getPercentile(100)).isZero();
+    }
+
+    @Test
+    void getPercentile_shouldThrow_givenOutOfRangePercentile() {
+        assertThatThrownBy(() -> histogram.getPercentile(101)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
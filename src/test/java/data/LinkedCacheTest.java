@@ -0,0 +1,180 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LinkedCacheTest {
+
+    @Test
+    void get_shouldReturnValue_givenPutKey() {
+        LinkedCache<String, Integer> cache = new LinkedCache<>(2);
+        cache.put("a", 1);
+
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.containsKey("a")).isTrue();
+    }
+
+    @Test
+    void put_shouldReturnPreviousValue_givenExistingKey() {
+        LinkedCache<String, Integer> cache = new LinkedCache<>(2);
+        cache.put("a", 1);
+
+        assertThat(cache.put("a", 2)).isEqualTo(1);
+        assertThat(cache.get("a")).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsed_givenLruPolicy() {
+        List<String> evicted = new ArrayList<>();
+        LinkedCache<String, Integer> cache = new LinkedCache<>(3, CachePolicy.LRU, (key, value) -> 1,
+                (key, value) -> evicted.add(key));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+
+        cache.put("d", 4);
+        cache.put("e", 5);
+
+        assertThat(evicted).containsExactly("b", "c");
+        assertThat(cache.containsKey("a")).isTrue();
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    void put_shouldKeepProtectedEntries_givenSegmentedLruAndScan() {
+        LinkedCache<Integer, Integer> cache = new LinkedCache<>(10, CachePolicy.SEGMENTED_LRU);
+        for (int i = 0; i < 5; i++) {
+            cache.put(i, i);
+            cache.get(i);
+        }
+
+        for (int i = 100; i < 200; i++) {
+            cache.put(i, i);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.containsKey(i)).isTrue();
+        }
+        assertThat(cache.size()).isEqualTo(10);
+    }
+
+    @Test
+    void put_shouldDemoteProtectedEntries_givenProtectedSegmentFull() {
+        LinkedCache<Integer, Integer> cache = new LinkedCache<>(5, CachePolicy.SEGMENTED_LRU);
+        for (int i = 0; i < 5; i++) {
+            cache.put(i, i);
+        }
+        for (int i = 0; i < 5; i++) {
+            cache.get(i);
+        }
+
+        cache.put(5, 5);
+
+        assertThat(cache.containsKey(0)).isFalse();
+        assertThat(cache.containsKey(5)).isTrue();
+        assertThat(cache.size()).isEqualTo(5);
+    }
+
+    @Test
+    void put_shouldEvictLeastFrequentlyUsed_givenLfuPolicy() {
+        List<String> evicted = new ArrayList<>();
+        LinkedCache<String, Integer> cache = new LinkedCache<>(3, CachePolicy.LFU, (key, value) -> 1,
+                (key, value) -> evicted.add(key));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        cache.get("c");
+
+        cache.put("d", 4);
+        cache.put("e", 5);
+
+        assertThat(evicted).containsExactly("b", "d");
+        assertThat(cache.containsKey("a")).isTrue();
+        assertThat(cache.containsKey("c")).isTrue();
+    }
+
+    @Test
+    void put_shouldEvictByWeight_givenWeigher() {
+        List<String> evicted = new ArrayList<>();
+        LinkedCache<String, String> cache = new LinkedCache<>(10, CachePolicy.LRU, (key, value) -> value.length(),
+                (key, value) -> evicted.add(key));
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+
+        cache.put("c", "cccccc");
+
+        assertThat(evicted).containsExactly("a");
+        assertThat(cache.weight()).isEqualTo(10);
+
+        cache.put("b", "b");
+
+        assertThat(cache.weight()).isEqualTo(7);
+    }
+
+    @Test
+    void put_shouldEvictNewEntry_givenWeightAboveCapacity() {
+        List<String> evicted = new ArrayList<>();
+        LinkedCache<String, String> cache = new LinkedCache<>(3, CachePolicy.LRU, (key, value) -> value.length(),
+                (key, value) -> evicted.add(key));
+        cache.put("a", "a");
+
+        cache.put("b", "bbbb");
+
+        assertThat(evicted).containsExactly("b");
+        assertThat(cache.containsKey("a")).isTrue();
+        assertThat(cache.weight()).isEqualTo(1);
+    }
+
+    @Test
+    void remove_shouldNotNotifyListener_givenExplicitRemoval() {
+        List<String> evicted = new ArrayList<>();
+        LinkedCache<String, Integer> cache = new LinkedCache<>(2, CachePolicy.LFU, (key, value) -> 1,
+                (key, value) -> evicted.add(key));
+        cache.put("a", 1);
+        cache.get("a");
+
+        assertThat(cache.remove("a")).isEqualTo(1);
+        assertThat(cache.remove("a")).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(evicted).isEmpty();
+    }
+
+    @Test
+    void clear_shouldEmptyCache_givenEntries() {
+        LinkedCache<String, Integer> cache = new LinkedCache<>(2, CachePolicy.SEGMENTED_LRU);
+        cache.put("a", 1);
+        cache.get("a");
+        cache.put("b", 2);
+
+        cache.clear();
+        cache.put("c", 3);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.weight()).isEqualTo(1);
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    void constructor_shouldThrow_givenNonPositiveCapacity() {
+        assertThatThrownBy(() -> new LinkedCache<String, String>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void put_shouldThrow_givenNullValue() {
+        LinkedCache<String, String> cache = new LinkedCache<>(1);
+
+        assertThatThrownBy(() -> cache.put("a", null)).isInstanceOf(NullPointerException.class);
+    }
+}
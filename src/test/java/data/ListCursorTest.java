@@ -0,0 +1,155 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ListCursorTest {
+
+    private final DoublyLinkedList doublyLinkedList = new DoublyLinkedList();
+
+    @Test
+    void nextAndPrevious_shouldWalkBothDirections() {
+        doublyLinkedList.addAll("a", "b", "c");
+        ListCursor cursor = doublyLinkedList.cursor();
+
+        assertThat(cursor.get()).isEqualTo("a");
+        assertThat(cursor.hasPrevious()).isFalse();
+        assertThat(cursor.next()).isEqualTo("b");
+        assertThat(cursor.next()).isEqualTo("c");
+        assertThat(cursor.hasNext()).isFalse();
+        assertThat(cursor.previous()).isEqualTo("b");
+        assertThatThrownBy(() -> doublyLinkedList.cursorAt(2).next()).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void edits_shouldKeepListConsistent_givenSinglePass() {
+        for (int i = 0; i < 10; i++) {
+            doublyLinkedList.addCaboose(i);
+        }
+
+        ListCursor cursor = doublyLinkedList.cursor();
+        while (true) {
+            int value = (Integer) cursor.get();
+            if (value % 2 == 0) {
+                cursor.insertAfter(value + 100);
+                cursor.insertBefore(value - 100);
+                if (!cursor.hasNext()) {
+                    break;
+                }
+                cursor.next();
+                cursor.next();
+            } else {
+                cursor.remove();
+                if (value == 9) {
+                    break;
+                }
+            }
+        }
+
+        assertThat(doublyLinkedList).containsExactly(
+                -100, 0, 100, -98, 2, 102, -96, 4, 104, -94, 6, 106, -92, 8, 108);
+        assertThat(doublyLinkedList.getNodeCount()).isEqualTo(15);
+        assertThat(doublyLinkedList.get(7)).isEqualTo(4);
+        assertThat(doublyLinkedList.getTail().getData()).isEqualTo(108);
+        assertThat(doublyLinkedList.hashCode())
+                .isEqualTo(new ArrayList<>(doublyLinkedList).hashCode());
+    }
+
+    @Test
+    void set_shouldReplaceElementAndKeepHash() {
+        doublyLinkedList.addAll("a", "b", "c");
+        ListCursor cursor = doublyLinkedList.cursorAt(1);
+
+        assertThat(cursor.set("x")).isEqualTo("b");
+        cursor.next();
+        cursor.set("y");
+
+        assertThat(doublyLinkedList).containsExactly("a", "x", "y");
+        assertThat(doublyLinkedList.hashCode()).isEqualTo(Arrays.asList("a", "x", "y").hashCode());
+    }
+
+    @Test
+    void remove_shouldMoveToPrevious_givenTail() {
+        doublyLinkedList.addAll("a", "b");
+        ListCursor cursor = doublyLinkedList.cursorAt(1);
+
+        assertThat(cursor.remove()).isEqualTo("b");
+        assertThat(cursor.get()).isEqualTo("a");
+        assertThat(cursor.remove()).isEqualTo("a");
+
+        assertThat(doublyLinkedList).isEmpty();
+        assertThatThrownBy(cursor::get).isInstanceOf(NoSuchElementException.class);
+
+        cursor.insertAfter("c");
+        assertThat(cursor.get()).isEqualTo("c");
+        assertThat(doublyLinkedList).containsExactly("c");
+    }
+
+    @Test
+    void cursor_shouldHaveNoNode_givenEmptyList() {
+        ListCursor cursor = doublyLinkedList.cursor();
+
+        assertThat(cursor.hasNext()).isFalse();
+        cursor.insertBefore("a");
+
+        assertThat(cursor.get()).isEqualTo("a");
+        assertThat(doublyLinkedList.getNodeCount()).isOne();
+    }
+
+    @Test
+    void cursor_shouldSurviveEditsByOtherCursor_givenItsNodeRemains() {
+        doublyLinkedList.addAll("a", "b", "c", "d");
+        ListCursor first = doublyLinkedList.cursor();
+        ListCursor second = doublyLinkedList.cursorAt(2);
+
+        first.next();
+        first.remove();
+        second.insertAfter("e");
+
+        assertThat(second.get()).isEqualTo("c");
+        assertThat(second.previous()).isEqualTo("a");
+        assertThat(first.get()).isEqualTo("c");
+        assertThat(doublyLinkedList).containsExactly("a", "c", "e", "d");
+    }
+
+    @Test
+    void cursor_shouldThrow_givenItsNodeRemovedElsewhere() {
+        doublyLinkedList.addAll("a", "b", "c");
+        ListCursor first = doublyLinkedList.cursorAt(1);
+        ListCursor second = doublyLinkedList.cursorAt(1);
+        ListCursor onHead = doublyLinkedList.cursor();
+        ListCursor onTail = doublyLinkedList.cursorAt(2);
+
+        second.remove();
+        doublyLinkedList.removeHeadNode();
+        doublyLinkedList.removeTailNode();
+
+        assertThatThrownBy(first::get).isInstanceOf(ConcurrentModificationException.class);
+        assertThatThrownBy(onHead::hasNext).isInstanceOf(ConcurrentModificationException.class);
+        assertThatThrownBy(onTail::hasPrevious).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void cursor_shouldThrow_givenWholesaleRelink() {
+        doublyLinkedList.addAll("a", "b", "c");
+        ListCursor beforeSplit = doublyLinkedList.cursorAt(2);
+        doublyLinkedList.split(1);
+        ListCursor beforeClear = doublyLinkedList.cursor();
+        doublyLinkedList.clear();
+
+        assertThatThrownBy(beforeSplit::get).isInstanceOf(ConcurrentModificationException.class);
+        assertThatThrownBy(() -> beforeClear.insertAfter("x")).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void cursorAt_shouldThrow_givenInvalidIndex() {
+        assertThatThrownBy(() -> doublyLinkedList.cursorAt(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
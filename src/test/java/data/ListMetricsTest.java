@@ -0,0 +1,188 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListMetricsTest {
+
+    private final ListMetrics metrics = new ListMetrics();
+    private final DoublyLinkedList doublyLinkedList = new DoublyLinkedList();
+
+    ListMetricsTest() {
+        doublyLinkedList.setMetrics(metrics);
+    }
+
+    @Test
+    void recorded_shouldCountEachOperation() {
+        doublyLinkedList.addEngine("a");
+        doublyLinkedList.addCaboose("b");
+        doublyLinkedList.addCaboose("c");
+        doublyLinkedList.addNodeAtIndex("x", 1);
+        doublyLinkedList.removeNodeAtIndex(1);
+        doublyLinkedList.removeHeadNode();
+        doublyLinkedList.removeTailNode();
+
+        assertThat(metrics.getOperationCount(ListOperation.ADD_ENGINE)).isOne();
+        assertThat(metrics.getOperationCount(ListOperation.ADD_CABOOSE)).isEqualTo(2);
+        assertThat(metrics.getOperationCount(ListOperation.ADD_AT_INDEX)).isOne();
+        assertThat(metrics.getOperationCount(ListOperation.REMOVE_AT_INDEX)).isOne();
+        assertThat(metrics.getOperationCount(ListOperation.REMOVE_HEAD)).isOne();
+        assertThat(metrics.getOperationCount(ListOperation.REMOVE_TAIL)).isOne();
+        assertThat(metrics.getLatency(ListOperation.ADD_CABOOSE).getCount()).isEqualTo(2);
+        assertThat(metrics.getSize()).isOne();
+    }
+
+    @Test
+    void recorded_shouldCountIndexOperationAtEndAsEndOperation() {
+        doublyLinkedList.addNodeAtIndex("a", 5);
+        doublyLinkedList.addNodeAtIndex("b", 0);
+        doublyLinkedList.remove(1);
+
+        assertThat(metrics.getOperationCount(ListOperation.ADD_ENGINE)).isOne();
+        assertThat(metrics.getOperationCount(ListOperation.ADD_CABOOSE)).isOne();
+        assertThat(metrics.getOperationCount(ListOperation.REMOVE_TAIL)).isOne();
+        assertThat(metrics.getOperationCount(ListOperation.ADD_AT_INDEX)).isZero();
+        assertThat(metrics.getOperationCount(ListOperation.REMOVE_AT_INDEX)).isZero();
+    }
+
+    @Test
+    void recorded_shouldKeepSizeCurrent_givenBulkAndNodeOperations() {
+        doublyLinkedList.addAll("a", "b", "c");
+        assertThat(metrics.getSize()).isEqualTo(3);
+
+        doublyLinkedList.insertAfter("a", "x");
+        doublyLinkedList.remove("b");
+        ListCursor cursor = doublyLinkedList.cursorAt(1);
+        cursor.remove();
+        assertThat(metrics.getSize()).isEqualTo(2);
+
+        DoublyLinkedList other = new DoublyLinkedList();
+        other.addAll("y", "z");
+        doublyLinkedList.concat(other);
+        assertThat(metrics.getSize()).isEqualTo(4);
+
+        DoublyLinkedList suffix = doublyLinkedList.split(1);
+        assertThat(metrics.getSize()).isOne();
+        assertThat(suffix).containsExactly("c", "y", "z");
+
+        doublyLinkedList.clear();
+        assertThat(metrics.getSize()).isZero();
+
+        assertThat(metrics.getOperationCount(ListOperation.ADD_ALL)).isOne();
+        assertThat(metrics.getOperationCount(ListOperation.ADD_AT_NODE)).isOne();
+        assertThat(metrics.getOperationCount(ListOperation.REMOVE_AT_NODE)).isEqualTo(2);
+        assertThat(metrics.getOperationCount(ListOperation.SPLICE)).isOne();
+        assertThat(metrics.getOperationCount(ListOperation.SPLIT)).isOne();
+        assertThat(metrics.getOperationCount(ListOperation.CLEAR)).isOne();
+    }
+
+    @Test
+    void recorded_shouldCountNodeOperationAtEndAsEndOperation() {
+        doublyLinkedList.addAll("a", "b");
+
+        doublyLinkedList.insertAfter("b", "c");
+        doublyLinkedList.remove("a");
+
+        assertThat(metrics.getOperationCount(ListOperation.ADD_CABOOSE)).isOne();
+        assertThat(metrics.getOperationCount(ListOperation.REMOVE_HEAD)).isOne();
+        assertThat(metrics.getOperationCount(ListOperation.ADD_AT_NODE)).isZero();
+        assertThat(metrics.getOperationCount(ListOperation.REMOVE_AT_NODE)).isZero();
+    }
+
+    @Test
+    void recorded_shouldCountNodesTraversed_givenPositionalOperations() {
+        for (int i = 0; i < 20; i++) {
+            doublyLinkedList.addCaboose(i);
+        }
+
+        doublyLinkedList.getNodeAtIndex(5);
+        doublyLinkedList.get(17);
+
+        assertThat(metrics.getNodesTraversed(ListOperation.GET_AT_INDEX)).isEqualTo(5 + 2);
+        assertThat(metrics.getOperationCount(ListOperation.GET_AT_INDEX)).isEqualTo(2);
+    }
+
+    @Test
+    void rejected_shouldCountAndNotifyListeners_givenInvalidInput() {
+        List<String> reasons = new ArrayList<>();
+        metrics.addListener(new ListMetricsListener() {
+            @Override
+            public void onRejected(ListOperation operation, String reason) {
+                reasons.add(operation + ": " + reason);
+            }
+        });
+
+        doublyLinkedList.addEngine(null);
+        doublyLinkedList.removeTailNode();
+        doublyLinkedList.addCaboose("a");
+        doublyLinkedList.getNodeAtIndex(3);
+        doublyLinkedList.insertAfter("a", null);
+
+        assertThat(metrics.getRejectedCount()).isEqualTo(4);
+        assertThat(reasons).containsExactly(
+                "ADD_ENGINE: No data provided.",
+                "REMOVE_TAIL: List is currently empty.",
+                "GET_AT_INDEX: Invalid index provided",
+                "ADD_AT_NODE: No data provided.");
+    }
+
+    @Test
+    void onOperation_shouldReceiveEveryOperation_untilListenerRemoved() {
+        List<ListOperation> operations = new ArrayList<>();
+        ListMetricsListener listener = new ListMetricsListener() {
+            @Override
+            public void onOperation(ListOperation operation, long latencyNanos, int nodesTraversed) {
+                operations.add(operation);
+            }
+        };
+        metrics.addListener(listener);
+
+        doublyLinkedList.addCaboose("a");
+        doublyLinkedList.set(0, "b");
+        metrics.removeListener(listener);
+        doublyLinkedList.removeHeadNode();
+
+        assertThat(operations).containsExactly(ListOperation.ADD_CABOOSE, ListOperation.SET_AT_INDEX);
+    }
+
+    @Test
+    void reset_shouldClearCounters() {
+        doublyLinkedList.addCaboose("a");
+        doublyLinkedList.removeNodeAtIndex(4);
+
+        metrics.reset();
+
+        assertThat(metrics.getOperationCount(ListOperation.ADD_CABOOSE)).isZero();
+        assertThat(metrics.getRejectedCount()).isZero();
+        assertThat(metrics.getLatency(ListOperation.ADD_CABOOSE).getCount()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void register_shouldPublishAttributesOverJmx() throws Exception {
+        doublyLinkedList.addCaboose("a");
+        doublyLinkedList.addCaboose("b");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        ObjectName name = metrics.register("test");
+        try {
+            assertThat(server.getAttribute(name, "Size")).isEqualTo(2);
+            assertThat(server.getAttribute(name, "RejectedCount")).isEqualTo(0L);
+            assertThat(server.getAttribute(name, "OperationCounts")).isNotNull();
+            assertThat(metrics.getOperationCounts()).containsEntry("ADD_CABOOSE", 2L);
+            assertThat((Map<String, Long>) metrics.getP99LatencyNanos()).containsKey("ADD_CABOOSE");
+        } finally {
+            metrics.unregister();
+        }
+
+        assertThat(server.isRegistered(name)).isFalse();
+    }
+}
@@ -0,0 +1,321 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ListSnapshotTest {
+
+    @Test
+    void snapshot_shouldKeepContents_givenLaterEdits() {
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addAll("a", "b", "c", "d");
+
+        try (ListSnapshot snapshot = list.snapshot()) {
+            list.addEngine("head");
+            list.addCaboose("tail");
+            list.addNodeAtIndex("middle", 3);
+            list.removeNodeAtIndex(2);
+            list.set(1, "replaced");
+            list.removeTailNode();
+            list.removeHeadNode();
+
+            assertThat(snapshot).containsExactly("a", "b", "c", "d");
+            assertThat(snapshot.size()).isEqualTo(4);
+            assertThat(snapshot.asString()).isEqualTo("{ [ a ] [ b ] [ c ] [ d ] }");
+        }
+    }
+
+    @Test
+    void snapshot_shouldKeepContents_givenSpliceAndSplit() {
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addAll("a", "b", "c");
+        DoublyLinkedList other = new DoublyLinkedList();
+        other.addAll("x", "y");
+
+        try (ListSnapshot snapshot = list.snapshot(); ListSnapshot otherSnapshot = other.snapshot()) {
+            list.splice(other, list.getNodeAtIndex(1));
+            DoublyLinkedList suffix = list.split(2);
+            suffix.clear();
+
+            assertThat(snapshot).containsExactly("a", "b", "c");
+            assertThat(otherSnapshot).containsExactly("x", "y");
+        }
+    }
+
+    @Test
+    void snapshot_shouldKeepContents_givenNodesMovedToListWithoutSnapshot() {
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addAll("a", "b", "c", "d");
+        DoublyLinkedList other = new DoublyLinkedList();
+
+        try (ListSnapshot snapshot = list.snapshot()) {
+            other.concat(list);
+            DoublyLinkedList suffix = other.split(2);
+            other.set(0, "x");
+            other.removeTailNode();
+            suffix.set(1, "y");
+            suffix.addEngine("z");
+            suffix.removeTailNode();
+
+            assertThat(other.isRecordingRevisions()).isTrue();
+            assertThat(suffix.isRecordingRevisions()).isTrue();
+            assertThat(snapshot).containsExactly("a", "b", "c", "d");
+        }
+        assertThat(other.isRecordingRevisions()).isFalse();
+    }
+
+    @Test
+    void snapshot_shouldNotRecordOtherLists_givenSnapshotOnOneList() {
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addAll("a", "b");
+        NodePool pool = new NodePool(16);
+        DoublyLinkedList other = new DoublyLinkedList();
+        other.setNodePool(pool);
+        other.addAll("x", "y", "z");
+
+        try (ListSnapshot ignored = list.snapshot()) {
+            other.set(0, "changed");
+            other.removeTailNode();
+            other.addCaboose("w");
+
+            assertThat(other.isRecordingRevisions()).isFalse();
+            assertThat(nodesHoldingRevisions(other)).isZero();
+            assertThat(pool.getHits()).isEqualTo(1);
+            assertThat(other).containsExactly("changed", "y", "w");
+        }
+    }
+
+    @Test
+    void snapshot_shouldSeeEachVersion_givenSeveralOpenSnapshots() {
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addAll("a", "b");
+
+        try (ListSnapshot first = list.snapshot()) {
+            list.set(0, "c");
+            try (ListSnapshot second = list.snapshot()) {
+                list.set(0, "d");
+                list.removeTailNode();
+
+                assertThat(first).containsExactly("a", "b");
+                assertThat(second).containsExactly("c", "b");
+                assertThat(list).containsExactly("d");
+            }
+        }
+    }
+
+    @Test
+    void snapshot_shouldBeEmpty_givenEmptyList() {
+        DoublyLinkedList list = new DoublyLinkedList();
+
+        try (ListSnapshot snapshot = list.snapshot()) {
+            list.addCaboose("a");
+
+            assertThat(snapshot).isEmpty();
+            assertThat(snapshot.asString()).isEqualTo("List is currently empty");
+        }
+    }
+
+    @Test
+    void snapshot_shouldBeReadableFromAnotherThread_givenConcurrentWriter() throws Exception {
+        DoublyLinkedList list = new DoublyLinkedList();
+        List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            list.addCaboose(i);
+            expected.add(i);
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicBoolean done = new AtomicBoolean(false);
+        try (ListSnapshot snapshot = list.snapshot()) {
+            Future<Boolean> reader = executor.submit(() -> {
+                boolean consistent = true;
+                while (!done.get()) {
+                    List<Object> seen = new ArrayList<>();
+                    snapshot.forEach(seen::add);
+                    consistent &= seen.equals(expected);
+                }
+                return consistent;
+            });
+
+            for (int i = 0; i < 20_000; i++) {
+                list.addEngine(-i);
+                list.removeTailNode();
+                list.set(i % list.size(), "changed");
+            }
+            done.set(true);
+
+            assertThat(reader.get(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void close_shouldReclaimRevisions_givenNoOtherSnapshotOpen() {
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addAll(Arrays.asList("a", "b", "c"));
+
+        ListSnapshot snapshot = list.snapshot();
+        list.set(0, "x");
+        list.removeTailNode();
+        assertThat(VersionClock.revisedNodeCount()).isPositive();
+
+        snapshot.close();
+
+        assertThat(VersionClock.revisedNodeCount()).isZero();
+        assertThat(list.isRecordingRevisions()).isFalse();
+    }
+
+    @Test
+    void close_shouldKeepRegistryInStepWithRevisions_givenConcurrentWritesAndCloses() throws Exception {
+        DoublyLinkedList list = new DoublyLinkedList();
+        for (int i = 0; i < 64; i++) {
+            list.addCaboose(i);
+        }
+
+        ExecutorService closer = Executors.newSingleThreadExecutor();
+        try {
+            for (int round = 0; round < 200; round++) {
+                List<ListSnapshot> open = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    open.add(list.snapshot());
+                    list.set(i, "round-" + round + "-" + i);
+                }
+                Future<?> closing = closer.submit(() -> open.forEach(ListSnapshot::close));
+                for (int i = 0; !closing.isDone(); i = (i + 1) % list.size()) {
+                    list.set(i, round * 1_000 + i);
+                }
+                closing.get(10, TimeUnit.SECONDS);
+
+                assertThat(VersionClock.revisedNodeCount()).isEqualTo(nodesHoldingRevisions(list));
+            }
+        } finally {
+            closer.shutdown();
+        }
+
+        list.snapshot().close();
+        assertThat(nodesHoldingRevisions(list)).isZero();
+        assertThat(VersionClock.revisedNodeCount()).isZero();
+    }
+
+    @Test
+    void snapshot_shouldKeepContents_givenSnapshotsClosedOnOtherThreadsWhileWriterContinues() throws Exception {
+        DoublyLinkedList list = new DoublyLinkedList();
+        for (int i = 0; i < 256; i++) {
+            list.addCaboose(i);
+        }
+        BlockingQueue<Object[]> handedOff = new ArrayBlockingQueue<>(1);
+        Object[] done = new Object[0];
+        ExecutorService readers = Executors.newFixedThreadPool(2);
+        Random random = new Random(17);
+
+        try {
+            List<Future<Integer>> checked = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                checked.add(readers.submit(() -> {
+                    int count = 0;
+                    for (Object[] handoff = handedOff.take(); handoff != done; handoff = handedOff.take()) {
+                        try (ListSnapshot snapshot = (ListSnapshot) handoff[0]) {
+                            List<Object> seen = new ArrayList<>();
+                            snapshot.forEach(seen::add);
+                            assertThat(seen).isEqualTo(handoff[1]);
+                        }
+                        count++;
+                    }
+                    return count;
+                }));
+            }
+
+            for (int i = 0; i < 10_000; i++) {
+                switch (random.nextInt(4)) {
+                    case 0:
+                        list.addCaboose(i);
+                        list.removeHeadNode();
+                        break;
+                    case 1:
+                        list.set(random.nextInt(list.size()), i);
+                        break;
+                    case 2:
+                        list.addNodeAtIndex(i, 1 + random.nextInt(list.size() - 1));
+                        list.removeNodeAtIndex(1 + random.nextInt(list.size() - 2));
+                        break;
+                    default:
+                        list.addEngine(i);
+                        list.removeTailNode();
+                        break;
+                }
+                for (int edit = 0; edit < 32; edit++) {
+                    list.set(random.nextInt(list.size()), -edit);
+                }
+                assertThat(handedOff.offer(new Object[]{list.snapshot(), new ArrayList<>(list)}, 10, TimeUnit.SECONDS))
+                        .isTrue();
+            }
+            handedOff.put(done);
+            handedOff.put(done);
+
+            int total = 0;
+            for (Future<Integer> future : checked) {
+                total += future.get(30, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(10_000);
+        } finally {
+            readers.shutdownNow();
+        }
+        assertThat(list.isRecordingRevisions()).isFalse();
+    }
+
+    @Test
+    void iterator_shouldThrow_givenClosedSnapshot() {
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addCaboose("a");
+        ListSnapshot snapshot = list.snapshot();
+
+        snapshot.close();
+        snapshot.close();
+
+        assertThatThrownBy(snapshot::iterator).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void save_shouldWriteSnapshotContents_givenChangedList() throws Exception {
+        DoublyLinkedList list = new DoublyLinkedList();
+        list.addAll("a", "b");
+        Path file = Files.createTempFile("snapshot", ".txt");
+
+        try (ListSnapshot snapshot = list.snapshot()) {
+            list.clear();
+            DoublyLinkedListStore.save(snapshot, file);
+        }
+
+        DoublyLinkedList loaded = new DoublyLinkedList();
+        DoublyLinkedListStore.load(loaded, file);
+        Files.delete(file);
+        assertThat(loaded).containsExactly("a", "b");
+    }
+
+    private static int nodesHoldingRevisions(DoublyLinkedList list) {
+        int holding = 0;
+        for (Node current = list.getHead(); current != null; current = current.getNext()) {
+            if (current.hasRevisions()) {
+                holding++;
+            }
+        }
+        return holding;
+    }
+}
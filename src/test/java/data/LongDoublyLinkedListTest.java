@@ -0,0 +1,37 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongDoublyLinkedListTest {
+
+    private final LongDoublyLinkedList longList = new LongDoublyLinkedList();
+
+    @Test
+    void addOperations_shouldPreserveOrder() {
+        longList.addCaboose(2);
+        longList.addEngine(0);
+        longList.addNodeAtIndex(1, 1);
+
+        assertThat(longList.getNodeCount()).isEqualTo(3);
+        assertThat(longList.getDataAtIndex(0)).isEqualTo(0);
+        assertThat(longList.getDataAtIndex(1)).isEqualTo(1);
+        assertThat(longList.getDataAtIndex(2)).isEqualTo(2);
+    }
+
+    @Test
+    void removeOperations_shouldPreserveOrder() {
+        for (int i = 0; i < 5; i++) {
+            longList.addCaboose(i);
+        }
+
+        longList.removeHeadNode();
+        longList.removeTailNode();
+        longList.removeNodeAtIndex(1);
+
+        assertThat(longList.getNodeCount()).isEqualTo(2);
+        assertThat(longList.getDataAtIndex(0)).isEqualTo(1);
+        assertThat(longList.getDataAtIndex(1)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,111 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+class NodePoolTest {
+
+    private final NodePool nodePool = new NodePool(16, 4);
+
+    @Test
+    void acquire_shouldCountMiss_givenEmptyPool() {
+        Node node = nodePool.acquire();
+
+        assertThat(node).isNotNull();
+        assertThat(nodePool.getMisses()).isEqualTo(1);
+        assertThat(nodePool.getHits()).isZero();
+    }
+
+    @Test
+    void acquire_shouldReturnClearedReleasedNode() {
+        Node node = nodePool.acquire()
+                .setData("data")
+                .setNext(new Node())
+                .setPrevious(new Node());
+
+        nodePool.release(node);
+
+        assertThat(nodePool.acquire()).isSameAs(node);
+        assertThat(node.getData()).isNull();
+        assertThat(node.getNext()).isNull();
+        assertThat(node.getPrevious()).isNull();
+        assertThat(nodePool.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_shouldReuseNodesReleasedByAnotherThread_whenThreadCacheOverflows() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> {
+            for (int i = 0; i < 10; i++) {
+                nodePool.release(new Node());
+            }
+        }).get();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+
+        for (int i = 0; i < 8; i++) {
+            nodePool.acquire();
+        }
+
+        assertThat(nodePool.getHits()).isEqualTo(6);
+        assertThat(nodePool.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void constructor_shouldThrowIllegalArgumentException_givenNonPositiveCapacity() {
+        assertThatThrownBy(() -> new NodePool(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void pooledList_shouldRecycleRemovedNodes_givenQueueChurn() {
+        DoublyLinkedList doublyLinkedList = new DoublyLinkedList();
+        doublyLinkedList.setNodePool(nodePool);
+
+        for (int i = 0; i < 1_000; i++) {
+            doublyLinkedList.addCaboose(i);
+            doublyLinkedList.addNodeAtIndex(-i, 1);
+            doublyLinkedList.removeNodeAtIndex(1);
+            doublyLinkedList.removeHeadNode();
+        }
+
+        assertThat(doublyLinkedList.isEmpty()).isTrue();
+        assertThat(nodePool.getMisses()).isLessThanOrEqualTo(2);
+        assertThat(nodePool.getHits()).isGreaterThanOrEqualTo(1_998);
+    }
+
+    @Test
+    void pooledList_shouldNotAllocate_givenSteadyStateChurn() {
+        assumeThat(ManagementFactory.getThreadMXBean()).isInstanceOf(com.sun.management.ThreadMXBean.class);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeThat(threads.isThreadAllocatedMemorySupported()).isTrue();
+
+        DoublyLinkedList doublyLinkedList = new DoublyLinkedList();
+        doublyLinkedList.setNodePool(nodePool);
+        String element = "element";
+        for (int i = 0; i < 100; i++) {
+            doublyLinkedList.addCaboose(element);
+        }
+        churn(doublyLinkedList, element, 200_000);
+
+        long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        churn(doublyLinkedList, element, 1_000_000);
+        long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+
+        assertThat(allocated).isLessThan(1_000_000L);
+    }
+
+    private static void churn(DoublyLinkedList doublyLinkedList, String element, int operations) {
+        for (int i = 0; i < operations; i++) {
+            doublyLinkedList.addCaboose(element);
+            doublyLinkedList.removeHeadNode();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelOperationsTest {
+
+    private static final int SIZE = ParallelOperations.MIN_CHUNK_SIZE * 12 + 7;
+
+    private final DoublyLinkedList doublyLinkedList = new DoublyLinkedList();
+
+    @Test
+    void parallelSort_shouldOrderElementsAndRelinkBothDirections() {
+        List<Object> expected = populateRandom();
+
+        doublyLinkedList.parallelSort(null);
+        expected.sort(null);
+
+        assertThat(doublyLinkedList).containsExactlyElementsOf(expected);
+        assertThat(backwards()).containsExactlyElementsOf(reversed(expected));
+        assertThat(doublyLinkedList.getHead().getPrevious()).isNull();
+        assertThat(doublyLinkedList.getTail().getNext()).isNull();
+        assertThat(doublyLinkedList.get(SIZE / 2)).isEqualTo(expected.get(SIZE / 2));
+        assertThat(doublyLinkedList.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void parallelSort_shouldBeStable() {
+        for (int i = 0; i < SIZE; i++) {
+            doublyLinkedList.addCaboose(new int[]{i % 10, i});
+        }
+
+        doublyLinkedList.parallelSort(Comparator.comparingInt(element -> ((int[]) element)[0]));
+
+        int[] previous = (int[]) doublyLinkedList.getFirst();
+        for (Object element : doublyLinkedList) {
+            int[] current = (int[]) element;
+            assertThat(current[0] > previous[0] || current[0] == previous[0] && current[1] >= previous[1]).isTrue();
+            previous = current;
+        }
+    }
+
+    @Test
+    void sort_shouldSortSmallListInPlace_givenComparator() {
+        doublyLinkedList.addAll(3, 1, 2, 5, 4);
+
+        doublyLinkedList.sort(Comparator.comparingInt(element -> -(Integer) element));
+
+        assertThat(doublyLinkedList).containsExactly(5, 4, 3, 2, 1);
+        assertThat(doublyLinkedList.getTail().getData()).isEqualTo(1);
+        assertThat(doublyLinkedList.getTail().getPrevious().getData()).isEqualTo(2);
+    }
+
+    @Test
+    void parallelSort_shouldRestoreOriginalOrder_whenComparatorThrows() {
+        List<Object> expected = populateRandom();
+        doublyLinkedList.addCaboose("not a number");
+
+        assertThatThrownBy(() -> doublyLinkedList.parallelSort(null)).isInstanceOf(ClassCastException.class);
+
+        expected.add("not a number");
+        assertThat(doublyLinkedList).containsExactlyElementsOf(expected);
+        assertThat(backwards()).containsExactlyElementsOf(reversed(expected));
+    }
+
+    @Test
+    void parallelMap_shouldPreserveOrder() {
+        List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            doublyLinkedList.addCaboose(i);
+            expected.add("v" + i);
+        }
+
+        DoublyLinkedList mapped = doublyLinkedList.parallelMap(element -> "v" + element);
+
+        assertThat(mapped).containsExactlyElementsOf(expected);
+        assertThat(mapped.getNodeCount()).isEqualTo(SIZE);
+        assertThat(doublyLinkedList.getFirst()).isEqualTo(0);
+    }
+
+    @Test
+    void parallelFilter_shouldKeepMatchingElementsInOrder() {
+        List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            doublyLinkedList.addCaboose(i);
+            if (i % 3 == 0) {
+                expected.add(i);
+            }
+        }
+
+        DoublyLinkedList filtered = doublyLinkedList.parallelFilter(element -> (Integer) element % 3 == 0);
+
+        assertThat(filtered).containsExactlyElementsOf(expected);
+        assertThat(backwards(filtered)).containsExactlyElementsOf(reversed(expected));
+    }
+
+    @Test
+    void parallelReduce_shouldCombineChunkResults() {
+        long expected = 0;
+        for (int i = 0; i < SIZE; i++) {
+            doublyLinkedList.addCaboose(i);
+            expected += i;
+        }
+
+        Long sum = doublyLinkedList.parallelReduce(0L, (total, element) -> total + (Integer) element, Long::sum);
+        Object max = doublyLinkedList.parallelReduce(Integer.MIN_VALUE, (a, b) -> Math.max((Integer) a, (Integer) b));
+
+        assertThat(sum).isEqualTo(expected);
+        assertThat(max).isEqualTo(SIZE - 1);
+    }
+
+    @Test
+    void parallelOperations_shouldHandleEmptyList() {
+        doublyLinkedList.parallelSort(null);
+
+        assertThat(doublyLinkedList.parallelMap(element -> element)).isEmpty();
+        assertThat(doublyLinkedList.parallelFilter(element -> true)).isEmpty();
+        assertThat(doublyLinkedList.parallelReduce(0, (a, b) -> a)).isEqualTo(0);
+    }
+
+    @Test
+    void parallelSort_shouldKeepSnapshotIntact() {
+        populateRandom();
+        List<Object> before = new ArrayList<>(doublyLinkedList);
+
+        try (ListSnapshot snapshot = doublyLinkedList.snapshot()) {
+            doublyLinkedList.parallelSort(null);
+
+            List<Object> seen = new ArrayList<>();
+            snapshot.forEach(seen::add);
+            assertThat(seen).isEqualTo(before);
+        }
+    }
+
+    private List<Object> populateRandom() {
+        Random random = new Random(11);
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            int value = random.nextInt(SIZE);
+            doublyLinkedList.addCaboose(value);
+            values.add(value);
+        }
+        return values;
+    }
+
+    private List<Object> backwards() {
+        return backwards(doublyLinkedList);
+    }
+
+    private static List<Object> backwards(DoublyLinkedList list) {
+        List<Object> elements = new ArrayList<>();
+        for (Node current = list.getTail(); current != null; current = current.getPrevious()) {
+            elements.add(current.getData());
+        }
+        return elements;
+    }
+
+    private static List<Object> reversed(List<Object> elements) {
+        List<Object> copy = new ArrayList<>(elements);
+        Collections.reverse(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,57 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixSizeIndexTest {
+
+    @Test
+    void prefix_shouldSumEarlierSegments_givenInitialSizes() {
+        PrefixSizeIndex index = new PrefixSizeIndex(new int[]{3, 0, 5, 2, 4});
+
+        assertThat(index.prefix(0)).isZero();
+        assertThat(index.prefix(2)).isEqualTo(3);
+        assertThat(index.prefix(4)).isEqualTo(10);
+        assertThat(index.total()).isEqualTo(14);
+    }
+
+    @Test
+    void segmentAt_shouldSkipEmptySegments() {
+        PrefixSizeIndex index = new PrefixSizeIndex(new int[]{0, 3, 0, 0, 2});
+
+        assertThat(index.segmentAt(0)).isEqualTo(1);
+        assertThat(index.segmentAt(2)).isEqualTo(1);
+        assertThat(index.segmentAt(3)).isEqualTo(4);
+        assertThat(index.segmentAt(4)).isEqualTo(4);
+    }
+
+    @Test
+    void segmentAt_shouldMatchLinearScan_givenRandomUpdates() {
+        Random random = new Random(5);
+        int[] sizes = new int[37];
+        PrefixSizeIndex index = new PrefixSizeIndex(sizes);
+
+        for (int i = 0; i < 2_000; i++) {
+            int segment = random.nextInt(sizes.length);
+            int delta = sizes[segment] > 0 && random.nextBoolean() ? -1 : 1;
+            sizes[segment] += delta;
+            index.add(segment, delta);
+
+            int total = 0;
+            for (int size : sizes) {
+                total += size;
+            }
+            assertThat(index.total()).isEqualTo(total);
+
+            int position = random.nextInt(total);
+            int expected = 0;
+            for (int seen = sizes[0]; seen <= position; seen += sizes[++expected]) {
+                // walk to the segment holding the position
+            }
+            assertThat(index.segmentAt(position)).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SegmentedDoublyLinkedListTest {
+
+    private final SegmentedDoublyLinkedList segmentedList = new SegmentedDoublyLinkedList(4);
+
+    @Test
+    void addNodeAtIndex_shouldKeepOrder_givenInsertsAcrossSegments() {
+        for (int i = 0; i < 20; i++) {
+            segmentedList.addCaboose(i);
+        }
+
+        segmentedList.addEngine("head");
+        segmentedList.addNodeAtIndex("middle", 10);
+        segmentedList.addNodeAtIndex("tail", 1000);
+
+        assertThat(segmentedList.getDataAtIndex(0)).isEqualTo("head");
+        assertThat(segmentedList.getDataAtIndex(10)).isEqualTo("middle");
+        assertThat(segmentedList.getDataAtIndex(11)).isEqualTo(9);
+        assertThat(segmentedList.getDataAtIndex(22)).isEqualTo("tail");
+        assertThat(segmentedList.getNodeCount()).isEqualTo(23);
+        assertThat(segmentedList.getSegmentCount()).isGreaterThan(1);
+    }
+
+    @Test
+    void removeHeadNode_shouldReturnEmpty_whenListIsEmpty() {
+        assertThat(segmentedList.removeHeadNode()).isEmpty();
+        assertThat(segmentedList.removeTailNode()).isEmpty();
+        assertThat(segmentedList.removeNodeAtIndex(0)).isEmpty();
+        assertThat(segmentedList.asString()).isEqualTo("List is currently empty");
+    }
+
+    @Test
+    void removeNodeAtIndex_shouldReturnEmpty_givenInvalidIndex() {
+        segmentedList.addCaboose("a");
+
+        assertThat(segmentedList.removeNodeAtIndex(-1)).isEmpty();
+        assertThat(segmentedList.removeNodeAtIndex(1)).isEmpty();
+        assertThat(segmentedList.removeNodeAtIndex(null)).isEmpty();
+        assertThat(segmentedList.getNodeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getDataAtIndex_shouldThrow_givenInvalidIndex() {
+        assertThatThrownBy(() -> segmentedList.getDataAtIndex(0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void addAllParallel_shouldMatchSequentialLoad_givenManySegments() {
+        SegmentedDoublyLinkedList loaded = new SegmentedDoublyLinkedList(1_000);
+        List<Integer> elements = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        DoublyLinkedList sequential = new DoublyLinkedList();
+        elements.forEach(sequential::addCaboose);
+
+        loaded.addAllParallel(elements);
+
+        assertThat(loaded.getSegmentCount()).isEqualTo(100);
+        assertThat(loaded.toDoublyLinkedList()).isEqualTo(sequential);
+        assertThat(loaded.getDataAtIndex(54_321)).isEqualTo(54_321);
+    }
+
+    @Test
+    void addAllParallel_shouldAppendAfterExistingElements_givenNonRandomAccessSource() {
+        segmentedList.addCaboose("first");
+
+        segmentedList.addAllParallel(new LinkedList<>(IntStream.range(0, 10).boxed().collect(Collectors.toList())));
+        segmentedList.addAllParallel(3, i -> "g" + i);
+
+        assertThat(segmentedList.asString())
+                .isEqualTo("{ [ first ] [ 0 ] [ 1 ] [ 2 ] [ 3 ] [ 4 ] [ 5 ] [ 6 ] [ 7 ] [ 8 ] [ 9 ] [ g0 ] [ g1 ] [ g2 ] }");
+    }
+
+    @Test
+    void addAllParallel_shouldLeaveListUnchanged_givenNullElement() {
+        segmentedList.addCaboose("a");
+
+        assertThatThrownBy(() -> segmentedList.addAllParallel(Collections.singletonList(null)))
+                .isInstanceOf(NullPointerException.class);
+        assertThat(segmentedList.asString()).isEqualTo("{ [ a ] }");
+    }
+
+    @Test
+    void rebalance_shouldBoundSegmentSizes_givenSkewedEdits() {
+        segmentedList.addAllParallel(200, i -> i);
+        for (int i = 0; i < 150; i++) {
+            segmentedList.removeNodeAtIndex(20);
+        }
+
+        segmentedList.rebalance();
+
+        assertThat(IntStream.of(segmentedList.segmentSizes()).min().getAsInt()).isGreaterThanOrEqualTo(2);
+        assertThat(IntStream.of(segmentedList.segmentSizes()).max().getAsInt()).isLessThanOrEqualTo(8);
+        assertThat(segmentedList.getNodeCount()).isEqualTo(50);
+        assertThat(segmentedList.getDataAtIndex(19)).isEqualTo(19);
+        assertThat(segmentedList.getDataAtIndex(20)).isEqualTo(170);
+    }
+
+    @Test
+    void operations_shouldMatchReferenceList_givenRandomOperations() {
+        Random random = new Random(17);
+        List<Object> reference = new ArrayList<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            int index = reference.isEmpty() ? 0 : random.nextInt(reference.size());
+
+            switch (random.nextInt(6)) {
+                case 0:
+                    segmentedList.addEngine(i);
+                    reference.add(0, i);
+                    break;
+                case 1:
+                    segmentedList.addCaboose(i);
+                    reference.add(i);
+                    break;
+                case 2:
+                    assertThat(segmentedList.removeHeadNode().orElse(null))
+                            .isEqualTo(reference.isEmpty() ? null : reference.remove(0));
+                    break;
+                case 3:
+                    assertThat(segmentedList.removeTailNode().orElse(null))
+                            .isEqualTo(reference.isEmpty() ? null : reference.remove(reference.size() - 1));
+                    break;
+                case 4:
+                    assertThat(segmentedList.removeNodeAtIndex(index).orElse(null))
+                            .isEqualTo(reference.isEmpty() ? null : reference.remove(index));
+                    break;
+                default:
+                    segmentedList.addNodeAtIndex(i, index);
+                    reference.add(index, i);
+                    break;
+            }
+        }
+
+        assertThat(segmentedList.toDoublyLinkedList()).containsExactlyElementsOf(reference);
+    }
+
+    @Test
+    void operations_shouldKeepEveryElement_givenConcurrentWriters() throws Exception {
+        SegmentedDoublyLinkedList shared = new SegmentedDoublyLinkedList(64);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int writer = t;
+                writers.add(executor.submit(() -> {
+                    Random random = new Random(writer);
+                    for (int i = 0; i < 5_000; i++) {
+                        int size = shared.getNodeCount();
+                        shared.addNodeAtIndex(writer * 100_000 + i, size == 0 ? 0 : random.nextInt(size + 1));
+                        if (i % 3 == 0) {
+                            shared.removeHeadNode();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        int expected = 4 * (5_000 - 1_667);
+        assertThat(shared.getNodeCount()).isEqualTo(expected);
+        assertThat(shared.toDoublyLinkedList()).hasSize(expected).doesNotHaveDuplicates();
+        assertThat(IntStream.of(shared.segmentSizes()).max().getAsInt()).isLessThanOrEqualTo(2 * 64 + 4);
+    }
+}
@@ -0,0 +1,149 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkipListIndexTest {
+
+    private final DoublyLinkedList doublyLinkedList = DoublyLinkedList.indexed();
+
+    @Test
+    void getNodeAtIndex_shouldReturnEveryNode_givenLargeList() {
+        for (int i = 0; i < 5_000; i++) {
+            doublyLinkedList.addCaboose(i);
+        }
+
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(doublyLinkedList.getNodeAtIndex(i).getData()).isEqualTo(i);
+        }
+        assertThat(doublyLinkedList.positions().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+    }
+
+    @Test
+    void addEngine_shouldKeepIndexConsistent() {
+        for (int i = 0; i < 1_000; i++) {
+            doublyLinkedList.addEngine(i);
+        }
+
+        assertThat(doublyLinkedList.getNodeAtIndex(0).getData()).isEqualTo(999);
+        assertThat(doublyLinkedList.getNodeAtIndex(999).getData()).isEqualTo(0);
+        assertThat(doublyLinkedList.positions().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+    }
+
+    @Test
+    void removeHeadNode_shouldEmptyIndex_whenAllNodesRemoved() {
+        for (int i = 0; i < 500; i++) {
+            doublyLinkedList.addCaboose(i);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            doublyLinkedList.removeHeadNode();
+        }
+
+        assertThat(doublyLinkedList.getNodeCount()).isZero();
+        assertThat(doublyLinkedList.positions().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+    }
+
+    @Test
+    void tailOperations_shouldKeepIndexConsistent_givenTailChurnAndMiddleEdits() {
+        Random random = new Random(13);
+        List<Integer> reference = new ArrayList<>();
+
+        for (int i = 0; i < 6_000; i++) {
+            int choice = random.nextInt(8);
+            if (choice < 4 || reference.isEmpty()) {
+                doublyLinkedList.addCaboose(i);
+                reference.add(i);
+            } else if (choice < 7) {
+                doublyLinkedList.removeTailNode();
+                reference.remove(reference.size() - 1);
+            } else {
+                int index = random.nextInt(reference.size());
+                doublyLinkedList.addNodeAtIndex(i, index);
+                reference.add(index, i);
+            }
+        }
+
+        assertThat(doublyLinkedList.positions().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+        for (int i = 0; i < reference.size(); i++) {
+            assertThat(doublyLinkedList.getNodeAtIndex(i).getData()).isEqualTo(reference.get(i));
+        }
+    }
+
+    @Test
+    void positionalOperations_shouldMatchReferenceList_givenRandomOperations() {
+        Random random = new Random(7);
+        List<Integer> reference = new ArrayList<>();
+
+        for (int i = 0; i < 4_000; i++) {
+            int index = reference.isEmpty() ? 0 : random.nextInt(reference.size());
+
+            switch (random.nextInt(6)) {
+                case 0:
+                    doublyLinkedList.addEngine(i);
+                    reference.add(0, i);
+                    break;
+                case 1:
+                    doublyLinkedList.addCaboose(i);
+                    reference.add(i);
+                    break;
+                case 2:
+                    if (!reference.isEmpty()) {
+                        doublyLinkedList.removeHeadNode();
+                        reference.remove(0);
+                    }
+                    break;
+                case 3:
+                    if (!reference.isEmpty()) {
+                        doublyLinkedList.removeTailNode();
+                        reference.remove(reference.size() - 1);
+                    }
+                    break;
+                case 4:
+                    if (!reference.isEmpty()) {
+                        doublyLinkedList.removeNodeAtIndex(index);
+                        reference.remove(index);
+                    }
+                    break;
+                default:
+                    doublyLinkedList.addNodeAtIndex(i, index);
+                    reference.add(index, i);
+                    break;
+            }
+
+            if (!reference.isEmpty()) {
+                int probe = random.nextInt(reference.size());
+                assertThat(doublyLinkedList.getNodeAtIndex(probe).getData()).isEqualTo(reference.get(probe));
+            }
+        }
+
+        assertThat(doublyLinkedList.positions().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+        assertThat(doublyLinkedList.getNodeCount()).isEqualTo(reference.size());
+    }
+
+    @Test
+    void getNodeAtIndex_shouldRebuildIndex_givenSplicedList() {
+        DoublyLinkedList other = new DoublyLinkedList();
+        for (int i = 0; i < 2_000; i++) {
+            doublyLinkedList.addCaboose(i);
+            other.addCaboose(-i);
+        }
+
+        doublyLinkedList.splice(other, doublyLinkedList.getNodeAtIndex(1_000));
+
+        assertThat(doublyLinkedList.getNodeAtIndex(1_000).getData()).isEqualTo(0);
+        assertThat(doublyLinkedList.getNodeAtIndex(2_999).getData()).isEqualTo(-1_999);
+        assertThat(doublyLinkedList.getNodeAtIndex(3_000).getData()).isEqualTo(1_000);
+        assertThat(doublyLinkedList.positions().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+
+        doublyLinkedList.addNodeAtIndex("x", 10);
+        doublyLinkedList.removeNodeAtIndex(3_500);
+        assertThat(doublyLinkedList.getNodeAtIndex(10).getData()).isEqualTo("x");
+        assertThat(doublyLinkedList.positions().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+    }
+}
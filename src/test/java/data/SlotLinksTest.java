@@ -0,0 +1,63 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotLinksTest {
+
+    private final SlotLinks links = new SlotLinks(0);
+
+    @Test
+    void allocate_shouldReuseUnlinkedSlots() {
+        int first = links.allocate();
+        links.linkLast(first);
+        int second = links.allocate();
+        links.linkLast(second);
+
+        links.unlink(first);
+
+        assertThat(links.allocate()).isEqualTo(first);
+    }
+
+    @Test
+    void allocate_shouldGrowCapacity_whenNoFreeSlotsLeft() {
+        int initialCapacity = links.capacity();
+
+        for (int i = 0; i <= initialCapacity; i++) {
+            links.linkLast(links.allocate());
+        }
+
+        assertThat(links.capacity()).isGreaterThan(initialCapacity);
+        assertThat(links.size()).isEqualTo(initialCapacity + 1);
+    }
+
+    @Test
+    void linkBefore_shouldInsertInFrontOfSuccessor() {
+        int a = links.allocate();
+        links.linkLast(a);
+        int c = links.allocate();
+        links.linkLast(c);
+        int b = links.allocate();
+
+        links.linkBefore(b, c);
+
+        assertThat(links.slotAt(0)).isEqualTo(a);
+        assertThat(links.slotAt(1)).isEqualTo(b);
+        assertThat(links.slotAt(2)).isEqualTo(c);
+        assertThat(links.previous(c)).isEqualTo(b);
+        assertThat(links.next(a)).isEqualTo(b);
+    }
+
+    @Test
+    void unlink_shouldResetEnds_whenLastSlotRemoved() {
+        int slot = links.allocate();
+        links.linkFirst(slot);
+
+        links.unlink(slot);
+
+        assertThat(links.head()).isEqualTo(SlotLinks.NIL);
+        assertThat(links.tail()).isEqualTo(SlotLinks.NIL);
+        assertThat(links.size()).isZero();
+    }
+}
@@ -0,0 +1,54 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringDictionaryTest {
+
+    private final StringDictionary dictionary = new StringDictionary();
+
+    @Test
+    void acquire_shouldReturnSameCode_givenEqualStrings() {
+        int first = dictionary.acquire("token");
+        int second = dictionary.acquire(new String("token"));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(dictionary.referencesTo(first)).isEqualTo(2);
+        assertThat(dictionary.size()).isEqualTo(1);
+        assertThat(dictionary.getReferenceCount()).isEqualTo(2);
+    }
+
+    @Test
+    void release_shouldDropString_givenLastReference() {
+        int code = dictionary.acquire("token");
+        dictionary.acquire("token");
+
+        dictionary.release(code);
+        assertThat(dictionary.decode(code)).isEqualTo("token");
+
+        dictionary.release(code);
+        assertThat(dictionary.codeOf("token")).isEqualTo(StringDictionary.NO_CODE);
+        assertThat(dictionary.size()).isZero();
+        assertThat(dictionary.getReferenceCount()).isZero();
+    }
+
+    @Test
+    void acquire_shouldReuseCode_givenReleasedString() {
+        int code = dictionary.acquire("old");
+        dictionary.release(code);
+
+        assertThat(dictionary.acquire("new")).isEqualTo(code);
+        assertThat(dictionary.decode(code)).isEqualTo("new");
+    }
+
+    @Test
+    void estimatedBytesSaved_shouldCountDuplicateCopies_givenRepeatedString() {
+        for (int i = 0; i < 11; i++) {
+            dictionary.acquire("abcdefgh");
+        }
+
+        assertThat(StringDictionary.estimatedSize("abcdefgh")).isEqualTo(48);
+        assertThat(dictionary.estimatedBytesSaved()).isEqualTo(10 * 48 - StringDictionary.ENTRY_BYTES);
+    }
+}
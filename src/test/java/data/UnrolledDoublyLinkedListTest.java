@@ -0,0 +1,229 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UnrolledDoublyLinkedListTest {
+
+    private final UnrolledDoublyLinkedList unrolledList = new UnrolledDoublyLinkedList(4);
+
+    @Test
+    void constructor_shouldRejectCapacityBelowTwo() {
+        assertThatThrownBy(() -> new UnrolledDoublyLinkedList(1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void addEngine_shouldDoNothing_givenNullData() {
+        unrolledList.addEngine(null);
+
+        assertThat(unrolledList.getNodeCount()).isZero();
+    }
+
+    @Test
+    void addCaboose_shouldAllocateNewBlock_whenTailBlockFull() {
+        for (int i = 0; i < 5; i++) {
+            unrolledList.addCaboose(i);
+        }
+
+        assertThat(unrolledList.blockCount()).isEqualTo(2);
+        assertThat(unrolledList.asString()).isEqualTo("{ [ 0 ] [ 1 ] [ 2 ] [ 3 ] [ 4 ] }");
+    }
+
+    @Test
+    void addNodeAtIndex_shouldSplitFullBlock() {
+        for (int i = 0; i < 4; i++) {
+            unrolledList.addCaboose(i);
+        }
+
+        unrolledList.addNodeAtIndex("x", 1);
+
+        assertThat(unrolledList.blockCount()).isEqualTo(2);
+        assertThat(unrolledList.asString()).isEqualTo("{ [ 0 ] [ x ] [ 1 ] [ 2 ] [ 3 ] }");
+    }
+
+    @Test
+    void removeNodeAtIndex_shouldMergeSparseBlocks() {
+        for (int i = 0; i < 8; i++) {
+            unrolledList.addCaboose(i);
+        }
+        unrolledList.addNodeAtIndex("x", 2);
+        assertThat(unrolledList.blockCount()).isEqualTo(3);
+
+        unrolledList.removeNodeAtIndex(0);
+        unrolledList.removeNodeAtIndex(0);
+
+        assertThat(unrolledList.blockCount()).isEqualTo(2);
+        assertThat(unrolledList.asString()).isEqualTo("{ [ x ] [ 2 ] [ 3 ] [ 4 ] [ 5 ] [ 6 ] [ 7 ] }");
+    }
+
+    @Test
+    void forEach_shouldVisitElementsInOrder_acrossBlocks() {
+        for (int i = 0; i < 10; i++) {
+            unrolledList.addCaboose(i);
+        }
+        unrolledList.addNodeAtIndex("x", 5);
+        List<Object> visited = new ArrayList<>();
+
+        unrolledList.forEach(visited::add);
+
+        assertThat(visited).containsExactly(0, 1, 2, 3, 4, "x", 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void removeTailNode_shouldRebalanceSparseLastBlock() {
+        for (int i = 0; i < 8; i++) {
+            unrolledList.addCaboose(i);
+        }
+
+        unrolledList.removeTailNode();
+        unrolledList.removeTailNode();
+        unrolledList.removeTailNode();
+
+        assertThat(unrolledList.blockSizes()).containsExactly(3, 2);
+        assertThat(unrolledList.asString()).isEqualTo("{ [ 0 ] [ 1 ] [ 2 ] [ 3 ] [ 4 ] }");
+
+        unrolledList.removeTailNode();
+        unrolledList.removeTailNode();
+
+        assertThat(unrolledList.blockSizes()).containsExactly(3);
+        assertThat(unrolledList.asString()).isEqualTo("{ [ 0 ] [ 1 ] [ 2 ] }");
+    }
+
+    @Test
+    void removeHeadNode_shouldBorrowFromNextBlock_whenMergeDoesNotFit() {
+        for (int i = 0; i < 8; i++) {
+            unrolledList.addCaboose(i);
+        }
+
+        unrolledList.removeHeadNode();
+        unrolledList.removeHeadNode();
+        unrolledList.removeHeadNode();
+
+        assertThat(unrolledList.blockSizes()).containsExactly(2, 3);
+        assertThat(unrolledList.asString()).isEqualTo("{ [ 3 ] [ 4 ] [ 5 ] [ 6 ] [ 7 ] }");
+    }
+
+    @Test
+    void remove_shouldKeepBlocksHalfFull_givenRandomRemovals() {
+        UnrolledDoublyLinkedList list = new UnrolledDoublyLinkedList(8);
+        Random random = new Random(11);
+        List<Integer> reference = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            int index = reference.isEmpty() ? 0 : random.nextInt(reference.size() + 1);
+            list.addNodeAtIndex(i, index);
+            reference.add(Math.min(index, reference.size()), i);
+        }
+
+        while (!reference.isEmpty()) {
+            switch (random.nextInt(3)) {
+                case 0:
+                    list.removeHeadNode();
+                    reference.remove(0);
+                    break;
+                case 1:
+                    list.removeTailNode();
+                    reference.remove(reference.size() - 1);
+                    break;
+                default:
+                    int index = random.nextInt(reference.size());
+                    list.removeNodeAtIndex(index);
+                    reference.remove(index);
+                    break;
+            }
+
+            int[] sizes = list.blockSizes();
+            for (int b = 1; b < sizes.length - 1; b++) {
+                assertThat(sizes[b]).isGreaterThanOrEqualTo(4);
+            }
+            if (sizes.length > 1) {
+                assertThat(Math.min(sizes[0], sizes[sizes.length - 1])).isPositive();
+                assertThat(sizes[0] + sizes[1]).isGreaterThan(4);
+                assertThat(sizes[sizes.length - 2] + sizes[sizes.length - 1]).isGreaterThan(4);
+            }
+            assertThat(list.getNodeCount()).isEqualTo(reference.size());
+        }
+        assertThat(list.blockCount()).isZero();
+    }
+
+    @Test
+    void removeTailNode_shouldEmptyList_whenOneNodeLeft() {
+        unrolledList.addEngine("1");
+
+        unrolledList.removeTailNode();
+
+        assertThat(unrolledList.getNodeCount()).isZero();
+        assertThat(unrolledList.blockCount()).isZero();
+        assertThat(unrolledList.asString()).isEqualTo("List is currently empty");
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(ints = {-1, 3})
+    void removeNodeAtIndex_shouldDoNothing_givenNullOrInvalidIndex(Integer index) {
+        unrolledList.addCaboose("1");
+        unrolledList.addCaboose("2");
+        unrolledList.addCaboose("3");
+
+        unrolledList.removeNodeAtIndex(index);
+
+        assertThat(unrolledList.getNodeCount()).isEqualTo(3);
+    }
+
+    @Test
+    void operations_shouldMatchReferenceList_givenRandomOperations() {
+        Random random = new Random(3);
+        List<Integer> reference = new ArrayList<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            int index = reference.isEmpty() ? 0 : random.nextInt(reference.size());
+
+            switch (random.nextInt(6)) {
+                case 0:
+                    unrolledList.addEngine(i);
+                    reference.add(0, i);
+                    break;
+                case 1:
+                    unrolledList.addCaboose(i);
+                    reference.add(i);
+                    break;
+                case 2:
+                    if (!reference.isEmpty()) {
+                        unrolledList.removeHeadNode();
+                        reference.remove(0);
+                    }
+                    break;
+                case 3:
+                    if (!reference.isEmpty()) {
+                        unrolledList.removeTailNode();
+                        reference.remove(reference.size() - 1);
+                    }
+                    break;
+                case 4:
+                    if (!reference.isEmpty()) {
+                        unrolledList.removeNodeAtIndex(index);
+                        reference.remove(index);
+                    }
+                    break;
+                default:
+                    unrolledList.addNodeAtIndex(i, index);
+                    reference.add(index, i);
+                    break;
+            }
+        }
+
+        assertThat(unrolledList.getNodeCount()).isEqualTo(reference.size());
+        for (int i = 0; i < reference.size(); i++) {
+            assertThat(unrolledList.getDataAtIndex(i)).isEqualTo(reference.get(i));
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValueIndexTest {
+
+    private final DoublyLinkedList doublyLinkedList = DoublyLinkedList.valueIndexed();
+
+    @Test
+    void contains_shouldFollowAddsAndRemoves() {
+        doublyLinkedList.addAll("a", "b", "c");
+        doublyLinkedList.removeHeadNode();
+        doublyLinkedList.addEngine("d");
+        doublyLinkedList.removeNodeAtIndex(1);
+
+        assertThat(doublyLinkedList.contains("a")).isFalse();
+        assertThat(doublyLinkedList.contains("b")).isFalse();
+        assertThat(doublyLinkedList.contains("c")).isTrue();
+        assertThat(doublyLinkedList.contains("d")).isTrue();
+        assertThat(doublyLinkedList.contains(null)).isFalse();
+        assertThat(doublyLinkedList.valueIndex().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+    }
+
+    @Test
+    void remove_shouldRemoveFirstOccurrence_givenDuplicates() {
+        doublyLinkedList.addAll("a", "b", "a", "c", "a");
+
+        assertThat(doublyLinkedList.remove("a")).isTrue();
+        assertThat(doublyLinkedList).containsExactly("b", "a", "c", "a");
+
+        assertThat(doublyLinkedList.remove("a")).isTrue();
+        assertThat(doublyLinkedList).containsExactly("b", "c", "a");
+        assertThat(doublyLinkedList.contains("a")).isTrue();
+
+        assertThat(doublyLinkedList.remove("a")).isTrue();
+        assertThat(doublyLinkedList.remove("a")).isFalse();
+        assertThat(doublyLinkedList).containsExactly("b", "c");
+        assertThat(doublyLinkedList.valueIndex().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+    }
+
+    @Test
+    void remove_shouldKeepPositionsValid_givenMiddleNode() {
+        doublyLinkedList.addAll("a", "b", "c", "d");
+        assertThat(doublyLinkedList.get(2)).isEqualTo("c");
+
+        doublyLinkedList.remove("b");
+
+        assertThat(doublyLinkedList.get(1)).isEqualTo("c");
+        assertThat(doublyLinkedList.get(2)).isEqualTo("d");
+        assertThat(doublyLinkedList.getNodeCount()).isEqualTo(3);
+        assertThat(doublyLinkedList.hashCode()).isEqualTo(Arrays.asList("a", "c", "d").hashCode());
+    }
+
+    @Test
+    void moveToHead_shouldKeepNode() {
+        doublyLinkedList.addAll("a", "b", "c");
+        Node node = doublyLinkedList.getNodeAtIndex(1);
+
+        assertThat(doublyLinkedList.moveToHead("b")).isTrue();
+
+        assertThat(doublyLinkedList.getHead()).isSameAs(node);
+        assertThat(doublyLinkedList).containsExactly("b", "a", "c");
+        assertThat(doublyLinkedList.valueIndex().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+    }
+
+    @Test
+    void insertAfter_shouldIndexNewValue() {
+        doublyLinkedList.addAll("a", "c");
+
+        assertThat(doublyLinkedList.insertAfter("a", "b")).isTrue();
+        assertThat(doublyLinkedList.insertAfter("x", "y")).isFalse();
+
+        assertThat(doublyLinkedList).containsExactly("a", "b", "c");
+        assertThat(doublyLinkedList.contains("b")).isTrue();
+        assertThat(doublyLinkedList.valueIndex().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+    }
+
+    @Test
+    void set_shouldReindexReplacedValue() {
+        doublyLinkedList.addAll("a", "b");
+        ListIterator<Object> iterator = doublyLinkedList.listIterator();
+        iterator.next();
+        iterator.set("z");
+        doublyLinkedList.set(1, "y");
+
+        assertThat(doublyLinkedList.contains("a")).isFalse();
+        assertThat(doublyLinkedList.contains("b")).isFalse();
+        assertThat(doublyLinkedList.contains("z")).isTrue();
+        assertThat(doublyLinkedList.contains("y")).isTrue();
+        assertThat(doublyLinkedList.valueIndex().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+    }
+
+    @Test
+    void spliceAndSplit_shouldMoveIndexedNodesBetweenLists() {
+        doublyLinkedList.addAll("a", "b", "c");
+        DoublyLinkedList other = DoublyLinkedList.valueIndexed();
+        other.addAll("x", "y");
+
+        doublyLinkedList.splice(other, doublyLinkedList.getNodeAtIndex(1));
+        assertThat(doublyLinkedList.contains("x")).isTrue();
+        assertThat(other.contains("x")).isFalse();
+
+        DoublyLinkedList suffix = doublyLinkedList.split(2);
+
+        assertThat(doublyLinkedList).containsExactly("a", "x");
+        assertThat(doublyLinkedList.contains("y")).isFalse();
+        assertThat(suffix.contains("y")).isTrue();
+        assertThat(suffix.remove("c")).isTrue();
+        assertThat(suffix).containsExactly("y", "b");
+        assertThat(doublyLinkedList.valueIndex().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+        assertThat(suffix.valueIndex().isConsistentWith(suffix.getHead())).isTrue();
+    }
+
+    @Test
+    void clear_shouldEmptyIndex() {
+        doublyLinkedList.addAll("a", "b");
+
+        doublyLinkedList.clear();
+
+        assertThat(doublyLinkedList.contains("a")).isFalse();
+        assertThat(doublyLinkedList.valueIndex().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+    }
+
+    @Test
+    void randomOperations_shouldMatchArrayList() {
+        Random random = new Random(7);
+        List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            Integer value = random.nextInt(50);
+            switch (random.nextInt(5)) {
+                case 0:
+                    doublyLinkedList.addCaboose(value);
+                    expected.add(value);
+                    break;
+                case 1:
+                    doublyLinkedList.addEngine(value);
+                    expected.add(0, value);
+                    break;
+                case 2:
+                    assertThat(doublyLinkedList.remove(value)).isEqualTo(expected.remove(value));
+                    break;
+                case 3:
+                    if (doublyLinkedList.moveToHead(value)) {
+                        expected.remove(value);
+                        expected.add(0, value);
+                    }
+                    break;
+                default:
+                    int at = expected.indexOf(value);
+                    assertThat(doublyLinkedList.insertAfter(value, -1)).isEqualTo(at >= 0);
+                    if (at >= 0) {
+                        expected.add(at + 1, -1);
+                    }
+                    break;
+            }
+        }
+
+        assertThat(doublyLinkedList).containsExactlyElementsOf(expected);
+        assertThat(doublyLinkedList.valueIndex().isConsistentWith(doublyLinkedList.getHead())).isTrue();
+    }
+}